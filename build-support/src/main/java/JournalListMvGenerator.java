@@ -101,6 +101,19 @@ public class JournalListMvGenerator {
                     fullToAbbreviation.putAll(abbreviationMap);
                 }
             }));
+
+            // Reverse maps, so that JournalAbbreviationRepository can look up abbreviations directly in the store.
+            // Iterating in key order, a later full name wins for an ambiguous abbreviation.
+            MVMap<String, String> abbreviationToFull = store.openMap("AbbreviationToFull");
+            MVMap<String, String> dotlessToFull = store.openMap("DotlessToFull");
+            MVMap<String, String> shortestUniqueToFull = store.openMap("ShortestUniqueToFull");
+            fullToAbbreviation.forEach((name, storedAbbreviation) -> {
+                // The name is not serialized, thus the abbreviation is completed by its key
+                Abbreviation abbreviation = new Abbreviation(name, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
+                abbreviationToFull.put(abbreviation.getAbbreviation(), name);
+                dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+                shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), name);
+            });
         }
 
         LOGGER.info("Generated journal list at {}", journalListMvFile.toAbsolutePath());
@@ -15,9 +15,11 @@ import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.preferences.JabRefGuiPreferences;
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.citationstyle.CSLStyleLoader;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.net.ssl.SSLPreferences;
 import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.preferences.CliPreferences;
@@ -80,6 +82,7 @@ public class Launcher {
 
             configureProxy(preferences.getProxyPreferences());
             configureSSL(preferences.getSSLPreferences());
+            configureHttpCache();
         }
 
         List<UiCommand> uiCommands = argumentProcessor.processArguments();
@@ -89,7 +92,7 @@ public class Launcher {
 
         PreferencesMigrations.runMigrations(preferences);
 
-        PostgreServer postgreServer = new PostgreServer();
+        PostgreServer postgreServer = new PostgreServer(Directories.getBibFieldsIndexDirectory());
         Injector.setModelOrService(PostgreServer.class, postgreServer);
 
         CSLStyleLoader.loadInternalStyles();
@@ -193,4 +196,11 @@ public class Launcher {
     private static void configureSSL(SSLPreferences sslPreferences) {
         TrustStoreManager.createTruststoreFileIfNotExist(Path.of(sslPreferences.getTruststorePath()));
     }
+
+    private static void configureHttpCache() {
+        URLDownload.setResponseCache(new HttpResponseCache(
+                Directories.getHttpCacheDirectory(),
+                HttpResponseCache.DEFAULT_MAX_SIZE,
+                HttpResponseCache.DEFAULT_HEURISTIC_TIME_TO_LIVE));
+    }
 }
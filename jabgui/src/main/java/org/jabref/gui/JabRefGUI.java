@@ -531,6 +531,10 @@ public class JabRefGUI extends Application {
             HeadlessExecutorService.gracefullyShutdown("HeadlessExecutorService", executor, 30);
         }
 
+        // Closed last, because the services shut down above may still look up abbreviations
+        LOGGER.trace("Closing journal abbreviation repository");
+        Injector.instantiateModelOrService(JournalAbbreviationRepository.class).close();
+
         LOGGER.trace("Finished stop");
 
         // Just to be sure that we do not leave any threads running
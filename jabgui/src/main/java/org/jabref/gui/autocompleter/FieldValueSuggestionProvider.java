@@ -1,10 +1,14 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
+import org.controlsfx.control.textfield.AutoCompletionBinding;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -12,16 +16,19 @@ import org.jspecify.annotations.NonNull;
  */
 class FieldValueSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     FieldValueSuggestionProvider(@NonNull Field field, @NonNull BibDatabase database) {
-        this.field = field;
-        this.database = database;
+        this.index = new SuggestionIndex<>(database, List.of(field), List::of, Function.identity(), getEquivalence(), getComparator());
+    }
+
+    @Override
+    protected Collection<String> findSuggestions(AutoCompletionBinding.ISuggestionRequest request) {
+        return index.find(request.getUserText(), MAX_SUGGESTIONS);
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries().parallelStream().flatMap(entry -> entry.getField(field).stream());
+        return index.getSuggestions();
     }
 }
@@ -1,5 +1,8 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -7,6 +10,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
 import com.google.common.collect.Streams;
+import org.controlsfx.control.textfield.AutoCompletionBinding;
 
 public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
 
@@ -18,6 +22,25 @@ public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
         this.repository = repository;
     }
 
+    /**
+     * The names used in the library come first. The list of journals is only searched if they do not fill the
+     * suggestions.
+     */
+    @Override
+    protected Collection<String> findSuggestions(AutoCompletionBinding.ISuggestionRequest request) {
+        List<String> suggestions = new ArrayList<>(super.findSuggestions(request));
+        if (suggestions.size() < MAX_SUGGESTIONS) {
+            List<String> journalNames = repository.getFullNames().stream()
+                                                  .filter(name -> isMatch(name, request))
+                                                  .filter(name -> !suggestions.contains(name))
+                                                  .limit(MAX_SUGGESTIONS - suggestions.size())
+                                                  .sorted(getComparator())
+                                                  .toList();
+            suggestions.addAll(journalNames);
+        }
+        return suggestions;
+    }
+
     @Override
     public Stream<String> getSource() {
         return Streams.concat(super.getSource(), repository.getFullNames().stream());
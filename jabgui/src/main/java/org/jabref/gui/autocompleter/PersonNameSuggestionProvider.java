@@ -23,7 +23,7 @@ import org.jspecify.annotations.NonNull;
 public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     private final Collection<Field> fields;
-    private final BibDatabase database;
+    private final SuggestionIndex<Author> index;
 
     PersonNameSuggestionProvider(@NonNull Field field, BibDatabase database) {
         this(List.of(field), database);
@@ -33,7 +33,13 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         super();
 
         this.fields = fields;
-        this.database = database;
+        this.index = new SuggestionIndex<>(
+                database,
+                fields,
+                value -> AuthorList.parse(value).getAuthors(),
+                author -> author.getFamilyGiven(false),
+                getEquivalence(),
+                getComparator());
     }
 
     public Stream<Author> getAuthors(BibEntry entry) {
@@ -61,10 +67,13 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         return StringUtil.containsIgnoreCase(candidate.getFamilyGiven(false), request.getUserText());
     }
 
+    @Override
+    protected Collection<Author> findSuggestions(AutoCompletionBinding.ISuggestionRequest request) {
+        return index.find(request.getUserText(), MAX_SUGGESTIONS);
+    }
+
     @Override
     public Stream<Author> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(this::getAuthors);
+        return index.getSuggestions();
     }
 }
@@ -0,0 +1,330 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.base.Equivalence;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the suggestions taken from some fields of all entries of a database. Each suggestion is stored once together
+ * with the number of its occurrences, which is used for ranking.
+ * <p>
+ * The suggestions are sorted by the beginnings of the words of their text, thus a query for the beginning of a word
+ * does not need to look at the other suggestions. Only if this yields too few results, all suggestions containing the
+ * query are searched.
+ * <p>
+ * The index is built on first use. Afterwards, it is kept current by listening to the events of the database. The
+ * values of an entry may change while the index is built, and the event of such a change may be processed afterward.
+ * Thus, the index remembers the values it took from each entry and replaces them by the current values of the entry
+ * when a change is reported, instead of relying on the old value stated by the event.
+ */
+class SuggestionIndex<T> {
+
+    /**
+     * The keys of the sorted map are cut to this length to save memory. Longer queries have to be checked against the
+     * whole text of the suggestion.
+     */
+    private static final int MAX_KEY_LENGTH = 16;
+
+    private final BibDatabase database;
+    private final Collection<Field> fields;
+    private final Function<String, Collection<T>> parser;
+    private final Function<T, String> textOf;
+    private final Equivalence<T> equivalence;
+    private final Comparator<T> comparator;
+
+    private final Map<T, Suggestion> suggestions = new HashMap<>();
+    private final NavigableMap<String, Set<Suggestion>> suggestionsByWordStart = new TreeMap<>();
+
+    /**
+     * The indexed values of the fields of each entry of the database
+     */
+    private final Map<BibEntry, Map<Field, String>> indexedValues = new IdentityHashMap<>();
+
+    private volatile boolean built;
+
+    /**
+     * @param parser      extracts the suggestions from a field value
+     * @param textOf      the text a query is matched against
+     * @param equivalence suggestions equivalent to each other are offered only once
+     * @param comparator  orders suggestions occurring equally often
+     */
+    SuggestionIndex(BibDatabase database,
+                    Collection<Field> fields,
+                    Function<String, Collection<T>> parser,
+                    Function<T, String> textOf,
+                    Equivalence<T> equivalence,
+                    Comparator<T> comparator) {
+        this.database = database;
+        this.fields = fields;
+        this.parser = parser;
+        this.textOf = textOf;
+        this.equivalence = equivalence;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the suggestions whose text contains the given query (ignoring case). Suggestions containing a word
+     * starting with the query come first. Within these two groups, more frequent suggestions come first.
+     */
+    List<T> find(String query, int limit) {
+        build();
+        synchronized (this) {
+            return findBuilt(query, limit);
+        }
+    }
+
+    private List<T> findBuilt(String query, int limit) {
+        String normalizedQuery = normalize(query);
+        String key = normalizedQuery.length() > MAX_KEY_LENGTH ? normalizedQuery.substring(0, MAX_KEY_LENGTH) : normalizedQuery;
+
+        Set<Suggestion> wordStartMatches = new HashSet<>();
+        for (Map.Entry<String, Set<Suggestion>> entry : suggestionsByWordStart.tailMap(key, true).entrySet()) {
+            if (!entry.getKey().startsWith(key)) {
+                break;
+            }
+            for (Suggestion suggestion : entry.getValue()) {
+                if ((normalizedQuery.length() <= MAX_KEY_LENGTH) || suggestion.normalizedText.contains(normalizedQuery)) {
+                    wordStartMatches.add(suggestion);
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<>(rank(wordStartMatches, limit));
+        if (result.size() < limit) {
+            Set<Equivalence.Wrapper<T>> found = new HashSet<>();
+            result.forEach(value -> found.add(equivalence.wrap(value)));
+            List<Suggestion> otherMatches = suggestions.values().stream()
+                                                       .filter(suggestion -> suggestion.normalizedText.contains(normalizedQuery))
+                                                       .filter(suggestion -> !wordStartMatches.contains(suggestion))
+                                                       .filter(suggestion -> !found.contains(equivalence.wrap(suggestion.value)))
+                                                       .toList();
+            result.addAll(rank(otherMatches, limit - result.size()));
+        }
+        return result;
+    }
+
+    /**
+     * @return all suggestions, each one once
+     */
+    Stream<T> getSuggestions() {
+        build();
+        synchronized (this) {
+            return List.copyOf(suggestions.keySet()).stream();
+        }
+    }
+
+    /**
+     * Merges equivalent suggestions and returns the most frequent ones
+     */
+    private List<T> rank(Collection<Suggestion> matches, int limit) {
+        Map<Equivalence.Wrapper<T>, Group> groups = new HashMap<>();
+        for (Suggestion suggestion : matches) {
+            Equivalence.Wrapper<T> key = equivalence.wrap(suggestion.value);
+            Group group = groups.get(key);
+            if (group == null) {
+                groups.put(key, new Group(suggestion));
+            } else {
+                group.add(suggestion);
+            }
+        }
+
+        // Keeps the best groups seen so far, the worst one at the head
+        Comparator<Group> byRank = Comparator.<Group>comparingInt(group -> group.count)
+                                             .thenComparing(group -> group.mostFrequent.value, comparator.reversed());
+        PriorityQueue<Group> best = new PriorityQueue<>(byRank);
+        for (Group group : groups.values()) {
+            best.add(group);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<T> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            result.add(best.poll().mostFrequent.value);
+        }
+        return result.reversed();
+    }
+
+    private void build() {
+        if (built) {
+            return;
+        }
+        // Entries are inserted and removed while holding the lock of the database, which then informs the listeners.
+        // Thus, the lock of the database has to be acquired first.
+        synchronized (database) {
+            synchronized (this) {
+                if (!built) {
+                    database.registerListener(this);
+                    database.getEntries().forEach(this::addEntry);
+                    built = true;
+                }
+            }
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::addEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::removeEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        Field field = event.getField();
+        // Removed entries still relay their changes
+        Map<Field, String> values = indexedValues.get(event.getBibEntry());
+        if (!fields.contains(field) || (values == null)) {
+            return;
+        }
+        String indexedValue = values.remove(field);
+        if (indexedValue != null) {
+            parser.apply(indexedValue).forEach(this::remove);
+        }
+        event.getBibEntry().getField(field).ifPresent(value -> {
+            values.put(field, value);
+            parser.apply(value).forEach(this::add);
+        });
+    }
+
+    private void addEntry(BibEntry entry) {
+        Map<Field, String> values = new HashMap<>();
+        fields.forEach(field -> entry.getField(field).ifPresent(value -> {
+            values.put(field, value);
+            parser.apply(value).forEach(this::add);
+        }));
+        indexedValues.put(entry, values);
+    }
+
+    private void removeEntry(BibEntry entry) {
+        Map<Field, String> values = indexedValues.remove(entry);
+        if (values != null) {
+            values.values().forEach(value -> parser.apply(value).forEach(this::remove));
+        }
+    }
+
+    private void add(T value) {
+        Suggestion suggestion = suggestions.get(value);
+        if (suggestion != null) {
+            suggestion.count++;
+            return;
+        }
+
+        suggestion = new Suggestion(value, normalize(textOf.apply(value)));
+        suggestions.put(value, suggestion);
+        for (String wordStart : getWordStarts(suggestion.normalizedText)) {
+            suggestionsByWordStart.computeIfAbsent(wordStart, _ -> new HashSet<>()).add(suggestion);
+        }
+    }
+
+    private void remove(T value) {
+        Suggestion suggestion = suggestions.get(value);
+        if (suggestion == null) {
+            return;
+        }
+        suggestion.count--;
+        if (suggestion.count > 0) {
+            return;
+        }
+
+        suggestions.remove(value);
+        for (String wordStart : getWordStarts(suggestion.normalizedText)) {
+            Set<Suggestion> withSameStart = suggestionsByWordStart.get(wordStart);
+            if (withSameStart != null) {
+                withSameStart.remove(suggestion);
+                if (withSameStart.isEmpty()) {
+                    suggestionsByWordStart.remove(wordStart);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the text from the beginning of each word to the end, cut to {@link #MAX_KEY_LENGTH}
+     */
+    private static Set<String> getWordStarts(String normalized) {
+        Set<String> wordStarts = new HashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            boolean isWordStart = (i == 0) || (Character.isLetterOrDigit(normalized.charAt(i)) && !Character.isLetterOrDigit(normalized.charAt(i - 1)));
+            if (isWordStart) {
+                wordStarts.add(normalized.substring(i, Math.min(normalized.length(), i + MAX_KEY_LENGTH)));
+            }
+        }
+        return wordStarts;
+    }
+
+    /**
+     * Normalizes each character such that a normalized text contains a normalized query if and only if the text contains
+     * the query ignoring case (see {@link String#regionMatches(boolean, int, String, int, int)})
+     */
+    static String normalize(String text) {
+        char[] characters = null;
+        for (int i = 0; i < text.length(); i++) {
+            char normalized = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+            if ((characters == null) && (normalized != text.charAt(i))) {
+                characters = text.toCharArray();
+            }
+            if (characters != null) {
+                characters[i] = normalized;
+            }
+        }
+        // Most texts are already normalized, they are not copied
+        return characters == null ? text : new String(characters);
+    }
+
+    private class Suggestion {
+        private final T value;
+        private final String normalizedText;
+        private int count = 1;
+
+        Suggestion(T value, String normalizedText) {
+            this.value = value;
+            this.normalizedText = normalizedText;
+        }
+    }
+
+    /**
+     * Equivalent suggestions, which are offered once
+     */
+    private class Group {
+        private Suggestion mostFrequent;
+        private int count;
+
+        Group(Suggestion suggestion) {
+            this.mostFrequent = suggestion;
+            this.count = suggestion.count;
+        }
+
+        void add(Suggestion suggestion) {
+            if (suggestion.count > mostFrequent.count) {
+                mostFrequent = suggestion;
+            }
+            count += suggestion.count;
+        }
+    }
+}
@@ -42,22 +42,32 @@ import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest
  */
 public abstract class SuggestionProvider<T> {
 
+    protected static final int MAX_SUGGESTIONS = 10;
+
     public final Collection<T> provideSuggestions(ISuggestionRequest request) {
         if (!request.getUserText().isEmpty()) {
-            Comparator<T> comparator = getComparator();
-            Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
-                              .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
-                              .distinct()
-                              .limit(10)
-                              .map(Equivalence.Wrapper::get)
-                              .sorted(comparator)
-                              .collect(Collectors.toList());
+            return findSuggestions(request);
         } else {
             return List.of();
         }
     }
 
+    /**
+     * Finds the suggestions for a request with non-empty user text. By default, all candidates of the source are
+     * checked.
+     */
+    protected Collection<T> findSuggestions(ISuggestionRequest request) {
+        Comparator<T> comparator = getComparator();
+        Equivalence<T> equivalence = getEquivalence();
+        return getSource().filter(candidate -> isMatch(candidate, request))
+                          .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
+                          .distinct()
+                          .limit(MAX_SUGGESTIONS)
+                          .map(Equivalence.Wrapper::get)
+                          .sorted(comparator)
+                          .collect(Collectors.toList());
+    }
+
     protected abstract Equivalence<T> getEquivalence();
 
     public List<T> getPossibleSuggestions() {
@@ -1,10 +1,16 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.strings.StringUtil;
 
+import org.controlsfx.control.textfield.AutoCompletionBinding;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -12,18 +18,20 @@ import org.jspecify.annotations.NonNull;
  */
 public class WordSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     public WordSuggestionProvider(@NonNull Field field, BibDatabase database) {
-        this.field = field;
-        this.database = database;
+        // Like BibEntry#getFieldAsWords, each word is counted once per entry
+        this.index = new SuggestionIndex<>(database, List.of(field), value -> new HashSet<>(StringUtil.getStringAsWords(value)), Function.identity(), getEquivalence(), getComparator());
+    }
+
+    @Override
+    protected Collection<String> findSuggestions(AutoCompletionBinding.ISuggestionRequest request) {
+        return index.find(request.getUserText(), MAX_SUGGESTIONS);
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(entry -> entry.getFieldAsWords(field).stream());
+        return index.getSuggestions();
     }
 }
@@ -28,6 +28,7 @@ import org.jabref.gui.undo.UndoableInsertEntries;
 import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateFinder;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
@@ -97,20 +98,15 @@ public class DuplicateSearch extends SimpleCommand {
     }
 
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; i < (entries.size() - 1); i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
-                }
+        new DuplicateFinder(new DuplicateCheck(entryTypesManager)).findDuplicates(entries, databaseMode, (first, second) -> {
+            // Called from several threads
+            synchronized (duplicates) {
+                duplicates.add(Arrays.asList(first, second));
+                duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
             }
+        });
+        if (Thread.currentThread().isInterrupted()) {
+            return;
         }
         libraryAnalyzed.set(true);
     }
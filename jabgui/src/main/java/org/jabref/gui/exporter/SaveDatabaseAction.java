@@ -216,6 +216,12 @@ public class SaveDatabaseAction {
     }
 
     private boolean save(Path targetPath, SaveDatabaseMode mode) {
+        if (mode == SaveDatabaseMode.SILENT && !libraryTab.isModified()) {
+            // Nothing changed since the last write (e.g., all changes were undone)
+            LOGGER.debug("Skipping autosave of unmodified library {}", targetPath);
+            return true;
+        }
+
         if (mode == SaveDatabaseMode.NORMAL && libraryTab.getBibDatabaseContext().getEntries().size() > 2_000) {
             dialogService.notify("%s...".formatted(Localization.lang("Saving library")));
         }
@@ -259,6 +265,8 @@ public class SaveDatabaseAction {
         // if this code is adapted, please also adapt org.jabref.logic.autosaveandbackup.BackupManager.performBackup
         SelfContainedSaveConfiguration saveConfiguration
                 = new SelfContainedSaveConfiguration(saveOrder, false, saveType, preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
+        // Later saves copy the serialization of the entries written now, unless they change again
+        saveConfiguration.withKeepSerializationOfChangedEntries(!selectedOnly);
         BibDatabaseContext bibDatabaseContext = libraryTab.getBibDatabaseContext();
         synchronized (bibDatabaseContext) {
             try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, encoding, saveConfiguration.shouldMakeBackup())) {
@@ -7,7 +7,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
-import java.util.stream.Stream;
 
 import org.jabref.gui.externalfiletype.ExternalFileType;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
@@ -15,6 +14,7 @@ import org.jabref.gui.externalfiletype.UnknownExternalFileType;
 import org.jabref.gui.frame.ExternalApplicationsPreferences;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.util.io.AutoLinkPreferences;
+import org.jabref.logic.util.io.FileDirectoryIndex;
 import org.jabref.logic.util.io.FileFinder;
 import org.jabref.logic.util.io.FileFinders;
 import org.jabref.logic.util.io.FileUtil;
@@ -136,7 +136,7 @@ public class AutoSetFileLinksUtil {
         return linkedFiles;
     }
 
-    private List<Path> findByBrokenLinkName(BibEntry entry) throws IOException {
+    private List<Path> findByBrokenLinkName(BibEntry entry) {
         List<Path> matches = new ArrayList<>();
 
         for (LinkedFile brokenLink : entry.getFiles()) {
@@ -147,12 +147,10 @@ public class AutoSetFileLinksUtil {
             String wantedBase = FileUtil.getBaseName(brokenLink.getLink());
 
             for (Path directory : directories) {
-                try (Stream<Path> walk = Files.walk(directory)) {
-                    walk.filter(path -> !Files.isDirectory(path))
-                        .filter(path -> FileUtil.getBaseName(path).equalsIgnoreCase(wantedBase))
-                        .findFirst()
-                        .ifPresent(matches::add);
-                }
+                FileDirectoryIndex index = FileDirectoryIndex.of(directory);
+                index.findFilesByBaseName(wantedBase).stream()
+                     .findFirst()
+                     .ifPresent(matches::add);
             }
         }
 
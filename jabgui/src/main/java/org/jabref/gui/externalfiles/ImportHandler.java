@@ -371,7 +371,7 @@ public class ImportHandler {
                                                                                .getKeyPatterns()),
                 bibDatabaseContext.getDatabase(),
                 preferences.getCitationKeyPatternPreferences());
-        entries.forEach(keyGenerator::generateAndSetKey);
+        keyGenerator.generateAndSetKeys(entries);
     }
 
     public List<BibEntry> handleBibTeXData(String entries) {
@@ -2,16 +2,11 @@ package org.jabref.gui.externalfiles;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.DirectoryStream;
 import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import javafx.scene.control.CheckBoxTreeItem;
 
@@ -20,6 +15,7 @@ import org.jabref.logic.FilePreferences;
 import org.jabref.logic.externalfiles.DateRange;
 import org.jabref.logic.externalfiles.ExternalFileSorter;
 import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.io.FileDirectoryIndex;
 import org.jabref.model.database.BibDatabaseContext;
 
 import org.slf4j.Logger;
@@ -82,25 +78,36 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
         if ((directory == null) || !Files.isDirectory(directory)) {
             throw new IOException("Invalid directory for searching: %s".formatted(directory));
         }
+        return searchDirectory(directory, unlinkedPDFFileFilter, FileDirectoryIndex.of(directory));
+    }
 
+    /**
+     * Lists the directories using the given index instead of reading them from the file system
+     */
+    private FileNodeViewModel searchDirectory(Path directory, UnlinkedPDFFileFilter unlinkedPDFFileFilter, FileDirectoryIndex index) {
         FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
 
-        // Map from isDirectory (true/false) to full path
         // Result: Contains only files not matching the filter (i.e., PDFs not linked and files not ignored)
         // Filters:
         //   1. UnlinkedPDFFileFilter
         //   2. GitIgnoreFilter
         ChainedFilters filters = new ChainedFilters(List.of(unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory)));
-        Map<Boolean, List<Path>> directoryAndFilePartition;
-        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(directory, filters);
-             Stream<Path> filesStream = StreamSupport.stream(dirStream.spliterator(), false)) {
-            directoryAndFilePartition = filesStream.collect(Collectors.partitioningBy(Files::isDirectory));
+        List<Path> subDirectories = new ArrayList<>();
+        List<Path> files = new ArrayList<>();
+        try {
+            for (Path path : index.getChildren(directory)) {
+                if (filters.accept(path)) {
+                    if (index.isDirectory(path)) {
+                        subDirectories.add(path);
+                    } else {
+                        files.add(path);
+                    }
+                }
+            }
         } catch (IOException e) {
             LOGGER.error("Error while searching files", e);
             return fileNodeViewModelForCurrentDirectory;
         }
-        List<Path> subDirectories = directoryAndFilePartition.get(true);
-        List<Path> files = directoryAndFilePartition.get(false);
 
         // at this point, only unlinked PDFs AND unignored files are contained
 
@@ -109,7 +116,7 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
 
         // now we crawl into the found subdirectories first (!)
         for (Path subDirectory : subDirectories) {
-            FileNodeViewModel subRoot = searchDirectory(subDirectory, unlinkedPDFFileFilter);
+            FileNodeViewModel subRoot = searchDirectory(subDirectory, unlinkedPDFFileFilter, index);
             if (!subRoot.getChildren().isEmpty()) {
                 fileCountOfSubdirectories += subRoot.getFileCount();
                 fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
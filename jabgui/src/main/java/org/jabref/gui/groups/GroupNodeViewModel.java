@@ -2,6 +2,7 @@ package org.jabref.gui.groups;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.beans.InvalidationListener;
@@ -585,8 +586,9 @@ public class GroupNodeViewModel {
         public void listen(IndexAddedOrUpdatedEvent event) {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
                 stateManager.getIndexManager(databaseContext).ifPresent(indexManager -> BackgroundTask.wrap(() -> {
+                    Set<String> matches = indexManager.getMatchedEntries(event.entries(), searchGroup.getSearchQuery());
                     for (BibEntry entry : event.entries()) {
-                        searchGroup.updateMatches(entry, indexManager.isEntryMatched(entry, searchGroup.getSearchQuery()));
+                        searchGroup.updateMatches(entry, matches.contains(entry.getId()));
                     }
                 }).onFinished(() -> {
                     for (BibEntry entry : event.entries()) {
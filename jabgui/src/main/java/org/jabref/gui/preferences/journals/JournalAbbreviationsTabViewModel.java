@@ -339,9 +339,14 @@ public class JournalAbbreviationsTabViewModel implements PreferenceTabViewModel
                         shouldWriteLists = false;
                     }
                 })
-                .onSuccess(success -> Injector.setModelOrService(
-                        JournalAbbreviationRepository.class,
-                        JournalAbbreviationLoader.loadRepository(abbreviationsPreferences)))
+                .onSuccess(success -> {
+                    JournalAbbreviationRepository previousRepository = Injector.instantiateModelOrService(JournalAbbreviationRepository.class);
+                    Injector.setModelOrService(
+                            JournalAbbreviationRepository.class,
+                            JournalAbbreviationLoader.loadRepository(abbreviationsPreferences));
+                    // The new repository shares the built-in list with the previous one, thus users of the previous one keep working
+                    previousRepository.close();
+                })
                 .onFailure(exception -> LOGGER.error("Failed to store journal preferences.", exception))
                 .executeWith(taskExecutor);
     }
@@ -175,4 +175,51 @@ class FieldValueSuggestionProviderTest {
         Collection<String> result = autoCompleter.provideSuggestions(getRequest("te"));
         assertEquals(List.of("test value"), result);
     }
+
+    @Test
+    void completeRanksFrequentValuesFirst() {
+        database.insertEntries(
+                new BibEntry().withField(StandardField.TITLE, "test value"),
+                new BibEntry().withField(StandardField.TITLE, "test other"),
+                new BibEntry().withField(StandardField.TITLE, "test other"));
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("test"));
+        assertEquals(List.of("test other", "test value"), result);
+    }
+
+    @Test
+    void completeRanksWordStartsBeforeOtherMatches() {
+        database.insertEntries(
+                new BibEntry().withField(StandardField.TITLE, "contest"),
+                new BibEntry().withField(StandardField.TITLE, "contest"),
+                new BibEntry().withField(StandardField.TITLE, "value test"));
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("test"));
+        assertEquals(List.of("value test", "contest"), result);
+    }
+
+    @Test
+    void completeReturnsChangedValue() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "testValue");
+        database.insertEntry(entry);
+        autoCompleter.provideSuggestions(getRequest("test"));
+
+        entry.setField(StandardField.TITLE, "testChanged");
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("test"));
+        assertEquals(List.of("testChanged"), result);
+    }
+
+    @Test
+    void completeDoesNotReturnValueOfRemovedEntry() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "testValue");
+        database.insertEntry(entry);
+        autoCompleter.provideSuggestions(getRequest("test"));
+
+        database.removeEntry(entry);
+        entry.setField(StandardField.TITLE, "testChanged");
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("test"));
+        assertEquals(List.of(), result);
+    }
 }
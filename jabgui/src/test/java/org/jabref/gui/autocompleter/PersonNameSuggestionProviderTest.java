@@ -181,4 +181,15 @@ class PersonNameSuggestionProviderTest {
         Collection<Author> result = autoCompleter.provideSuggestions(getRequest("Kostakos, Va"));
         assertEquals(List.of(vassilisKostakos), result);
     }
+
+    @Test
+    void completeReturnsAddedAuthor() {
+        database.insertEntry(entry);
+        autoCompleter.provideSuggestions(getRequest("Kos"));
+
+        entry.setField(StandardField.AUTHOR, "Vassilis Kostakos and Kosta");
+
+        Collection<Author> result = autoCompleter.provideSuggestions(getRequest("Kos"));
+        assertEquals(List.of(new Author("", "", "", "Kosta", ""), vassilisKostakos), result);
+    }
 }
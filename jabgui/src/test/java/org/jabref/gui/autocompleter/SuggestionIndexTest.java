@@ -0,0 +1,66 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.base.Equivalence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionIndexTest {
+
+    private BibDatabase database;
+    private SuggestionIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        index = new SuggestionIndex<>(database, List.of(StandardField.TITLE), List::of, Function.identity(), Equivalence.equals(), Comparator.naturalOrder());
+    }
+
+    @Test
+    void changeIsReflected() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Old");
+        database.insertEntry(entry);
+        index.find("", 10);
+
+        entry.setField(StandardField.TITLE, "New");
+
+        assertEquals(List.of("New"), index.find("", 10));
+    }
+
+    @Test
+    void changeSeenWhileBuildingIsNotAppliedTwice() {
+        BibEntry other = new BibEntry().withField(StandardField.TITLE, "Old");
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Old");
+        database.insertEntries(other, entry);
+        entry.setField(StandardField.TITLE, "New");
+        index.find("", 10);
+
+        // The event of the change made before building is processed afterward
+        index.listen(new FieldChangedEvent(entry, StandardField.TITLE, "New", "Old"));
+
+        assertEquals(List.of("New", "Old"), index.find("", 10));
+        assertEquals(List.of("Old"), index.find("Old", 10));
+    }
+
+    @Test
+    void changeOfRemovedEntryIsIgnored() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Old");
+        database.insertEntry(entry);
+        index.find("", 10);
+        database.removeEntry(entry);
+
+        entry.setField(StandardField.TITLE, "New");
+
+        assertEquals(List.of(), index.find("", 10));
+    }
+}
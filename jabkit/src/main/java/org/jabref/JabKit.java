@@ -20,9 +20,11 @@ import org.jabref.logic.importer.WebFetchers;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.net.ssl.SSLPreferences;
 import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.preferences.CliPreferences;
@@ -88,15 +90,19 @@ public class JabKit {
             }
 
             // Heavy initialization only needed when actually executing a command
-            Injector.setModelOrService(JournalAbbreviationRepository.class, JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences()));
-            Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences()));
+            int result;
+            try (JournalAbbreviationRepository journalAbbreviationRepository = JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences())) {
+                Injector.setModelOrService(JournalAbbreviationRepository.class, journalAbbreviationRepository);
+                Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences()));
 
-            configureProxy(preferences.getProxyPreferences());
-            configureSSL(preferences.getSSLPreferences());
+                configureProxy(preferences.getProxyPreferences());
+                configureSSL(preferences.getSSLPreferences());
+                configureHttpCache();
 
-            Injector.setModelOrService(FileUpdateMonitor.class, new DummyFileUpdateMonitor());
+                Injector.setModelOrService(FileUpdateMonitor.class, new DummyFileUpdateMonitor());
 
-            int result = commandLine.execute(args);
+                result = commandLine.execute(args);
+            }
             System.exit(result);
         } catch (Exception ex) {
             LOGGER.error("Unexpected exception", ex);
@@ -189,4 +195,11 @@ public class JabKit {
     private static void configureSSL(SSLPreferences sslPreferences) {
         TrustStoreManager.createTruststoreFileIfNotExist(Path.of(sslPreferences.getTruststorePath()));
     }
+
+    private static void configureHttpCache() {
+        URLDownload.setResponseCache(new HttpResponseCache(
+                Directories.getHttpCacheDirectory(),
+                HttpResponseCache.DEFAULT_MAX_SIZE,
+                HttpResponseCache.DEFAULT_HEURISTIC_TIME_TO_LIVE));
+    }
 }
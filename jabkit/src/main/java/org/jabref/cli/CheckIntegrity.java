@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.Callable;
-import java.util.stream.Collectors;
 
 import org.jabref.cli.converter.CygWinPathConverter;
 import org.jabref.logic.importer.ParserResult;
@@ -19,6 +18,7 @@ import org.jabref.logic.integrity.IntegrityCheckResultTxtWriter;
 import org.jabref.logic.integrity.IntegrityCheckResultWriter;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 
@@ -52,6 +52,9 @@ class CheckIntegrity implements Callable<Integer> {
     @Option(names = {"--allow-integer-edition"}, description = "Allows Integer edition", negatable = true, defaultValue = "true", fallbackValue = "true")
     private boolean allowIntegerEdition;
 
+    @Option(names = {"--checker-timings"}, description = "Print the time spent in each checker to stderr")
+    private boolean printCheckerTimings;
+
     @Override
     public Integer call() {
         Optional<ParserResult> parserResult = ArgumentProcessor.importFile(
@@ -76,19 +79,24 @@ class CheckIntegrity implements Callable<Integer> {
 
         BibDatabaseContext databaseContext = parserResult.get().getDatabaseContext();
 
-        IntegrityCheck integrityCheck = new IntegrityCheck(
-                databaseContext,
-                argumentProcessor.cliPreferences.getFilePreferences(),
-                argumentProcessor.cliPreferences.getCitationKeyPatternPreferences(),
-                JournalAbbreviationLoader.loadRepository(argumentProcessor.cliPreferences.getJournalAbbreviationPreferences()),
-                allowIntegerEdition
-        );
-
-        List<IntegrityMessage> messages = databaseContext.getEntries().stream()
-                                                         .flatMap(entry -> integrityCheck.checkEntry(entry).stream())
-                                                         .collect(Collectors.toList());
+        IntegrityCheck integrityCheck;
+        List<IntegrityMessage> messages;
+        try (JournalAbbreviationRepository abbreviationRepository = JournalAbbreviationLoader.loadRepository(argumentProcessor.cliPreferences.getJournalAbbreviationPreferences())) {
+            integrityCheck = new IntegrityCheck(
+                    databaseContext,
+                    argumentProcessor.cliPreferences.getFilePreferences(),
+                    argumentProcessor.cliPreferences.getCitationKeyPatternPreferences(),
+                    abbreviationRepository,
+                    allowIntegerEdition
+            );
+            messages = integrityCheck.checkInParallel();
+        }
 
-        messages.addAll(integrityCheck.checkDatabase(databaseContext.getDatabase()));
+        if (printCheckerTimings) {
+            System.err.println(Localization.lang("Time spent per integrity checker:"));
+            integrityCheck.getCheckerTimings().forEach((checker, duration) ->
+                    System.err.printf("%8d ms  %s%n", duration.toMillis(), checker));
+        }
 
         Writer writer = new OutputStreamWriter(System.out);
         IntegrityCheckResultWriter checkResultWriter;
@@ -62,9 +62,7 @@ public class GenerateCitationKeys implements Runnable {
         CitationKeyGenerator keyGenerator = new CitationKeyGenerator(
                 databaseContext,
                 argumentProcessor.cliPreferences.getCitationKeyPatternPreferences());
-        for (BibEntry entry : databaseContext.getEntries()) {
-            keyGenerator.generateAndSetKey(entry);
-        }
+        keyGenerator.generateAndSetKeys(databaseContext.getEntries());
 
         if (outputFile != null) {
             ArgumentProcessor.saveDatabase(
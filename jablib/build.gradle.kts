@@ -452,6 +452,9 @@ jmh {
     iterations = 10
     fork = 2
     zip64  = true
+    // Machine-readable results to compare runs, e.g., before and after a dependency upgrade
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
 }
 
 val testSourceSet = sourceSets["test"]
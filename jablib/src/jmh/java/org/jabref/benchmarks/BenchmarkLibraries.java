@@ -0,0 +1,107 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.EntryType;
+import org.jabref.model.entry.types.StandardEntryType;
+
+/**
+ * Creates synthetic, but realistically shaped libraries for the benchmarks.
+ * <p>
+ * The generated content is deterministic for a given size, so that results of different runs can be compared.
+ * About two percent of the entries are near-duplicates of other entries to give the duplicate detection something to find.
+ */
+public final class BenchmarkLibraries {
+
+    private static final long SEED = 42;
+
+    private static final List<String> FIRST_NAMES = List.of(
+            "Anna", "Bernd", "Carla", "David", "Emma", "Felix", "Greta", "Hugo", "Ines", "Jonas",
+            "Karin", "Lukas", "Maria", "Nils", "Olga", "Paul", "Rita", "Stefan", "Tina", "Uwe");
+    private static final List<String> LAST_NAMES = List.of(
+            "Müller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer", "Wagner", "Becker", "Schulz", "Hoffmann",
+            "Koch", "Richter", "Klein", "Wolf", "Schröder", "Neumann", "Schwarz", "Zimmermann", "Braun", "Kr{\\\"u}ger");
+    private static final List<String> TITLE_WORDS = List.of(
+            "analysis", "approach", "bibliographic", "citation", "data", "deep", "distributed", "efficient", "empirical",
+            "evaluation", "framework", "graph", "learning", "library", "management", "model", "network", "novel",
+            "optimization", "parallel", "reference", "retrieval", "scalable", "search", "semantic", "software",
+            "study", "survey", "system", "towards");
+    private static final List<String> JOURNALS = List.of(
+            "Physical Review Letters", "Nature", "Science", "IEEE Transactions on Software Engineering",
+            "Journal of the American Chemical Society", "Communications of the ACM", "ACM Computing Surveys",
+            "Information Processing Letters", "Journal of Documentation", "Scientometrics");
+    private static final List<String> KEYWORDS = List.of(
+            "bibliometrics", "databases", "information retrieval", "machine learning", "open source",
+            "performance", "reproducibility", "software engineering", "text mining", "visualization");
+    private static final List<EntryType> ENTRY_TYPES = List.of(
+            StandardEntryType.Article, StandardEntryType.Article, StandardEntryType.Article,
+            StandardEntryType.InProceedings, StandardEntryType.InProceedings, StandardEntryType.Book);
+
+    private BenchmarkLibraries() {
+    }
+
+    public static BibDatabase createDatabase(int numberOfEntries) {
+        return new BibDatabase(createEntries(numberOfEntries));
+    }
+
+    public static List<BibEntry> createEntries(int numberOfEntries) {
+        Random random = new Random(SEED);
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            if ((i > 0) && (random.nextInt(50) == 0)) {
+                entries.add(createNearDuplicate(entries.get(random.nextInt(i)), i));
+            } else {
+                entries.add(createEntry(random, i));
+            }
+        }
+        return entries;
+    }
+
+    private static BibEntry createEntry(Random random, int number) {
+        String year = String.valueOf(1950 + random.nextInt(76));
+        String title = IntStream.range(0, 4 + random.nextInt(8))
+                                .mapToObj(_ -> pick(random, TITLE_WORDS))
+                                .collect(Collectors.joining(" "));
+        String authors = IntStream.range(0, 1 + random.nextInt(4))
+                                  .mapToObj(_ -> pick(random, LAST_NAMES) + ", " + pick(random, FIRST_NAMES))
+                                  .collect(Collectors.joining(" and "));
+
+        BibEntry entry = new BibEntry(pick(random, ENTRY_TYPES))
+                .withCitationKey(LAST_NAMES.get(number % LAST_NAMES.size()).replaceAll("\\W", "") + year)
+                .withField(StandardField.AUTHOR, authors)
+                .withField(StandardField.TITLE, Character.toUpperCase(title.charAt(0)) + title.substring(1) + " " + number)
+                .withField(StandardField.YEAR, year)
+                .withField(StandardField.KEYWORDS, pick(random, KEYWORDS) + ", " + pick(random, KEYWORDS))
+                .withField(StandardField.PAGES, (1 + random.nextInt(500)) + "--" + (501 + random.nextInt(500)));
+        if (entry.getType() == StandardEntryType.Article) {
+            entry.setField(StandardField.JOURNAL, pick(random, JOURNALS));
+            entry.setField(StandardField.VOLUME, String.valueOf(1 + random.nextInt(120)));
+        }
+        if (random.nextInt(5) != 0) {
+            entry.setField(StandardField.DOI, "10.%d/bench.%d".formatted(1000 + random.nextInt(9000), number));
+        }
+        if (entry.getType() == StandardEntryType.Book) {
+            entry.setField(StandardField.PUBLISHER, "Benchmark Press");
+            entry.setField(StandardField.ISBN, "978-3-%05d-%03d-%d".formatted(number % 100000, number % 1000, number % 10));
+        }
+        return entry;
+    }
+
+    private static BibEntry createNearDuplicate(BibEntry original, int number) {
+        BibEntry duplicate = new BibEntry(original);
+        duplicate.setCitationKey(original.getCitationKey().orElse("key") + "dup" + number);
+        original.getField(StandardField.TITLE).ifPresent(title -> duplicate.setField(StandardField.TITLE, title.toLowerCase()));
+        return duplicate;
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
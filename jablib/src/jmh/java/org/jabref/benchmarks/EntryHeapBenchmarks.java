@@ -0,0 +1,81 @@
+package org.jabref.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap retained by a library of 200k entries.
+ * <p>
+ * Without listeners and caches, entries are stored the way jabkit, jabsrv and jabls use them.
+ * With them, every entry has its own event bus, type property and filled caches, as in the GUI.
+ * The retained heap is reported as the secondary result <code>retainedBytes</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EntryHeapBenchmarks {
+
+    @Param({"200000"})
+    public int numberOfEntries;
+
+    @Param({"false", "true"})
+    public boolean withListenersAndCaches;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public BibDatabase createLibrary(HeapUsage heapUsage) {
+        long before = usedHeapAfterGc();
+
+        BibDatabase database = BenchmarkLibraries.createDatabase(numberOfEntries);
+        if (withListenersAndCaches) {
+            Object listener = new Object();
+            for (BibEntry entry : database.getEntries()) {
+                entry.registerListener(listener);
+                entry.typeProperty();
+                entry.getFieldLatexFree(StandardField.TITLE);
+                entry.getFieldAsWords(StandardField.AUTHOR);
+                entry.getFieldAsKeywords(StandardField.KEYWORDS, ',');
+            }
+        }
+
+        heapUsage.retainedBytes = usedHeapAfterGc() - before;
+        return database;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
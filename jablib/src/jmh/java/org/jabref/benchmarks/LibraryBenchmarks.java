@@ -0,0 +1,165 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.os.OS;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.AbstractGroup;
+import org.jabref.model.groups.ExplicitGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.RegexKeywordGroup;
+import org.jabref.model.groups.WordKeywordGroup;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the library-wide operations which scale with the number of entries: grouping, duplicate detection,
+ * citation key generation, integrity checks, writing and parsing.
+ */
+@State(Scope.Benchmark)
+public class LibraryBenchmarks {
+
+    private static final int NUMBER_OF_DUPLICATE_PROBES = 20;
+
+    @Param({"1000", "10000", "100000"})
+    public int numberOfEntries;
+
+    private BibDatabaseContext databaseContext;
+    private List<GroupTreeNode> groups;
+    private List<BibEntry> duplicateProbes;
+    private DuplicateCheck duplicateCheck;
+    private CitationKeyGenerator citationKeyGenerator;
+    private IntegrityCheck integrityCheck;
+    private CliPreferences preferences;
+    private String serializedDatabase;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        preferences = JabRefCliPreferences.getInstance();
+        databaseContext = new BibDatabaseContext(BenchmarkLibraries.createDatabase(numberOfEntries), new MetaData());
+        databaseContext.setMode(BibDatabaseMode.BIBLATEX);
+
+        GroupTreeNode root = GroupTreeNode.fromGroup(new ExplicitGroup("All", GroupHierarchyType.INDEPENDENT, ','));
+        List<AbstractGroup> subgroups = List.of(
+                new WordKeywordGroup("Keyword", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "machine learning", false, ',', false),
+                new WordKeywordGroup("Journal", GroupHierarchyType.INDEPENDENT, StandardField.JOURNAL, "Nature", false, ',', true),
+                new RegexKeywordGroup("Title", GroupHierarchyType.INDEPENDENT, StandardField.TITLE, "(parallel|distributed) .*search", false),
+                new RegexKeywordGroup("Author", GroupHierarchyType.REFINING, StandardField.AUTHOR, "M(ü|\\{\\\\\"u\\})ller", false));
+        groups = new ArrayList<>();
+        for (AbstractGroup subgroup : subgroups) {
+            groups.add(root.addSubgroup(subgroup));
+        }
+
+        List<BibEntry> entries = databaseContext.getDatabase().getEntries();
+        duplicateProbes = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_DUPLICATE_PROBES; i++) {
+            duplicateProbes.add(new BibEntry(entries.get(i * (entries.size() / NUMBER_OF_DUPLICATE_PROBES))));
+        }
+        duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+
+        citationKeyGenerator = new CitationKeyGenerator(databaseContext, preferences.getCitationKeyPatternPreferences());
+
+        JournalAbbreviationRepository abbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+        integrityCheck = new IntegrityCheck(databaseContext,
+                preferences.getFilePreferences(),
+                preferences.getCitationKeyPatternPreferences(),
+                abbreviationRepository,
+                false);
+
+        serializedDatabase = writeDatabase();
+    }
+
+    @Benchmark
+    public void findGroupMatches(Blackhole blackhole) {
+        for (GroupTreeNode group : groups) {
+            blackhole.consume(group.findMatches(databaseContext.getDatabase()));
+        }
+    }
+
+    @Benchmark
+    public void findDuplicates(Blackhole blackhole) {
+        for (BibEntry probe : duplicateProbes) {
+            Optional<BibEntry> duplicate = duplicateCheck.containsDuplicate(databaseContext.getDatabase(), probe, BibDatabaseMode.BIBLATEX);
+            blackhole.consume(duplicate);
+        }
+    }
+
+    @Benchmark
+    public void generateCitationKeys(Blackhole blackhole) {
+        for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
+            blackhole.consume(citationKeyGenerator.generateKey(entry));
+        }
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkIntegrity() {
+        List<IntegrityMessage> messages = new ArrayList<>();
+        for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
+            messages.addAll(integrityCheck.checkEntry(entry));
+        }
+        messages.addAll(integrityCheck.checkDatabase(databaseContext.getDatabase()));
+        return messages;
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkIntegrityInParallel() {
+        return integrityCheck.checkInParallel();
+    }
+
+    @Benchmark
+    public String writeDatabase() throws IOException {
+        StringWriter outputWriter = new StringWriter();
+        SelfContainedSaveConfiguration saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false);
+        BibDatabaseWriter databaseWriter = new BibDatabaseWriter(
+                new BibWriter(outputWriter, OS.NEWLINE),
+                saveConfiguration,
+                preferences.getFieldPreferences(),
+                preferences.getCitationKeyPatternPreferences(),
+                new BibEntryTypesManager());
+        databaseWriter.saveDatabase(databaseContext);
+        return outputWriter.toString();
+    }
+
+    @Benchmark
+    public ParserResult parseDatabase() throws IOException {
+        BibtexParser parser = new BibtexParser(preferences.getImportFormatPreferences());
+        return parser.parse(new StringReader(serializedDatabase));
+    }
+
+    @Benchmark
+    public ParserResult parseDatabaseInParallel() throws IOException {
+        BibtexParser parser = new BibtexParser(preferences.getImportFormatPreferences());
+        return parser.parseInParallel(new StringReader(serializedDatabase));
+    }
+}
@@ -0,0 +1,119 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks the Lucene-based full text indexing of linked PDF files.
+ * <p>
+ * Every hundredth entry gets a generated PDF file with a few pages of text linked.
+ */
+@State(Scope.Benchmark)
+public class LinkedFilesIndexingBenchmarks {
+
+    private static final int PAGES_PER_FILE = 5;
+
+    @Param({"1000", "10000", "100000"})
+    public int numberOfEntries;
+
+    private Path filesDirectory;
+    private List<BibEntry> entries;
+    private BibDatabaseContext databaseContext;
+    private Path indexDirectory;
+    private DefaultLinkedFilesIndexer indexer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        filesDirectory = Files.createTempDirectory("jabref-benchmark-files");
+        entries = BenchmarkLibraries.createEntries(numberOfEntries);
+        for (int i = 0; i < entries.size(); i += 100) {
+            BibEntry entry = entries.get(i);
+            Path pdf = filesDirectory.resolve("file" + i + ".pdf");
+            writePdf(pdf, entry);
+            entry.addFile(new LinkedFile("", pdf.toAbsolutePath(), "PDF"));
+        }
+        databaseContext = spy(new BibDatabaseContext());
+        when(databaseContext.getFulltextIndexPath()).thenAnswer(_ -> indexDirectory);
+        databaseContext.getDatabase().insertEntries(entries);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        deleteRecursively(filesDirectory);
+    }
+
+    @Setup(Level.Invocation)
+    public void createFreshIndexer() throws IOException {
+        indexDirectory = Files.createTempDirectory("jabref-benchmark-index");
+        indexer = new DefaultLinkedFilesIndexer(databaseContext, JabRefCliPreferences.getInstance().getFilePreferences());
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeIndexer() throws IOException {
+        indexer.closeAndWait();
+        deleteRecursively(indexDirectory);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public DefaultLinkedFilesIndexer addToIndex() {
+        indexer.addToIndex(entries, new SearchBenchmarks.NoOpTask());
+        return indexer;
+    }
+
+    private static void writePdf(Path path, BibEntry entry) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            for (int page = 0; page < PAGES_PER_FILE; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream contentStream = new PDPageContentStream(document, pdPage)) {
+                    contentStream.beginText();
+                    contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                    contentStream.newLineAtOffset(25, 700);
+                    for (int line = 0; line < 40; line++) {
+                        contentStream.showText(entry.getTitle().orElse("") + " page " + page + " line " + line);
+                        contentStream.newLineAtOffset(0, -15);
+                    }
+                    contentStream.endText();
+                }
+            }
+            document.save(path.toFile());
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
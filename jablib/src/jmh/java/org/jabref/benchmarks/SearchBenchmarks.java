@@ -0,0 +1,111 @@
+package org.jabref.benchmarks;
+
+import java.sql.Connection;
+import java.util.EnumSet;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks indexing into and searching in the Postgres-backed bib fields index.
+ */
+@State(Scope.Benchmark)
+public class SearchBenchmarks {
+
+    @Param({"1000", "10000", "100000"})
+    public int numberOfEntries;
+
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private final SearchQuery fieldQuery = new SearchQuery("title=search", EnumSet.noneOf(SearchFlags.class));
+    private final SearchQuery anyFieldQuery = new SearchQuery("learning", EnumSet.noneOf(SearchFlags.class));
+    private final SearchQuery complexQuery = new SearchQuery("(author=Müller OR author=Schmidt) AND year=~\"20[0-9]{2}\" AND NOT keywords=\"open source\"", EnumSet.noneOf(SearchFlags.class));
+
+    private PostgreServer postgreServer;
+    private BibDatabaseContext databaseContext;
+    private BibFieldsSearcher searcher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        postgreServer = new PostgreServer();
+        databaseContext = new BibDatabaseContext(BenchmarkLibraries.createDatabase(numberOfEntries));
+
+        Connection connection = postgreServer.getConnection();
+        BibFieldsIndexer indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, connection);
+        indexer.updateOnStart(new NoOpTask());
+        searcher = new BibFieldsSearcher(connection, indexer.getTable());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        postgreServer.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public String addToIndex(FreshIndexer freshIndexer) {
+        freshIndexer.indexer.addToIndex(databaseContext.getDatabase().getEntries(), new NoOpTask());
+        return freshIndexer.indexer.getTable();
+    }
+
+    @Benchmark
+    public SearchResults searchField() {
+        return searcher.search(fieldQuery);
+    }
+
+    @Benchmark
+    public SearchResults searchAnyField() {
+        return searcher.search(anyFieldQuery);
+    }
+
+    @Benchmark
+    public SearchResults searchComplex() {
+        return searcher.search(complexQuery);
+    }
+
+    /**
+     * An empty index for each invocation of {@link #addToIndex(FreshIndexer)}. It is a separate state, so that the
+     * search benchmarks do not create and drop a table around each invocation.
+     */
+    @State(Scope.Thread)
+    public static class FreshIndexer {
+        private BibFieldsIndexer indexer;
+
+        @Setup(Level.Invocation)
+        public void setUp(SearchBenchmarks benchmarks) {
+            indexer = new BibFieldsIndexer(benchmarks.bibEntryPreferences, benchmarks.databaseContext, benchmarks.postgreServer.getConnection());
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            indexer.closeAndWait();
+        }
+    }
+
+    static class NoOpTask extends BackgroundTask<Void> {
+        @Override
+        public Void call() {
+            return null;
+        }
+    }
+}
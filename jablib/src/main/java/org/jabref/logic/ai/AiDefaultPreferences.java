@@ -76,6 +76,7 @@ public class AiDefaultPreferences {
     public static final double TEMPERATURE = 0.7;
     public static final int DOCUMENT_SPLITTER_CHUNK_SIZE = 300;
     public static final int DOCUMENT_SPLITTER_OVERLAP = 100;
+    public static final int EMBEDDING_BATCH_SIZE = 32;
     public static final int RAG_MAX_RESULTS_COUNT = 10;
     public static final double RAG_MIN_SCORE = 0.3;
 
@@ -0,0 +1,349 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An approximate nearest-neighbour index (HNSW, <a href="https://arxiv.org/abs/1603.09320">Malkov and Yashunin</a>)
+ * for the embeddings of {@link MVStoreEmbeddingStore}.
+ * <p>
+ * The embeddings are partitioned by the file they were generated from. Every partition has its own graph, so that a
+ * search restricted to some files only visits the graphs of these files. The graphs are stored in the same
+ * {@link MVStore} as the embeddings, the vectors themselves are not duplicated.
+ */
+class HnswEmbeddingIndex {
+    /**
+     * The number of candidates kept per partition while searching. Larger values find the nearest neighbours more
+     * reliably at the cost of speed, but the search stays approximate for any value.
+     */
+    static final int EF_SEARCH = 100;
+
+    private static final String NODES_MAP_NAME = "embeddingsIndexNodes";
+    private static final String ENTRY_POINTS_MAP_NAME = "embeddingsIndexEntryPoints";
+    private static final String PARTITIONS_MAP_NAME = "embeddingsIndexPartitions";
+
+    // Partition of the embeddings not generated from a file
+    private static final String NO_FILE_PARTITION = "";
+    private static final char PARTITION_SEPARATOR = '\0';
+
+    private static final int MAX_CONNECTIONS = 16;
+    private static final int MAX_CONNECTIONS_LAYER_ZERO = 2 * MAX_CONNECTIONS;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final double LEVEL_MULTIPLIER = 1 / Math.log(MAX_CONNECTIONS);
+    // Fixed, so that adding the same embeddings in the same order builds the same graphs
+    private static final long LEVEL_SEED = 0x4A61625265664149L;
+
+    /**
+     * @param neighbours the ids of the neighbours of this node, per layer. The number of layers is the level of the node plus one.
+     */
+    private record Node(String partition, String[][] neighbours) implements Serializable {
+        int level() {
+            return neighbours.length - 1;
+        }
+
+        String[] neighbours(int layer) {
+            return layer < neighbours.length ? neighbours[layer] : new String[0];
+        }
+    }
+
+    private record Candidate(String id, double similarity) {
+    }
+
+    private static final Comparator<Candidate> BY_SIMILARITY = Comparator.comparingDouble(Candidate::similarity);
+
+    private final MVMap<String, Node> nodes;
+    private final MVMap<String, String> entryPoints;
+    // Keys are the partition and the id, separated by PARTITION_SEPARATOR. Allows to list the members of a partition by a range scan.
+    private final MVMap<String, String> partitions;
+    private final Function<String, float[]> vectors;
+    private final Random levelGenerator = new Random(LEVEL_SEED);
+
+    /**
+     * @param vectors returns the vector of an id, or null if the id is not present anymore
+     */
+    HnswEmbeddingIndex(MVStore mvStore, Function<String, float[]> vectors) {
+        this.nodes = mvStore.openMap(NODES_MAP_NAME);
+        this.entryPoints = mvStore.openMap(ENTRY_POINTS_MAP_NAME);
+        this.partitions = mvStore.openMap(PARTITIONS_MAP_NAME);
+        this.vectors = vectors;
+    }
+
+    synchronized int size() {
+        return nodes.size();
+    }
+
+    synchronized void add(String id, @Nullable String file, float[] vector) {
+        if (nodes.containsKey(id)) {
+            remove(id);
+        }
+
+        String partition = toPartition(file);
+        partitions.put(partition + PARTITION_SEPARATOR + id, id);
+
+        int level = randomLevel();
+        String[][] neighbours = new String[level + 1][];
+        Arrays.fill(neighbours, new String[0]);
+
+        String entryPoint = entryPoints.get(partition);
+        if (entryPoint == null) {
+            nodes.put(id, new Node(partition, neighbours));
+            entryPoints.put(partition, id);
+            return;
+        }
+
+        int topLevel = nodes.get(entryPoint).level();
+        Candidate current = new Candidate(entryPoint, similarity(vector, entryPoint));
+        for (int layer = topLevel; layer > level; layer--) {
+            current = searchLayer(vector, current, 1, layer).getFirst();
+        }
+
+        for (int layer = Math.min(level, topLevel); layer >= 0; layer--) {
+            List<Candidate> candidates = searchLayer(vector, current, EF_CONSTRUCTION, layer);
+            neighbours[layer] = candidates.stream()
+                                          .limit(maxConnections(layer))
+                                          .map(Candidate::id)
+                                          .toArray(String[]::new);
+            current = candidates.getFirst();
+        }
+        nodes.put(id, new Node(partition, neighbours));
+
+        for (int layer = 0; layer < neighbours.length; layer++) {
+            for (String neighbour : neighbours[layer]) {
+                connect(neighbour, id, layer);
+            }
+        }
+
+        if (level > topLevel) {
+            entryPoints.put(partition, id);
+        }
+    }
+
+    synchronized void remove(String id) {
+        Node node = nodes.remove(id);
+        if (node == null) {
+            return;
+        }
+        partitions.remove(node.partition() + PARTITION_SEPARATOR + id);
+
+        // Links are directed, thus the nodes linking to the removed one are not necessarily its neighbours.
+        // Their links to it are replaced by its neighbours, so that the graph stays navigable.
+        membersOf(node.partition()).forEach(member -> {
+            Node memberNode = nodes.get(member);
+            for (int layer = 0; layer <= Math.min(memberNode.level(), node.level()); layer++) {
+                List<String> memberLinks = Arrays.asList(memberNode.neighbours(layer));
+                if (!memberLinks.contains(id)) {
+                    continue;
+                }
+                Set<String> links = new HashSet<>(memberLinks);
+                links.remove(id);
+                links.addAll(Arrays.asList(node.neighbours(layer)));
+                links.remove(member);
+                setNeighbours(member, memberNode, layer, links);
+                memberNode = nodes.get(member);
+            }
+        });
+
+        if (id.equals(entryPoints.get(node.partition()))) {
+            Optional<String> newEntryPoint = membersOf(node.partition())
+                    .max(Comparator.comparingInt(member -> nodes.get(member).level()));
+            if (newEntryPoint.isPresent()) {
+                entryPoints.put(node.partition(), newEntryPoint.get());
+            } else {
+                entryPoints.remove(node.partition());
+            }
+        }
+    }
+
+    synchronized void clear() {
+        nodes.clear();
+        entryPoints.clear();
+        partitions.clear();
+    }
+
+    /**
+     * Removes all embeddings generated from the given file. Links never leave a partition, thus the graph of the
+     * partition is dropped as a whole instead of repairing the links for each removed embedding.
+     *
+     * @return the ids of the removed embeddings
+     */
+    synchronized List<String> removePartition(@Nullable String file) {
+        String partition = toPartition(file);
+        List<String> members = membersOf(partition).toList();
+        for (String member : members) {
+            nodes.remove(member);
+            partitions.remove(partition + PARTITION_SEPARATOR + member);
+        }
+        entryPoints.remove(partition);
+        return members;
+    }
+
+    /**
+     * Searches the partitions of the given files for the embeddings most similar to the query.
+     *
+     * @param files      the files to search in, or null to search in all partitions
+     * @param maxResults the number of results needed. The search considers at least {@link #EF_SEARCH} candidates per partition.
+     * @return the ids of the found embeddings, the most similar first
+     */
+    synchronized List<String> search(float[] query, @Nullable Collection<String> files, int maxResults) {
+        Collection<String> partitionsToSearch = files == null ? List.copyOf(entryPoints.keySet()) : files;
+        int ef = Math.max(EF_SEARCH, maxResults);
+
+        PriorityQueue<Candidate> best = new PriorityQueue<>(BY_SIMILARITY);
+        for (String partition : partitionsToSearch) {
+            String entryPoint = entryPoints.get(partition);
+            if (entryPoint == null) {
+                continue;
+            }
+            Candidate current = new Candidate(entryPoint, similarity(query, entryPoint));
+            for (int layer = nodes.get(entryPoint).level(); layer > 0; layer--) {
+                current = searchLayer(query, current, 1, layer).getFirst();
+            }
+            for (Candidate candidate : searchLayer(query, current, ef, 0)) {
+                best.add(candidate);
+                if (best.size() > maxResults) {
+                    best.poll();
+                }
+            }
+        }
+
+        List<Candidate> result = new ArrayList<>(best);
+        result.sort(BY_SIMILARITY.reversed());
+        return result.stream().map(Candidate::id).toList();
+    }
+
+    /**
+     * Greedy beam search in one layer of a graph
+     *
+     * @return up to ef nodes closest to the query, the most similar first
+     */
+    private List<Candidate> searchLayer(float[] query, Candidate entryPoint, int ef, int layer) {
+        Set<String> visited = new HashSet<>();
+        visited.add(entryPoint.id());
+        PriorityQueue<Candidate> toVisit = new PriorityQueue<>(BY_SIMILARITY.reversed());
+        toVisit.add(entryPoint);
+        PriorityQueue<Candidate> found = new PriorityQueue<>(BY_SIMILARITY);
+        found.add(entryPoint);
+
+        while (!toVisit.isEmpty()) {
+            Candidate candidate = toVisit.poll();
+            if (found.size() >= ef && candidate.similarity() < found.peek().similarity()) {
+                break;
+            }
+            Node node = nodes.get(candidate.id());
+            if (node == null) {
+                continue;
+            }
+            for (String neighbour : node.neighbours(layer)) {
+                if (!visited.add(neighbour)) {
+                    continue;
+                }
+                double similarity = similarity(query, neighbour);
+                if (found.size() < ef || similarity > found.peek().similarity()) {
+                    Candidate neighbourCandidate = new Candidate(neighbour, similarity);
+                    toVisit.add(neighbourCandidate);
+                    found.add(neighbourCandidate);
+                    if (found.size() > ef) {
+                        found.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> result = new ArrayList<>(found);
+        result.sort(BY_SIMILARITY.reversed());
+        return result;
+    }
+
+    private void connect(String from, String to, int layer) {
+        Node node = nodes.get(from);
+        if (node == null || layer > node.level()) {
+            return;
+        }
+        Set<String> links = new HashSet<>(Arrays.asList(node.neighbours(layer)));
+        links.add(to);
+        setNeighbours(from, node, layer, links);
+    }
+
+    /**
+     * Stores the given links as neighbours of the node. If there are too many, only the most similar ones are kept.
+     */
+    private void setNeighbours(String id, Node node, int layer, Collection<String> links) {
+        float[] vector = vectors.apply(id);
+        String[] neighbours;
+        if (vector == null || links.size() <= maxConnections(layer)) {
+            neighbours = links.toArray(String[]::new);
+        } else {
+            neighbours = links.stream()
+                              .map(link -> new Candidate(link, similarity(vector, link)))
+                              .sorted(BY_SIMILARITY.reversed())
+                              .limit(maxConnections(layer))
+                              .map(Candidate::id)
+                              .toArray(String[]::new);
+        }
+        String[][] allNeighbours = node.neighbours().clone();
+        allNeighbours[layer] = neighbours;
+        nodes.put(id, new Node(node.partition(), allNeighbours));
+    }
+
+    private Stream<String> membersOf(String partition) {
+        String prefix = partition + PARTITION_SEPARATOR;
+        Iterator<String> keys = partitions.keyIterator(prefix);
+        List<String> members = new ArrayList<>();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            members.add(key.substring(prefix.length()));
+        }
+        return members.stream();
+    }
+
+    private double similarity(float[] query, String id) {
+        float[] vector = vectors.apply(id);
+        return vector == null ? -1 : cosineSimilarity(query, vector);
+    }
+
+    static double cosineSimilarity(float[] a, float[] b) {
+        double dotProduct = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dotProduct += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        if (normA == 0 || normB == 0) {
+            return 0;
+        }
+        return dotProduct / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+
+    private static int maxConnections(int layer) {
+        return layer == 0 ? MAX_CONNECTIONS_LAYER_ZERO : MAX_CONNECTIONS;
+    }
+
+    private int randomLevel() {
+        return (int) Math.floor(-Math.log(1 - levelGenerator.nextDouble()) * LEVEL_MULTIPLIER);
+    }
+
+    private static String toPartition(@Nullable String file) {
+        return file == null ? NO_FILE_PARTITION : file;
+    }
+}
@@ -15,8 +15,12 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class LowLevelIngestor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LowLevelIngestor.class);
+
     private final AiPreferences aiPreferences;
 
     private final EmbeddingStore<TextSegment> embeddingStore;
@@ -64,14 +68,27 @@ public class LowLevelIngestor {
         List<TextSegment> textSegments = documentSplitter.split(document);
         workMax.set(textSegments.size());
 
-        for (TextSegment documentPart : textSegments) {
+        // Segments are passed to the embedding model in batches, which is much faster than one by one
+        int batchSize = Math.max(1, aiPreferences.getEmbeddingBatchSize());
+        long start = System.nanoTime();
+
+        for (int from = 0; from < textSegments.size(); from += batchSize) {
             if (stopProperty.get()) {
                 throw new InterruptedException();
             }
 
-            ingestor.ingest(new DefaultDocument(documentPart.text(), document.metadata()));
+            List<TextSegment> batch = textSegments.subList(from, Math.min(from + batchSize, textSegments.size()));
+            ingestor.ingest(batch.stream()
+                                 .<Document>map(documentPart -> new DefaultDocument(documentPart.text(), document.metadata()))
+                                 .toList());
 
-            workDone.set(workDone.get() + 1);
+            workDone.set(workDone.get() + batch.size());
         }
+
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        LOGGER.debug("Generated embeddings for {} segments in {} ms ({} segments per second)",
+                textSegments.size(),
+                millis,
+                textSegments.size() * 1000 / millis);
     }
 }
@@ -4,15 +4,11 @@ import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
 import java.util.UUID;
-import java.util.function.Predicate;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
@@ -21,7 +17,6 @@ import org.jabref.logic.util.NotificationService;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
@@ -33,7 +28,6 @@ import dev.langchain4j.store.embedding.filter.comparison.IsIn;
 import org.h2.mvstore.MVStore;
 import org.jspecify.annotations.Nullable;
 
-import static java.util.Comparator.comparingDouble;
 import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
 
 /**
@@ -42,6 +36,7 @@ import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_
  * Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
  * string (the content).
  * <p>
+ * Searches use a {@link HnswEmbeddingIndex} partitioned by file, which is updated on every addition and removal.
  */
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
     // `file` field is nullable, because {@link Optional} can't be serialized.
@@ -51,11 +46,22 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     private static final String EMBEDDINGS_MAP_NAME = "embeddings";
 
     private final Map<String, EmbeddingRecord> embeddingsMap;
+    private final HnswEmbeddingIndex index;
 
     public MVStoreEmbeddingStore(Path path, NotificationService dialogService) {
         super(path, dialogService);
 
         this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
+        this.index = new HnswEmbeddingIndex(this.mvStore, id -> {
+            EmbeddingRecord eRecord = embeddingsMap.get(id);
+            return eRecord == null ? null : eRecord.embeddingVector;
+        });
+
+        // Stores written by older versions of JabRef have no index yet
+        if (index.size() != embeddingsMap.size()) {
+            index.clear();
+            embeddingsMap.forEach((id, eRecord) -> index.add(id, eRecord.file, eRecord.embeddingVector));
+        }
     }
 
     @Override
@@ -78,6 +84,7 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
         embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        index.add(id, null, embedding.vector());
     }
 
     @Override
@@ -85,6 +92,7 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
         embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        index.add(id, linkedFile, embedding.vector());
         return id;
     }
 
@@ -96,17 +104,24 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     @Override
     public void remove(String id) {
         embeddingsMap.remove(id);
+        index.remove(id);
     }
 
     @Override
     public void removeAll(Filter filter) {
-        List<String> idsToRemove = applyFilter(filter).toList();
-        idsToRemove.forEach(this::remove);
+        Collection<String> files = filteredFiles(filter);
+        if (files == null) {
+            removeAll();
+            return;
+        }
+        // The filter selects whole files, thus their partitions of the index are dropped at once
+        files.forEach(file -> index.removePartition(file).forEach(embeddingsMap::remove));
     }
 
     @Override
     public void removeAll() {
         embeddingsMap.clear();
+        index.clear();
     }
 
     /// The main function of finding most relevant text segments.
@@ -121,17 +136,16 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
         // Source: {@link InMemoryEmbeddingStore}.
 
-        Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
-
-        applyFilter(request.filter()).forEach(id -> {
+        // Only the partitions of the filtered files are searched
+        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
+        for (String id : index.search(request.queryEmbedding().vector(), filteredFiles(request.filter()), request.maxResults())) {
             EmbeddingRecord eRecord = embeddingsMap.get(id);
 
-            double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
+            double cosineSimilarity = HnswEmbeddingIndex.cosineSimilarity(request.queryEmbedding().vector(), eRecord.embeddingVector);
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
 
             if (score >= request.minScore()) {
-                matches.add(
+                result.add(
                         new EmbeddingMatch<>(
                                 score,
                                 id,
@@ -140,44 +154,36 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
                                         eRecord.content,
                                         new Metadata(
                                                 eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
-
-                if (matches.size() > request.maxResults()) {
-                    matches.poll();
-                }
             }
-        });
-
-        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(matches);
-        result.sort(comparator.reversed());
+        }
 
         return new EmbeddingSearchResult<>(result);
     }
 
     @Override
     public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+        List.copyOf((Collection<?>) ids).forEach(id -> remove(id.toString()));
     }
 
-    private Stream<String> applyFilter(@Nullable Filter filter) {
+    /**
+     * @return the files the filter restricts to, or null if there is no filter
+     */
+    private @Nullable Collection<String> filteredFiles(@Nullable Filter filter) {
         return switch (filter) {
             case null ->
-                    embeddingsMap.keySet().stream();
+                    null;
 
             case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
+                    isInFilter.comparisonValues().stream().map(Object::toString).toList();
 
             case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue().file));
+                    List.of(isEqualToFilter.comparisonValue().toString());
 
             default ->
                     throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
-    }
-
     @Override
     protected String errorMessageForOpening() {
         return "An error occurred while opening the embeddings cache file. Embeddings will not be stored in the next session.";
@@ -3,6 +3,10 @@ package org.jabref.logic.ai.ingestion.model;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
 
 import ai.djl.MalformedModelException;
 import ai.djl.inference.Predictor;
@@ -14,26 +18,68 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Embedding model running locally with Deep Java Library.
+ * <p>
+ * A {@link Predictor} must not be used by several threads at the same time. Therefore, the model keeps a pool of
+ * predictors, so that several files can be embedded in parallel. Each call of {@link #embedAll(List)} takes a predictor
+ * from the pool and embeds the segments in batches.
+ */
 public class DeepJavaEmbeddingModel implements EmbeddingModel, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeepJavaEmbeddingModel.class);
+
     private final ZooModel<String, float[]> model;
-    private final Predictor<String, float[]> predictor;
+    private final List<Predictor<String, float[]>> predictors = new ArrayList<>();
+    private final BlockingQueue<Predictor<String, float[]>> availablePredictors;
+    private final IntSupplier batchSize;
+
+    private final AtomicLong embeddedSegments = new AtomicLong();
+    private final AtomicLong embeddingNanos = new AtomicLong();
 
-    public DeepJavaEmbeddingModel(Criteria<String, float[]> criteria) throws ModelNotFoundException, MalformedModelException, IOException {
+    /**
+     * @param batchSize          the number of segments passed to the model at once. Read on every call, so that changes of the preferences apply immediately.
+     * @param numberOfPredictors the maximal number of calls running in parallel
+     */
+    public DeepJavaEmbeddingModel(Criteria<String, float[]> criteria, IntSupplier batchSize, int numberOfPredictors) throws ModelNotFoundException, MalformedModelException, IOException {
         this.model = criteria.loadModel();
-        this.predictor = model.newPredictor();
+        this.batchSize = batchSize;
+        this.availablePredictors = new ArrayBlockingQueue<>(numberOfPredictors);
+        for (int i = 0; i < numberOfPredictors; i++) {
+            Predictor<String, float[]> predictor = model.newPredictor();
+            predictors.add(predictor);
+            availablePredictors.add(predictor);
+        }
     }
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> list) {
+        Predictor<String, float[]> predictor;
+        try {
+            predictor = availablePredictors.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
         try {
-            List<Embedding> result = new ArrayList<>();
+            long start = System.nanoTime();
+            List<Embedding> result = new ArrayList<>(list.size());
+            int size = Math.max(1, batchSize.getAsInt());
 
-            for (TextSegment textSegment : list) {
-                float[] embedding = predictor.predict(textSegment.text());
-                result.add(new Embedding(embedding));
+            for (int from = 0; from < list.size(); from += size) {
+                List<String> batch = list.subList(from, Math.min(from + size, list.size()))
+                                         .stream()
+                                         .map(TextSegment::text)
+                                         .toList();
+                for (float[] embedding : predictor.batchPredict(batch)) {
+                    result.add(new Embedding(embedding));
+                }
             }
 
+            recordThroughput(list.size(), System.nanoTime() - start);
             return new Response<>(result);
         } catch (TranslateException e) {
             // The rationale for RuntimeException here:
@@ -45,11 +91,35 @@ public class DeepJavaEmbeddingModel implements EmbeddingModel, AutoCloseable {
             //    it's possible, but langchain4j doesn't do it.
 
             throw new RuntimeException(e);
+        } finally {
+            availablePredictors.add(predictor);
         }
     }
 
+    private void recordThroughput(int segments, long nanos) {
+        long totalSegments = embeddedSegments.addAndGet(segments);
+        long totalNanos = embeddingNanos.addAndGet(nanos);
+        LOGGER.debug("Embedded {} segments in {} ms, {} segments per second since the model was loaded",
+                segments,
+                nanos / 1_000_000,
+                String.format("%.1f", segmentsPerSecond(totalSegments, totalNanos)));
+    }
+
+    /**
+     * @return the number of segments embedded per second, averaged over all calls since the model was loaded.
+     * Calls running in parallel are summed up, thus this is the throughput of a single predictor.
+     */
+    public double getSegmentsPerSecond() {
+        return segmentsPerSecond(embeddedSegments.get(), embeddingNanos.get());
+    }
+
+    private static double segmentsPerSecond(long segments, long nanos) {
+        return nanos == 0 ? 0 : segments * 1_000_000_000.0 / nanos;
+    }
+
     @Override
     public void close() {
+        predictors.forEach(Predictor::close);
         this.model.close();
     }
 }
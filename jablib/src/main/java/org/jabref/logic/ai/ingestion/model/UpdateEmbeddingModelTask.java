@@ -62,7 +62,8 @@ public class UpdateEmbeddingModelTask extends BackgroundTask<Void> {
                         .build();
 
         try {
-            predictorProperty.set(Optional.of(new DeepJavaEmbeddingModel(criteria)));
+            // One predictor per core, so that several files can be embedded in parallel
+            predictorProperty.set(Optional.of(new DeepJavaEmbeddingModel(criteria, aiPreferences::getEmbeddingBatchSize, Runtime.getRuntime().availableProcessors())));
         } catch (ModelNotFoundException e) {
             predictorProperty.set(Optional.empty());
             throw new RuntimeException(Localization.lang("Unable to find the embedding model by the URL %0", modelUrl), e);
@@ -11,13 +11,13 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Scanner;
 import java.util.StringJoiner;
-import java.util.StringTokenizer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.jabref.logic.citationkeypattern.CompiledBracketedPattern.Bracket;
 import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.formatter.Formatters;
 import org.jabref.logic.formatter.bibtexfields.RemoveEnclosingBracesFormatter;
@@ -29,6 +29,7 @@ import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.KeywordList;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
@@ -138,6 +139,31 @@ public class BracketedPattern {
         }
     }
 
+    /**
+     * A field marker (such as auth, pureauth, authorLast) resolved by {@link #compileFieldMarker(String)}
+     */
+    @FunctionalInterface
+    interface FieldMarker {
+        /**
+         * @param database The database to use for field resolving. May be null.
+         * @return the evaluation result. Empty string if the pattern cannot be resolved.
+         */
+        String getValue(BibEntry entry, Character keywordDelimiter, BibDatabase database);
+    }
+
+    /**
+     * A modifier (such as lower, abbr, or an alternative text) resolved by {@link #compileModifier(String)}
+     */
+    @FunctionalInterface
+    interface Modifier {
+        /**
+         * @param label                the label modified by the previous modifiers
+         * @param originalLabel        the label before applying any modifier
+         * @param expandBracketContent a function to expand the brackets of an alternative text
+         */
+        String apply(String label, String originalLabel, Function<Bracket, String> expandBracketContent);
+    }
+
     private final String pattern;
 
     public BracketedPattern() {
@@ -191,130 +217,34 @@ public class BracketedPattern {
      * @return The expanded pattern. Not null.
      */
     public static String expandBrackets(@NonNull String pattern, Character keywordDelimiter, @NonNull BibEntry entry, BibDatabase database) {
-        return expandBrackets(pattern, expandBracketContent(keywordDelimiter, entry, database));
+        return CompiledBracketedPattern.compile(pattern).expand(keywordDelimiter, entry, database);
     }
 
     /**
-     * Utility method creating a function taking the string representation of the content of a bracketed expression and
-     * expanding it.
+     * Utility method creating a function taking a bracketed expression and expanding it.
      *
      * @param keywordDelimiter The keyword delimiter to use
      * @param entry            The {@link BibEntry} to use for expansion
      * @param database         The {@link BibDatabase} for field resolving. May be null.
      * @return a function accepting a bracketed expression and returning the result of expanding it
      */
-    public static Function<String, String> expandBracketContent(Character keywordDelimiter, BibEntry entry, BibDatabase database) {
-        return (String bracket) -> {
-            List<String> fieldParts = parseFieldAndModifiers(bracket);
-            // check whether there is a modifier on the end such as
-            // ":lower":
-            String expandedPattern = getFieldValue(entry, fieldParts.getFirst(), keywordDelimiter, database);
-            if (fieldParts.size() > 1) {
-                // apply modifiers:
-                expandedPattern = applyModifiers(expandedPattern, fieldParts, 1, expandBracketContent(keywordDelimiter, entry, database));
-            }
-            return expandedPattern;
+    public static Function<Bracket, String> expandBracketContent(Character keywordDelimiter, BibEntry entry, BibDatabase database) {
+        return (Bracket bracket) -> {
+            String expandedPattern = bracket.getFieldValue(entry, keywordDelimiter, database);
+            // apply modifiers such as ":lower"
+            return bracket.applyModifiers(expandedPattern, expandBracketContent(keywordDelimiter, entry, database));
         };
     }
 
     /**
-     * Expands a pattern.
+     * Expands a pattern. The pattern is compiled once (see {@link CompiledBracketedPattern#compile(String)}).
      *
      * @param pattern               The pattern to expand
-     * @param bracketContentHandler A function taking the string representation of the content of a bracketed pattern
-     *                              and expanding it
+     * @param bracketContentHandler A function taking a bracketed expression and expanding it
      * @return The expanded pattern. Not null.
      */
-    public static String expandBrackets(@NonNull String pattern, Function<String, String> bracketContentHandler) {
-        StringBuilder expandedPattern = new StringBuilder();
-        pattern = pattern.replace("\\\"", "\u0A17");
-        StringTokenizer parsedPattern = new StringTokenizer(pattern, "\\[]\"", true);
-
-        while (parsedPattern.hasMoreTokens()) {
-            String token = parsedPattern.nextToken();
-            switch (token) {
-                case "\"" ->
-                        appendQuote(expandedPattern, parsedPattern);
-                case "[" -> {
-                    String fieldMarker = contentBetweenBrackets(parsedPattern, pattern);
-                    expandedPattern.append(bracketContentHandler.apply(fieldMarker));
-                }
-                case "\\" -> {
-                    if (parsedPattern.hasMoreTokens()) {
-                        expandedPattern.append(parsedPattern.nextToken());
-                    } else {
-                        LOGGER.warn("Found a \"\\\" that is not part of an escape sequence");
-                    }
-                }
-                default ->
-                        expandedPattern.append(token);
-            }
-        }
-
-        return expandedPattern.toString().replace("\u0A17", "\\\"");
-    }
-
-    /**
-     * Returns the content enclosed between brackets, including enclosed quotes, and excluding the paired enclosing brackets.
-     * There may be brackets in it.
-     * Intended to be used by {@link BracketedPattern#expandBrackets(String, Character, BibEntry, BibDatabase)} when a [
-     * is encountered, and has been consumed, by the {@code StringTokenizer}.
-     *
-     * @param pattern   pattern used by {@code expandBrackets}, used for logging
-     * @param tokenizer the tokenizer producing the tokens
-     * @return the content enclosed by brackets
-     */
-    private static String contentBetweenBrackets(StringTokenizer tokenizer, final String pattern) {
-        StringBuilder bracketContent = new StringBuilder();
-        boolean foundClosingBracket = false;
-        int subBrackets = 0;
-        // make sure to read until the paired ']'
-        while (tokenizer.hasMoreTokens() && !foundClosingBracket) {
-            String token = tokenizer.nextToken();
-            // If the beginning of a quote is found, append the content
-            switch (token) {
-                case "\"" ->
-                        appendQuote(bracketContent, tokenizer);
-                case "]" -> {
-                    if (subBrackets == 0) {
-                        foundClosingBracket = true;
-                    } else {
-                        subBrackets--;
-                        bracketContent.append(token);
-                    }
-                }
-                case "[" -> {
-                    subBrackets++;
-                    bracketContent.append(token);
-                }
-                default ->
-                        bracketContent.append(token);
-            }
-        }
-
-        if (!foundClosingBracket) {
-            LOGGER.warn("Missing closing bracket ']' in '{}'", pattern);
-        } else if (bracketContent.isEmpty()) {
-            LOGGER.warn("Found empty brackets \"[]\" in '{}'", pattern);
-        }
-        return bracketContent.toString();
-    }
-
-    /**
-     * Appends the content between, and including, two \" to the provided <code>StringBuilder</code>. Intended to be
-     * used by {@link BracketedPattern#expandBrackets(String, Character, BibEntry, BibDatabase)} when a \" is
-     * encountered by the StringTokenizer.
-     *
-     * @param stringBuilder the <code>StringBuilder</code> to which tokens will be appended
-     * @param tokenizer     the tokenizer producing the tokens
-     */
-    private static void appendQuote(StringBuilder stringBuilder, StringTokenizer tokenizer) {
-        stringBuilder.append("\"");  // We know that the previous token was \"
-        String token = "";
-        while (tokenizer.hasMoreTokens() && !"\"".equals(token)) {
-            token = tokenizer.nextToken();
-            stringBuilder.append(token);
-        }
+    public static String expandBrackets(@NonNull String pattern, Function<Bracket, String> bracketContentHandler) {
+        return CompiledBracketedPattern.compile(pattern).expand(bracketContentHandler);
     }
 
     /**
@@ -327,160 +257,87 @@ public class BracketedPattern {
      * @return String containing the evaluation result. Empty string if the pattern cannot be resolved.
      */
     public static String getFieldValue(BibEntry entry, String pattern, Character keywordDelimiter, BibDatabase database) {
-        try {
-            if (pattern.startsWith("auth") || pattern.startsWith("pureauth")) {
-                // result the author
-                String unparsedAuthors = entry.getResolvedFieldOrAlias(StandardField.AUTHOR, database).orElse("");
+        return compileFieldMarker(pattern).getValue(entry, keywordDelimiter, database);
+    }
+
+    /**
+     * Resolves a field marker (such as auth, pureauth, authorLast) to a function evaluating it for an entry. Thus, the
+     * marker is parsed only once for all entries.
+     */
+    static FieldMarker compileFieldMarker(String pattern) {
+        FieldMarker fieldMarker = parseFieldMarker(pattern);
+        return (entry, keywordDelimiter, database) -> {
+            try {
+                return fieldMarker.getValue(entry, keywordDelimiter, database);
+            } catch (NullPointerException ex) {
+                LOGGER.debug("Problem making expanding bracketed expression", ex);
+                return "";
+            }
+        };
+    }
 
-                if (pattern.startsWith("pure")) {
-                    // "pure" is used in the context of authors to resolve to authors only and not fallback to editors
-                    // The other functionality of the pattern "ForeIni", ... is the same
-                    // Thus, remove the "pure" prefix so the remaining code in this section functions correctly
-                    //
-                    pattern = pattern.substring(4);
-                } else if (unparsedAuthors.isEmpty()) {
+    private static FieldMarker parseFieldMarker(String pattern) {
+        if (pattern.startsWith("auth") || pattern.startsWith("pureauth")) {
+            // "pure" is used in the context of authors to resolve to authors only and not fallback to editors
+            // The other functionality of the pattern "ForeIni", ... is the same
+            // Thus, remove the "pure" prefix so the remaining code in this section functions correctly
+            boolean pure = pattern.startsWith("pure");
+            String authorPattern = pure ? pattern.substring(4) : pattern;
+
+            Optional<Function<AuthorList, String>> authorFormat = parseAuthorFormat(authorPattern);
+            if (authorFormat.isEmpty()) {
+                // This "auth" business was a dead end, so just
+                // use it literally:
+                return fieldValue(FieldFactory.parseField(authorPattern), Function.identity());
+            }
+            return (entry, _, database) -> {
+                String unparsedAuthors = entry.getResolvedFieldOrAlias(StandardField.AUTHOR, database).orElse("");
+                if (!pure && unparsedAuthors.isEmpty()) {
                     // special feature: A pattern starting with "auth" falls back to the editor
                     unparsedAuthors = entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse("");
                 }
-
-                AuthorList authorList = createAuthorList(unparsedAuthors);
-
-                // Gather all author-related checks, so we don't
-                // have to check all the time.
-                switch (pattern) {
-                    case "auth":
-                        return firstAuthor(authorList);
-                    case "authForeIni":
-                        return firstAuthorForenameInitials(authorList);
-                    case "authFirstFull":
-                        return firstAuthorVonAndLast(authorList);
-                    case "authors":
-                        return allAuthors(authorList);
-                    case "authorsAlpha":
-                        return authorsAlpha(authorList);
-                    case "authorsAlphaLNI":
-                        return authorsAlphaLNI(authorList);
-                    case "authorLast":
-                        return lastAuthor(authorList);
-                    case "authorLastForeIni":
-                        return lastAuthorForenameInitials(authorList);
-                    case "authorIni":
-                        return oneAuthorPlusInitials(authorList);
-                    case "auth.auth.ea":
-                        return authAuthEa(authorList);
-                    case "auth.etal":
-                        return authEtal(authorList, ".", ".etal");
-                    case "authEtAl":
-                        return authEtal(authorList, "", "EtAl");
-                    case "authshort":
-                        return authShort(authorList);
-                }
-
-                if (pattern.matches("authIni[\\d]+")) {
-                    int num = Integer.parseInt(pattern.substring(7));
-                    return authIniN(authorList, num);
-                } else if (pattern.matches("auth[\\d]+_[\\d]+")) {
-                    String[] nums = pattern.substring(4).split("_");
-                    return authNofMth(authorList, Integer.parseInt(nums[0]),
-                            Integer.parseInt(nums[1]));
-                } else if (pattern.matches("auth\\d+")) {
-                    // authN. First N chars of the first author's last name.
-                    int num = Integer.parseInt(pattern.substring(4));
-                    return authN(authorList, num);
-                } else if (pattern.matches("authors\\d+")) {
-                    return nAuthors(authorList, Integer.parseInt(pattern.substring(7)));
-                } else {
-                    // This "auth" business was a dead end, so just
-                    // use it literally:
-                    return entry.getResolvedFieldOrAlias(FieldFactory.parseField(pattern), database).orElse("");
-                }
-            } else if (pattern.startsWith("ed")) {
-                // Gather all markers starting with "ed" here, so we
-                // don't have to check all the time.
+                return authorFormat.get().apply(createAuthorList(unparsedAuthors));
+            };
+        } else if (pattern.startsWith("ed")) {
+            Optional<Function<AuthorList, String>> editorFormat = parseEditorFormat(pattern);
+            if (editorFormat.isEmpty()) {
+                // This "ed" business was a dead end, so just
+                // use it literally:
+                return fieldValue(FieldFactory.parseField(pattern), Function.identity());
+            }
+            return (entry, _, database) -> {
                 String unparsedEditors = entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse("");
-                AuthorList editorList = createAuthorList(unparsedEditors);
-
-                switch (pattern) {
-                    case "edtr":
-                        return firstAuthor(editorList);
-                    case "edtrForeIni":
-                        return firstAuthorForenameInitials(editorList);
-                    case "editors":
-                        return allAuthors(editorList);
-                    case "editorLast":
-                        return lastAuthor(editorList); // Last author's last name
-                    case "editorLastForeIni":
-                        return lastAuthorForenameInitials(editorList);
-                    case "editorIni":
-                        return oneAuthorPlusInitials(editorList);
-                    case "edtr.edtr.ea":
-                        return authAuthEa(editorList);
-                    case "edtrshort":
-                        return authShort(editorList);
-                }
-
-                if (pattern.matches("edtrIni[\\d]+")) {
-                    int num = Integer.parseInt(pattern.substring(7));
-                    return authIniN(editorList, num);
-                } else if (pattern.matches("edtr[\\d]+_[\\d]+")) {
-                    String[] nums = pattern.substring(4).split("_");
-                    return authNofMth(editorList,
-                            Integer.parseInt(nums[0]),
-                            Integer.parseInt(nums[1]));
-                } else if (pattern.matches("edtr\\d+")) {
-                    String fa = firstAuthor(editorList);
-                    int num = Integer.parseInt(pattern.substring(4));
-                    if (num > fa.length()) {
-                        num = fa.length();
-                    }
-                    return fa.substring(0, num);
-                } else {
-                    // This "ed" business was a dead end, so just
-                    // use it literally:
-                    return entry.getResolvedFieldOrAlias(FieldFactory.parseField(pattern), database).orElse("");
-                }
-            } else if ("firstpage".equals(pattern)) {
-                return firstPage(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
-            } else if ("pageprefix".equals(pattern)) {
-                return pagePrefix(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
-            } else if ("lastpage".equals(pattern)) {
-                return lastPage(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
-            } else if ("title".equals(pattern)) {
-                return camelizeSignificantWordsInTitle(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""));
-            } else if ("fulltitle".equals(pattern)) {
-                return entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("");
-            } else if ("shorttitle".equals(pattern)) {
-                return getTitleWords(3,
-                        removeSmallWords(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")));
-            } else if ("shorttitleINI".equals(pattern)) {
-                return keepLettersAndDigitsOnly(
-                        applyModifiers(getTitleWordsWithSpaces(3, entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")),
-                                List.of("abbr"), 0, Function.identity()));
-            } else if ("veryshorttitle".equals(pattern)) {
-                return getTitleWords(1,
-                        removeSmallWords(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")));
-            } else if (pattern.matches("camel[\\d]+")) {
-                int num = Integer.parseInt(pattern.substring(5));
-                return getCamelizedTitle_N(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""), num);
-            } else if ("camel".equals(pattern)) {
-                return getCamelizedTitle(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""));
-            } else if ("shortyear".equals(pattern)) {
-                String yearString = entry.getResolvedFieldOrAlias(StandardField.YEAR, database).orElse("");
-                if (yearString.isEmpty()) {
-                    return yearString;
-                    // In press/in preparation/submitted
-                } else if (yearString.startsWith("in") || yearString.startsWith("sub")) {
-                    return "IP";
-                } else if (yearString.length() > 2) {
-                    return yearString.substring(yearString.length() - 2);
-                } else {
-                    return yearString;
-                }
-            } else if ("entrytype".equals(pattern)) {
-                return entry.getResolvedFieldOrAlias(InternalField.TYPE_HEADER, database).orElse("");
-            } else if (pattern.matches("keyword\\d+")) {
-                // according to LabelPattern.php, it returns keyword number n
-                int num = Integer.parseInt(pattern.substring(7));
+                return editorFormat.get().apply(createAuthorList(unparsedEditors));
+            };
+        } else if ("firstpage".equals(pattern)) {
+            return fieldValue(StandardField.PAGES, BracketedPattern::firstPage);
+        } else if ("pageprefix".equals(pattern)) {
+            return fieldValue(StandardField.PAGES, BracketedPattern::pagePrefix);
+        } else if ("lastpage".equals(pattern)) {
+            return fieldValue(StandardField.PAGES, BracketedPattern::lastPage);
+        } else if ("title".equals(pattern)) {
+            return fieldValue(StandardField.TITLE, BracketedPattern::camelizeSignificantWordsInTitle);
+        } else if ("fulltitle".equals(pattern)) {
+            return fieldValue(StandardField.TITLE, Function.identity());
+        } else if ("shorttitle".equals(pattern)) {
+            return fieldValue(StandardField.TITLE, title -> getTitleWords(3, removeSmallWords(title)));
+        } else if ("shorttitleINI".equals(pattern)) {
+            return fieldValue(StandardField.TITLE, title -> keepLettersAndDigitsOnly(abbreviate(getTitleWordsWithSpaces(3, title))));
+        } else if ("veryshorttitle".equals(pattern)) {
+            return fieldValue(StandardField.TITLE, title -> getTitleWords(1, removeSmallWords(title)));
+        } else if (pattern.matches("camel[\\d]+")) {
+            int num = Integer.parseInt(pattern.substring(5));
+            return fieldValue(StandardField.TITLE, title -> getCamelizedTitle_N(title, num));
+        } else if ("camel".equals(pattern)) {
+            return fieldValue(StandardField.TITLE, BracketedPattern::getCamelizedTitle);
+        } else if ("shortyear".equals(pattern)) {
+            return fieldValue(StandardField.YEAR, BracketedPattern::shortYear);
+        } else if ("entrytype".equals(pattern)) {
+            return fieldValue(InternalField.TYPE_HEADER, Function.identity());
+        } else if (pattern.matches("keyword\\d+")) {
+            // according to LabelPattern.php, it returns keyword number n
+            int num = Integer.parseInt(pattern.substring(7));
+            return (entry, keywordDelimiter, database) -> {
                 KeywordList separatedKeywords = entry.getResolvedKeywords(keywordDelimiter, database);
                 if (separatedKeywords.size() < num) {
                     // not enough keywords
@@ -489,14 +346,16 @@ public class BracketedPattern {
                     // num counts from 1 to n, but index in arrayList count from 0 to n-1
                     return separatedKeywords.get(num - 1).toString();
                 }
-            } else if (pattern.matches("keywords\\d*")) {
-                // return all keywords, not separated
-                int num;
-                if (pattern.length() > 8) {
-                    num = Integer.parseInt(pattern.substring(8));
-                } else {
-                    num = Integer.MAX_VALUE;
-                }
+            };
+        } else if (pattern.matches("keywords\\d*")) {
+            // return all keywords, not separated
+            int num;
+            if (pattern.length() > 8) {
+                num = Integer.parseInt(pattern.substring(8));
+            } else {
+                num = Integer.MAX_VALUE;
+            }
+            return (entry, keywordDelimiter, database) -> {
                 KeywordList separatedKeywords = entry.getResolvedKeywords(keywordDelimiter, database);
                 StringBuilder sb = new StringBuilder();
                 int i = 0;
@@ -510,13 +369,139 @@ public class BracketedPattern {
                     }
                 }
                 return sb.toString();
-            } else {
-                // we haven't seen any special demands
-                return entry.getResolvedFieldOrAlias(FieldFactory.parseField(pattern), database).orElse("");
-            }
-        } catch (NullPointerException ex) {
-            LOGGER.debug("Problem making expanding bracketed expression", ex);
-            return "";
+            };
+        } else {
+            // we haven't seen any special demands
+            return fieldValue(FieldFactory.parseField(pattern), Function.identity());
+        }
+    }
+
+    /**
+     * @return a field marker formatting the value of the given field, or the empty string if the field is not set
+     */
+    private static FieldMarker fieldValue(Field field, Function<String, String> format) {
+        return (entry, _, database) -> format.apply(entry.getResolvedFieldOrAlias(field, database).orElse(""));
+    }
+
+    /**
+     * @param pattern a pattern starting with "auth"
+     * @return the function formatting the authors, or an empty optional if the pattern is not an author pattern
+     */
+    private static Optional<Function<AuthorList, String>> parseAuthorFormat(String pattern) {
+        // Gather all author-related checks, so we don't
+        // have to check all the time.
+        Function<AuthorList, String> format = switch (pattern) {
+            case "auth" ->
+                    BracketedPattern::firstAuthor;
+            case "authForeIni" ->
+                    BracketedPattern::firstAuthorForenameInitials;
+            case "authFirstFull" ->
+                    BracketedPattern::firstAuthorVonAndLast;
+            case "authors" ->
+                    BracketedPattern::allAuthors;
+            case "authorsAlpha" ->
+                    BracketedPattern::authorsAlpha;
+            case "authorsAlphaLNI" ->
+                    BracketedPattern::authorsAlphaLNI;
+            case "authorLast" ->
+                    BracketedPattern::lastAuthor;
+            case "authorLastForeIni" ->
+                    BracketedPattern::lastAuthorForenameInitials;
+            case "authorIni" ->
+                    BracketedPattern::oneAuthorPlusInitials;
+            case "auth.auth.ea" ->
+                    BracketedPattern::authAuthEa;
+            case "auth.etal" ->
+                    authorList -> authEtal(authorList, ".", ".etal");
+            case "authEtAl" ->
+                    authorList -> authEtal(authorList, "", "EtAl");
+            case "authshort" ->
+                    BracketedPattern::authShort;
+            default ->
+                    null;
+        };
+        if (format != null) {
+            return Optional.of(format);
+        }
+
+        if (pattern.matches("authIni[\\d]+")) {
+            int num = Integer.parseInt(pattern.substring(7));
+            return Optional.of(authorList -> authIniN(authorList, num));
+        } else if (pattern.matches("auth[\\d]+_[\\d]+")) {
+            String[] nums = pattern.substring(4).split("_");
+            int n = Integer.parseInt(nums[0]);
+            int m = Integer.parseInt(nums[1]);
+            return Optional.of(authorList -> authNofMth(authorList, n, m));
+        } else if (pattern.matches("auth\\d+")) {
+            // authN. First N chars of the first author's last name.
+            int num = Integer.parseInt(pattern.substring(4));
+            return Optional.of(authorList -> authN(authorList, num));
+        } else if (pattern.matches("authors\\d+")) {
+            int num = Integer.parseInt(pattern.substring(7));
+            return Optional.of(authorList -> nAuthors(authorList, num));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param pattern a pattern starting with "ed"
+     * @return the function formatting the editors, or an empty optional if the pattern is not an editor pattern
+     */
+    private static Optional<Function<AuthorList, String>> parseEditorFormat(String pattern) {
+        // Gather all markers starting with "ed" here, so we
+        // don't have to check all the time.
+        Function<AuthorList, String> format = switch (pattern) {
+            case "edtr" ->
+                    BracketedPattern::firstAuthor;
+            case "edtrForeIni" ->
+                    BracketedPattern::firstAuthorForenameInitials;
+            case "editors" ->
+                    BracketedPattern::allAuthors;
+            case "editorLast" ->
+                    BracketedPattern::lastAuthor; // Last author's last name
+            case "editorLastForeIni" ->
+                    BracketedPattern::lastAuthorForenameInitials;
+            case "editorIni" ->
+                    BracketedPattern::oneAuthorPlusInitials;
+            case "edtr.edtr.ea" ->
+                    BracketedPattern::authAuthEa;
+            case "edtrshort" ->
+                    BracketedPattern::authShort;
+            default ->
+                    null;
+        };
+        if (format != null) {
+            return Optional.of(format);
+        }
+
+        if (pattern.matches("edtrIni[\\d]+")) {
+            int num = Integer.parseInt(pattern.substring(7));
+            return Optional.of(editorList -> authIniN(editorList, num));
+        } else if (pattern.matches("edtr[\\d]+_[\\d]+")) {
+            String[] nums = pattern.substring(4).split("_");
+            int n = Integer.parseInt(nums[0]);
+            int m = Integer.parseInt(nums[1]);
+            return Optional.of(editorList -> authNofMth(editorList, n, m));
+        } else if (pattern.matches("edtr\\d+")) {
+            int num = Integer.parseInt(pattern.substring(4));
+            return Optional.of(editorList -> {
+                String fa = firstAuthor(editorList);
+                return fa.substring(0, Math.min(num, fa.length()));
+            });
+        }
+        return Optional.empty();
+    }
+
+    private static String shortYear(String yearString) {
+        if (yearString.isEmpty()) {
+            return yearString;
+            // In press/in preparation/submitted
+        } else if (yearString.startsWith("in") || yearString.startsWith("sub")) {
+            return "IP";
+        } else if (yearString.length() > 2) {
+            return yearString.substring(yearString.length() - 2);
+        } else {
+            return yearString;
         }
     }
 
@@ -559,46 +544,42 @@ public class BracketedPattern {
     }
 
     /**
-     * Applies modifiers to a label generated based on a field marker.
-     *
-     * @param label                The generated label.
-     * @param parts                String array containing the modifiers.
-     * @param offset               The number of initial items in the modifiers array to skip.
-     * @param expandBracketContent a function to expand the content in the parentheses.
-     * @return The modified label.
+     * Resolves a modifier of a field marker to a function applying it to a label. Thus, the modifier is parsed only
+     * once for all entries.
      */
-    static String applyModifiers(final String label, final List<String> parts, final int offset, Function<String, String> expandBracketContent) {
-        String resultingLabel = label;
-        for (int j = offset; j < parts.size(); j++) {
-            String modifier = parts.get(j);
-
-            if ("abbr".equals(modifier)) {
-                // Abbreviate - that is,
-                StringBuilder abbreviateSB = new StringBuilder();
-                String[] words = resultingLabel.replaceAll("[\\{\\}']", "")
-                                               .split("[\\(\\) \r\n\"]");
-                for (String word : words) {
-                    if (!word.isEmpty()) {
-                        abbreviateSB.append(word.charAt(0));
-                    }
-                }
-                resultingLabel = abbreviateSB.toString();
-            } else {
-                Optional<Formatter> formatter = Formatters.getFormatterForModifier(modifier);
-                if (formatter.isPresent()) {
-                    resultingLabel = formatter.get().format(resultingLabel);
-                } else if (!modifier.isEmpty() && (modifier.length() >= 2) && (modifier.charAt(0) == '(') && modifier.endsWith(")")) {
-                    // Alternate text modifier in parentheses. Should be inserted if the label is empty
-                    if (label.isEmpty() && (modifier.length() > 2)) {
-                        resultingLabel = expandBrackets(modifier.substring(1, modifier.length() - 1), expandBracketContent);
-                    }
-                } else {
-                    LOGGER.warn("Key generator warning: unknown modifier '{}'.", modifier);
-                }
+    static Modifier compileModifier(String modifier) {
+        if ("abbr".equals(modifier)) {
+            return (label, _, _) -> abbreviate(label);
+        }
+        Optional<Formatter> formatter = Formatters.getFormatterForModifier(modifier);
+        if (formatter.isPresent()) {
+            return (label, _, _) -> formatter.get().format(label);
+        } else if (!modifier.isEmpty() && (modifier.length() >= 2) && (modifier.charAt(0) == '(') && modifier.endsWith(")")) {
+            // Alternate text modifier in parentheses. Should be inserted if the label is empty
+            if (modifier.length() == 2) {
+                return (label, _, _) -> label;
             }
+            CompiledBracketedPattern alternative = CompiledBracketedPattern.compile(modifier.substring(1, modifier.length() - 1));
+            return (label, originalLabel, expandBracketContent) -> originalLabel.isEmpty() ? alternative.expand(expandBracketContent) : label;
+        } else {
+            LOGGER.warn("Key generator warning: unknown modifier '{}'.", modifier);
+            return (label, _, _) -> label;
         }
+    }
 
-        return resultingLabel;
+    /**
+     * Abbreviates the label, that is, keeps the first character of each word
+     */
+    private static String abbreviate(String label) {
+        StringBuilder abbreviateSB = new StringBuilder();
+        String[] words = label.replaceAll("[\\{\\}']", "")
+                              .split("[\\(\\) \r\n\"]");
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                abbreviateSB.append(word.charAt(0));
+            }
+        }
+        return abbreviateSB.toString();
     }
 
     /**
@@ -1,19 +1,28 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.PatternSyntaxException;
 
+import org.jabref.logic.citationkeypattern.CompiledBracketedPattern.Bracket;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.eventbus.Subscribe;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -104,11 +113,24 @@ public class CitationKeyGenerator extends BracketedPattern {
      * @return a citation key based on the user's preferences
      */
     public String generateKey(@NonNull BibEntry entry) {
-        String currentKey = entry.getCitationKey().orElse(null);
+        return generateKey(entry, expandPattern(entry));
+    }
 
-        String newKey = createCitationKeyFromPattern(entry);
-        newKey = replaceWithRegex(newKey);
-        newKey = appendLettersToKey(newKey, currentKey);
+    /**
+     * Expands the pattern of the entry. The result depends on the fields of the entry (and of referenced entries) only,
+     * thus it can be computed for several entries in parallel.
+     */
+    private String expandPattern(BibEntry entry) {
+        String key = createCitationKeyFromPattern(entry);
+        return replaceWithRegex(key);
+    }
+
+    /**
+     * Makes the expanded pattern unique among the keys of the database
+     */
+    private String generateKey(BibEntry entry, String expandedPattern) {
+        String currentKey = entry.getCitationKey().orElse(null);
+        String newKey = appendLettersToKey(expandedPattern, currentKey);
         return cleanKey(newKey, unwantedCharacters);
     }
 
@@ -191,20 +213,13 @@ public class CitationKeyGenerator extends BracketedPattern {
      * @param entry the {@link BibEntry} that a citation key is generated for
      * @return a cleaned citation key for the given {@link BibEntry}
      */
-    private Function<String, String> expandBracketContent(BibEntry entry) {
+    private Function<Bracket, String> expandBracketContent(BibEntry entry) {
         Character keywordDelimiter = citationKeyPatternPreferences.getKeywordDelimiter();
 
-        return (String bracket) -> {
-            String expandedPattern;
-            List<String> fieldParts = parseFieldAndModifiers(bracket);
-
-            expandedPattern = removeUnwantedCharacters(getFieldValue(entry, fieldParts.getFirst(), keywordDelimiter, database), unwantedCharacters);
-            // check whether there is a modifier on the end such as
-            // ":lower":
-            if (fieldParts.size() > 1) {
-                // apply modifiers:
-                expandedPattern = applyModifiers(expandedPattern, fieldParts, 1, expandBracketContent(entry));
-            }
+        return (Bracket bracket) -> {
+            String expandedPattern = removeUnwantedCharacters(bracket.getFieldValue(entry, keywordDelimiter, database), unwantedCharacters);
+            // apply modifiers such as ":lower"
+            expandedPattern = bracket.applyModifiers(expandedPattern, expandBracketContent(entry));
             return cleanKey(expandedPattern, unwantedCharacters);
         };
     }
@@ -219,4 +234,60 @@ public class CitationKeyGenerator extends BracketedPattern {
         String newKey = generateKey(entry);
         return entry.setCitationKey(newKey);
     }
+
+    /**
+     * Generates citation keys for the given entries, and sets the keys. The keys are the same as if
+     * {@link #generateAndSetKey(BibEntry)} was called for each entry in the given order.
+     * <p>
+     * The patterns are expanded in parallel. Afterwards, the keys are made unique and set one entry after the other,
+     * because each key has to be unique among the keys set before. Setting a key may update the links of other entries
+     * (see {@link org.jabref.model.database.KeyChangeListener}), or give a key to the entry referenced by the crossref of
+     * another entry. The pattern of such an entry is expanded again.
+     *
+     * @param entries the entries to generate keys for
+     * @return the changes to the keys
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries) {
+        List<String> expandedPatterns = entries.parallelStream()
+                                               .map(this::expandPattern)
+                                               .toList();
+
+        List<FieldChange> changes = new ArrayList<>();
+        // The old and the new keys of the entries handled so far. A crossref naming one of them resolves differently now.
+        Set<String> changedKeys = new HashSet<>();
+        ChangedEntriesListener changedEntriesListener = new ChangedEntriesListener();
+        database.registerListener(changedEntriesListener);
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                BibEntry entry = entries.get(i);
+                boolean referencesChangedKey = entry.getField(StandardField.CROSSREF).filter(changedKeys::contains).isPresent();
+                String expandedPattern = (changedEntriesListener.hasChanged(entry) || referencesChangedKey) ? expandPattern(entry) : expandedPatterns.get(i);
+                entry.setCitationKey(generateKey(entry, expandedPattern)).ifPresent(change -> {
+                    changes.add(change);
+                    Optional.ofNullable(change.getOldValue()).ifPresent(changedKeys::add);
+                    Optional.ofNullable(change.getNewValue()).ifPresent(changedKeys::add);
+                });
+            }
+        } finally {
+            database.unregisterListener(changedEntriesListener);
+        }
+        return changes;
+    }
+
+    /**
+     * Records the entries changed while the keys of a batch are set
+     */
+    private static class ChangedEntriesListener {
+        // Identity, because the hash code of an entry changes with its fields
+        private final Set<BibEntry> changedEntries = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            changedEntries.add(event.getBibEntry());
+        }
+
+        boolean hasChanged(BibEntry entry) {
+            return changedEntries.contains(entry);
+        }
+    }
 }
@@ -0,0 +1,238 @@
+package org.jabref.logic.citationkeypattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.function.Function;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bracketed pattern, such as <code>[auth][year][shorttitle:lower]</code>, parsed into literal text and bracketed
+ * expressions. The field marker and the modifiers of each bracketed expression are resolved when compiling, thus
+ * expanding the pattern for an entry does not parse the pattern again.
+ * <p>
+ * Compiled patterns are immutable and cached per pattern string (see {@link #compile(String)}).
+ */
+public final class CompiledBracketedPattern {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledBracketedPattern.class);
+
+    private static final int CACHE_SIZE = 256;
+
+    /**
+     * Replaces escaped quotes while expanding, so that they are not treated as the beginning or the end of a quote
+     */
+    private static final String QUOTE_PLACEHOLDER = "\u0A17";
+
+    private static final Cache<String, CompiledBracketedPattern> CACHE = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    private final List<Part> parts;
+
+    private CompiledBracketedPattern(List<Part> parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * Returns the compiled form of the given pattern. Patterns are compiled once and reused afterward.
+     */
+    public static CompiledBracketedPattern compile(@NonNull String pattern) {
+        // Not using Cache#get, because compiling the alternative text of a modifier compiles another pattern
+        CompiledBracketedPattern compiled = CACHE.getIfPresent(pattern);
+        if (compiled == null) {
+            compiled = parse(pattern);
+            CACHE.put(pattern, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Expands the pattern using the given entry
+     *
+     * @param keywordDelimiter The keyword delimiter to use
+     * @param entry            The entry to use for expansion
+     * @param database         The database for field resolving. May be null.
+     * @return The expanded pattern. Not null.
+     */
+    public String expand(Character keywordDelimiter, @NonNull BibEntry entry, BibDatabase database) {
+        return expand(BracketedPattern.expandBracketContent(keywordDelimiter, entry, database));
+    }
+
+    /**
+     * Expands the pattern
+     *
+     * @param bracketContentHandler A function expanding a bracketed expression, e.g.,
+     *                              {@link BracketedPattern#expandBracketContent(Character, BibEntry, BibDatabase)}
+     * @return The expanded pattern. Not null.
+     */
+    public String expand(Function<Bracket, String> bracketContentHandler) {
+        StringBuilder expandedPattern = new StringBuilder();
+        for (Part part : parts) {
+            switch (part) {
+                case Literal literal ->
+                        expandedPattern.append(literal.text());
+                case Bracket bracket ->
+                        expandedPattern.append(bracketContentHandler.apply(bracket));
+            }
+        }
+        return expandedPattern.toString().replace(QUOTE_PLACEHOLDER, "\\\"");
+    }
+
+    private static CompiledBracketedPattern parse(String pattern) {
+        List<Part> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        pattern = pattern.replace("\\\"", QUOTE_PLACEHOLDER);
+        StringTokenizer parsedPattern = new StringTokenizer(pattern, "\\[]\"", true);
+
+        while (parsedPattern.hasMoreTokens()) {
+            String token = parsedPattern.nextToken();
+            switch (token) {
+                case "\"" ->
+                        appendQuote(literal, parsedPattern);
+                case "[" -> {
+                    if (!literal.isEmpty()) {
+                        parts.add(new Literal(literal.toString()));
+                        literal.setLength(0);
+                    }
+                    parts.add(new Bracket(contentBetweenBrackets(parsedPattern, pattern)));
+                }
+                case "\\" -> {
+                    if (parsedPattern.hasMoreTokens()) {
+                        literal.append(parsedPattern.nextToken());
+                    } else {
+                        LOGGER.warn("Found a \"\\\" that is not part of an escape sequence");
+                    }
+                }
+                default ->
+                        literal.append(token);
+            }
+        }
+        if (!literal.isEmpty()) {
+            parts.add(new Literal(literal.toString()));
+        }
+
+        return new CompiledBracketedPattern(List.copyOf(parts));
+    }
+
+    /**
+     * Returns the content enclosed between brackets, including enclosed quotes, and excluding the paired enclosing brackets.
+     * There may be brackets in it.
+     * Intended to be used by {@link #parse(String)} when a [ is encountered, and has been consumed, by the
+     * {@code StringTokenizer}.
+     *
+     * @param pattern   pattern being parsed, used for logging
+     * @param tokenizer the tokenizer producing the tokens
+     * @return the content enclosed by brackets
+     */
+    private static String contentBetweenBrackets(StringTokenizer tokenizer, final String pattern) {
+        StringBuilder bracketContent = new StringBuilder();
+        boolean foundClosingBracket = false;
+        int subBrackets = 0;
+        // make sure to read until the paired ']'
+        while (tokenizer.hasMoreTokens() && !foundClosingBracket) {
+            String token = tokenizer.nextToken();
+            // If the beginning of a quote is found, append the content
+            switch (token) {
+                case "\"" ->
+                        appendQuote(bracketContent, tokenizer);
+                case "]" -> {
+                    if (subBrackets == 0) {
+                        foundClosingBracket = true;
+                    } else {
+                        subBrackets--;
+                        bracketContent.append(token);
+                    }
+                }
+                case "[" -> {
+                    subBrackets++;
+                    bracketContent.append(token);
+                }
+                default ->
+                        bracketContent.append(token);
+            }
+        }
+
+        if (!foundClosingBracket) {
+            LOGGER.warn("Missing closing bracket ']' in '{}'", pattern);
+        } else if (bracketContent.isEmpty()) {
+            LOGGER.warn("Found empty brackets \"[]\" in '{}'", pattern);
+        }
+        return bracketContent.toString();
+    }
+
+    /**
+     * Appends the content between, and including, two \" to the provided <code>StringBuilder</code>. Intended to be
+     * used by {@link #parse(String)} when a \" is encountered by the StringTokenizer.
+     *
+     * @param stringBuilder the <code>StringBuilder</code> to which tokens will be appended
+     * @param tokenizer     the tokenizer producing the tokens
+     */
+    private static void appendQuote(StringBuilder stringBuilder, StringTokenizer tokenizer) {
+        stringBuilder.append("\"");  // We know that the previous token was \"
+        String token = "";
+        while (tokenizer.hasMoreTokens() && !"\"".equals(token)) {
+            token = tokenizer.nextToken();
+            stringBuilder.append(token);
+        }
+    }
+
+    private sealed interface Part permits Literal, Bracket {
+    }
+
+    private record Literal(String text) implements Part {
+    }
+
+    /**
+     * A bracketed expression, consisting of a field marker and its modifiers, e.g., <code>[shorttitle:lower]</code>
+     */
+    public static final class Bracket implements Part {
+        private final String content;
+        private final BracketedPattern.FieldMarker fieldMarker;
+        private final List<BracketedPattern.Modifier> modifiers;
+
+        private Bracket(String content) {
+            this.content = content;
+            List<String> fieldParts = BracketedPattern.parseFieldAndModifiers(content);
+            this.fieldMarker = BracketedPattern.compileFieldMarker(fieldParts.getFirst());
+            this.modifiers = fieldParts.stream()
+                                       .skip(1)
+                                       .map(BracketedPattern::compileModifier)
+                                       .toList();
+        }
+
+        /**
+         * @param database The database to use for field resolving. May be null.
+         * @return the value of the field marker. Empty string if the field marker cannot be resolved.
+         */
+        public String getFieldValue(BibEntry entry, Character keywordDelimiter, BibDatabase database) {
+            return fieldMarker.getValue(entry, keywordDelimiter, database);
+        }
+
+        /**
+         * Applies the modifiers to a label generated based on the field marker.
+         *
+         * @param label                The generated label.
+         * @param expandBracketContent a function to expand the brackets of an alternative text in parentheses.
+         * @return The modified label.
+         */
+        public String applyModifiers(String label, Function<Bracket, String> expandBracketContent) {
+            String resultingLabel = label;
+            for (BracketedPattern.Modifier modifier : modifiers) {
+                resultingLabel = modifier.apply(resultingLabel, label, expandBracketContent);
+            }
+            return resultingLabel;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + content + "]";
+        }
+    }
+}
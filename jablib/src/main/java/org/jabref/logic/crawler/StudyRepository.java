@@ -425,7 +425,7 @@ public class StudyRepository {
     private void generateCiteKeys(BibDatabaseContext existingEntries, BibDatabase targetEntries) {
         CitationKeyGenerator citationKeyGenerator = new CitationKeyGenerator(existingEntries,
                 preferences.getCitationKeyPatternPreferences());
-        targetEntries.getEntries().stream().filter(bibEntry -> !bibEntry.hasCitationKey()).forEach(citationKeyGenerator::generateAndSetKey);
+        citationKeyGenerator.generateAndSetKeys(targetEntries.getEntries().stream().filter(bibEntry -> !bibEntry.hasCitationKey()).toList());
     }
 
     private void writeResultToFile(Path pathToFile, BibDatabaseContext context) throws SaveException {
@@ -0,0 +1,159 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Finds all pairs of duplicates in a list of entries.
+ * <p>
+ * Comparing each entry with each other entry takes quadratic time. Thus, the entries are first grouped into blocks
+ * sharing a blocking key: an identifier (e.g., DOI), the ISBN, a pair of consecutive title words, or the family name
+ * of the first author together with the year. Only entries sharing a block are compared by
+ * {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}. Duplicates sharing no key at all, e.g.,
+ * entries whose titles differ in every pair of words, are not found.
+ * <p>
+ * Apart from identifiers and the ISBN, blocks are formed per entry type, because
+ * {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)} does not consider entries of different
+ * types as duplicates otherwise. Blocks of more than {@link #MAX_BLOCK_SIZE} entries (e.g., for the title words "of the")
+ * do not narrow the candidates and are ignored.
+ */
+public class DuplicateFinder {
+
+    static final int MAX_BLOCK_SIZE = 500;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DuplicateFinder.class);
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final DuplicateCheck duplicateCheck;
+
+    public DuplicateFinder(DuplicateCheck duplicateCheck) {
+        this.duplicateCheck = duplicateCheck;
+    }
+
+    /**
+     * Compares the entries in parallel on the common fork-join pool. Each pair of duplicates is passed to the consumer
+     * as soon as it is found, with the entry earlier in the list first. The consumer is called from several threads.
+     * <p>
+     * If the calling thread is interrupted, the search stops early.
+     *
+     * @param onDuplicateFound called for each pair of duplicates. Has to be thread-safe.
+     */
+    public void findDuplicates(List<BibEntry> entries, BibDatabaseMode bibDatabaseMode, BiConsumer<BibEntry, BibEntry> onDuplicateFound) {
+        long start = System.nanoTime();
+        List<BibEntry> entryList = List.copyOf(entries);
+        List<Set<String>> keysOfEntries = entryList.stream().map(DuplicateFinder::getBlockingKeys).toList();
+
+        Map<String, List<Integer>> blockBuilders = new HashMap<>();
+        for (int i = 0; i < entryList.size(); i++) {
+            for (String key : keysOfEntries.get(i)) {
+                blockBuilders.computeIfAbsent(key, _ -> new ArrayList<>()).add(i);
+            }
+        }
+        Map<String, int[]> blocks = HashMap.newHashMap(blockBuilders.size());
+        blockBuilders.forEach((key, indices) -> {
+            if (indices.size() > 1 && (indices.size() <= MAX_BLOCK_SIZE || isIdentifierKey(key))) {
+                blocks.put(key, indices.stream().mapToInt(Integer::intValue).toArray());
+            }
+        });
+
+        Thread caller = Thread.currentThread();
+        IntStream.range(0, entryList.size()).parallel().forEach(i -> {
+            if (caller.isInterrupted()) {
+                return;
+            }
+            BibEntry first = entryList.get(i);
+            for (int j : getCandidates(i, keysOfEntries.get(i), blocks)) {
+                BibEntry second = entryList.get(j);
+                if (duplicateCheck.isDuplicate(first, second, bibDatabaseMode)) {
+                    onDuplicateFound.accept(first, second);
+                }
+            }
+        });
+        LOGGER.debug("Searched {} entries in {} blocks for duplicates in {} ms", entryList.size(), blocks.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @return the ascending indices of the entries after the given one sharing a block with it
+     */
+    private static int[] getCandidates(int index, Set<String> keys, Map<String, int[]> blocks) {
+        IntStream.Builder candidates = IntStream.builder();
+        for (String key : keys) {
+            int[] block = blocks.get(key);
+            if (block == null) {
+                continue;
+            }
+            int position = Arrays.binarySearch(block, index);
+            for (int k = position + 1; k < block.length; k++) {
+                candidates.add(block[k]);
+            }
+        }
+        return candidates.build().sorted().distinct().toArray();
+    }
+
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new LinkedHashSet<>();
+
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).ifPresent(value -> keys.add(identifierKey(field.getName(), value)));
+            }
+        }
+        entry.getISBN().ifPresent(isbn -> keys.add(identifierKey(StandardField.ISBN.getName(), isbn.asString().toLowerCase(Locale.ROOT))));
+
+        String type = entry.getType().getName() + ":";
+        entry.getFieldLatexFree(StandardField.TITLE).ifPresent(title -> {
+            List<String> words = Arrays.stream(NON_WORD_CHARACTERS.split(title.toLowerCase(Locale.ROOT)))
+                                       .filter(word -> !word.isEmpty())
+                                       .toList();
+            if (words.size() == 1) {
+                keys.add(type + "title:" + words.getFirst());
+            }
+            for (int i = 0; i + 1 < words.size(); i++) {
+                keys.add(type + "title:" + words.get(i) + " " + words.get(i + 1));
+            }
+        });
+
+        Optional<String> year = entry.getFieldOrAlias(StandardField.YEAR);
+        getFirstFamilyName(entry).ifPresent(familyName -> keys.add(type + "author:" + familyName + ":" + year.orElse("")));
+
+        return keys;
+    }
+
+    private static Optional<String> getFirstFamilyName(BibEntry entry) {
+        return entry.getFieldLatexFree(StandardField.AUTHOR)
+                    .or(() -> entry.getFieldLatexFree(StandardField.EDITOR))
+                    .map(AuthorList::parse)
+                    .filter(authors -> !authors.isEmpty())
+                    .flatMap(authors -> authors.getAuthor(0).getFamilyName())
+                    .map(familyName -> familyName.toLowerCase(Locale.ROOT));
+    }
+
+    private static String identifierKey(String fieldName, String value) {
+        return "id:" + fieldName + ":" + value;
+    }
+
+    private static boolean isIdentifierKey(String key) {
+        // Entries sharing an identifier are very likely duplicates, thus such blocks are compared regardless of their size
+        return key.startsWith("id:");
+    }
+}
@@ -1,6 +1,7 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -73,6 +74,7 @@ public class BibDatabaseWriter {
     protected final List<FieldChange> saveActionsFieldChanges = new ArrayList<>();
     protected final BibEntryTypesManager entryTypesManager;
     protected final FieldPreferences fieldPreferences;
+    private final BibEntryWriter bibEntryWriter;
 
     public BibDatabaseWriter(@NonNull BibWriter bibWriter,
                              SelfContainedSaveConfiguration saveConfiguration,
@@ -84,6 +86,7 @@ public class BibDatabaseWriter {
         this.keyPatternPreferences = keyPatternPreferences;
         this.fieldPreferences = fieldPreferences;
         this.entryTypesManager = entryTypesManager;
+        this.bibEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
         assert saveConfiguration.getSaveOrder().getOrderType() != SaveOrder.OrderType.TABLE;
     }
 
@@ -259,8 +262,26 @@ public class BibDatabaseWriter {
     }
 
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
-        BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
-        bibtexEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
+        if (saveConfiguration.shouldKeepSerializationOfChangedEntries() && !saveConfiguration.shouldReformatFile() && entry.hasChanged()) {
+            bibWriter.write(serializeAndKeep(entry, mode));
+            bibWriter.finishBlock();
+            return;
+        }
+        bibEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
+    }
+
+    /**
+     * Serializes the changed entry and stores the result as its parsed serialization. Thus, the entry is written by
+     * copying the serialization at the next save, unless it is changed again.
+     */
+    private String serializeAndKeep(BibEntry entry, BibDatabaseMode mode) throws IOException {
+        // A modification while serializing (e.g., an edit in the entry editor) is not part of the serialization.
+        // Then, the serialization is not kept and the entry stays changed.
+        long modificationCount = entry.getModificationCount();
+        StringWriter serialization = new StringWriter();
+        bibEntryWriter.write(entry, new BibWriter(serialization, "\n"), mode, true);
+        entry.setParsedSerialization(serialization.toString(), modificationCount);
+        return serialization.toString();
     }
 
     protected void writeEpilogue(String epilogue) throws IOException {
@@ -415,15 +436,10 @@ public class BibDatabaseWriter {
      * Generate keys for all entries that are lacking keys.
      */
     protected List<FieldChange> generateCitationKeys(BibDatabaseContext databaseContext, List<BibEntry> entries) {
-        List<FieldChange> changes = new ArrayList<>();
         CitationKeyGenerator keyGenerator = new CitationKeyGenerator(databaseContext, keyPatternPreferences);
-        for (BibEntry bes : entries) {
-            Optional<String> oldKey = bes.getCitationKey();
-            if (StringUtil.isBlank(oldKey)) {
-                Optional<FieldChange> change = keyGenerator.generateAndSetKey(bes);
-                change.ifPresent(changes::add);
-            }
-        }
-        return changes;
+        List<BibEntry> entriesWithoutKey = entries.stream()
+                                                  .filter(entry -> StringUtil.isBlank(entry.getCitationKey()))
+                                                  .toList();
+        return keyGenerator.generateAndSetKeys(entriesWithoutKey);
     }
 }
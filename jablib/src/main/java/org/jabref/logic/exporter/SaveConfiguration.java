@@ -11,6 +11,7 @@ public class SaveConfiguration {
     private SaveOrder saveOrder;
     private boolean makeBackup;
     private BibDatabaseWriter.SaveType saveType;
+    private boolean keepSerializationOfChangedEntries;
 
     public SaveConfiguration(SaveOrder saveOrder,
                              Boolean makeBackup,
@@ -69,4 +70,20 @@ public class SaveConfiguration {
         this.reformatFile = newReformat;
         return this;
     }
+
+    public boolean shouldKeepSerializationOfChangedEntries() {
+        return keepSerializationOfChangedEntries;
+    }
+
+    /**
+     * Should only be used when saving the library to its own file. Other targets (e.g., backups) may be written
+     * concurrently and must not change the entries.
+     *
+     * @param newKeepSerialization whether the serialization written for a changed entry should become its parsed
+     *                             serialization, so that later saves copy it instead of serializing the entry again
+     */
+    public SaveConfiguration withKeepSerializationOfChangedEntries(boolean newKeepSerialization) {
+        this.keepSerializationOfChangedEntries = newKeepSerialization;
+        return this;
+    }
 }
@@ -194,7 +194,9 @@ public class TemplateExporter extends Exporter {
     public void export(@NonNull BibDatabaseContext databaseContext,
                        Path file,
                        @NonNull List<BibEntry> entries) throws IOException {
-        export(databaseContext, file, entries, List.of(), JournalAbbreviationLoader.loadBuiltInRepository());
+        try (JournalAbbreviationRepository abbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository()) {
+            export(databaseContext, file, entries, List.of(), abbreviationRepository);
+        }
     }
 
     @Override
@@ -1,6 +1,5 @@
 package org.jabref.logic.formatter.bibtexfields;
 
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -34,6 +33,11 @@ public class HtmlToLatexFormatter extends Formatter implements LayoutFormatter {
             return result;
         }
 
+        // Neither tags nor entities
+        if (result.indexOf('<') == -1 && result.indexOf('&') == -1) {
+            return result.replace("$$", "").trim();
+        }
+
         // Deal with the form <sup>k</sup>and <sub>k</sub>
         result = result.replaceAll("<[ ]?sup>([^<]+)</sup>", "\\\\textsuperscript\\{$1\\}");
         result = result.replaceAll("<[ ]?sub>([^<]+)</sub>", "\\\\textsubscript\\{$1\\}");
@@ -42,10 +46,7 @@ public class HtmlToLatexFormatter extends Formatter implements LayoutFormatter {
         result = REMOVE_TAGS_PATTERN.matcher(result).replaceAll("");
 
         // Handle text based HTML entities
-        Set<String> patterns = HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP.keySet();
-        for (String pattern : patterns) {
-            result = result.replace(pattern, HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP.get(pattern));
-        }
+        result = HTMLUnicodeConversionMaps.HTML_LATEX_REPLACER.replaceAll(result);
 
         // Handle numerical HTML entities
         Matcher m = ESCAPED_PATTERN.matcher(result);
@@ -1,7 +1,5 @@
 package org.jabref.logic.formatter.bibtexfields;
 
-import java.util.Map;
-
 import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatter;
@@ -18,17 +16,14 @@ public class UnicodeToLatexFormatter extends Formatter implements LayoutFormatte
 
     @Override
     public String format(@NonNull String text) {
-        if (text.isEmpty()) {
+        if (text.isEmpty() || isAscii(text)) {
             return text;
         }
 
         String result = UNICODE_NORMALIZER.format(text);
 
         // Standard symbols
-        for (Map.Entry<String, String> unicodeLatexPair : HTMLUnicodeConversionMaps.UNICODE_LATEX_CONVERSION_MAP
-                .entrySet()) {
-            result = result.replace(unicodeLatexPair.getKey(), unicodeLatexPair.getValue());
-        }
+        result = HTMLUnicodeConversionMaps.UNICODE_LATEX_REPLACER.replaceAll(result);
 
         // Combining accents
         StringBuilder sb = new StringBuilder();
@@ -67,6 +62,15 @@ public class UnicodeToLatexFormatter extends Formatter implements LayoutFormatte
         return result;
     }
 
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String getDescription() {
         return Localization.lang("Converts Unicode characters to LaTeX encoding.");
@@ -132,7 +132,7 @@ public class BibliographyFromPdfImporter extends Importer {
 
         // Generate citation keys for result
         CitationKeyGenerator citationKeyGenerator = new CitationKeyGenerator(parserResult.getDatabaseContext(), citationKeyPatternPreferences);
-        parserResult.getDatabase().getEntries().forEach(citationKeyGenerator::generateAndSetKey);
+        citationKeyGenerator.generateAndSetKeys(parserResult.getDatabase().getEntries());
 
         return parserResult;
     }
@@ -0,0 +1,166 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits BibTeX data into chunks which can be parsed independently by {@link BibtexParser}.
+ * <p>
+ * A chunk starts directly after an entry or a string whose closing brace is followed by a newline. At such a position,
+ * the parser has stored everything read before in the parsed serialization of the entry or string. Comments and
+ * preambles are not considered as chunk ends, because the parser keeps text following them.
+ * <p>
+ * The ends of entries are found by counting braces outside of quotes and escaped braces, without parsing the fields.
+ * For malformed input, the splitting may differ from the parser's view. The parser detects this by chunks not ending
+ * after an entry.
+ */
+final class BibtexChunkSplitter {
+
+    private static final String TEXT_TOKEN_CHARACTERS = ":-_*+./'";
+
+    private BibtexChunkSplitter() {
+    }
+
+    /**
+     * @param minimumChunkLength the minimal number of characters of a chunk. The last chunk may be shorter.
+     * @return the ascending start positions of the chunks, starting with 0
+     */
+    static List<Integer> findChunkStarts(String text, int minimumChunkLength) {
+        List<Integer> chunkStarts = new ArrayList<>();
+        chunkStarts.add(0);
+
+        int position = 0;
+        while (true) {
+            int at = text.indexOf('@', position);
+            if (at < 0) {
+                break;
+            }
+
+            int typeStart = skipWhitespace(text, at + 1);
+            int typeEnd = skipTextToken(text, typeStart);
+            String type = text.substring(typeStart, typeEnd).toLowerCase(Locale.ROOT);
+            int opening = skipWhitespace(text, typeEnd);
+            if ((opening == text.length()) || ((text.charAt(opening) != '{') && (text.charAt(opening) != '('))) {
+                position = typeEnd;
+                continue;
+            }
+            if ("comment".equals(type) && (text.charAt(opening) == '(')) {
+                // The parser only accepts braced comments and looks for the next entry right after the comment keyword
+                position = opening;
+                continue;
+            }
+
+            int end = findEnd(text, opening);
+            if (end < 0) {
+                // Unbalanced braces: the remaining text stays in the last chunk
+                break;
+            }
+            position = end;
+            if ("comment".equals(type) || "preamble".equals(type)) {
+                continue;
+            }
+
+            int lineEnd = skipOneNewline(text, end);
+            if (lineEnd < 0) {
+                continue;
+            }
+            position = lineEnd;
+            if ((lineEnd < text.length()) && (lineEnd - chunkStarts.getLast() >= minimumChunkLength)) {
+                chunkStarts.add(lineEnd);
+            }
+        }
+        return chunkStarts;
+    }
+
+    /**
+     * @param opening the position of the opening brace or parenthesis
+     * @return the position after the closing brace or parenthesis, or -1 if there is none
+     */
+    private static int findEnd(String text, int opening) {
+        boolean isParenthesized = text.charAt(opening) == '(';
+        // Quotes delimit field values directly inside the entry
+        int quoteDepth = isParenthesized ? 0 : 1;
+        int depth = 0;
+        boolean inQuotes = false;
+
+        for (int i = opening; i < text.length(); i++) {
+            char character = text.charAt(i);
+            switch (character) {
+                case '\\' -> {
+                    // The parser does not count escaped braces, except for a `\}` closing a field as in `path = {c:\temp\},`
+                    if (isClosingEscapedBrace(text, i)) {
+                        depth--;
+                        i++;
+                    } else if ((i + 1 < text.length()) && ((text.charAt(i + 1) == '{') || (text.charAt(i + 1) == '}'))) {
+                        i++;
+                    }
+                }
+                case '{' ->
+                        depth++;
+                case '}' -> {
+                    depth--;
+                    if (depth < 0) {
+                        return -1;
+                    }
+                    if ((depth == 0) && !isParenthesized) {
+                        return i + 1;
+                    }
+                }
+                case ')' -> {
+                    if ((depth == 0) && isParenthesized && !inQuotes) {
+                        return i + 1;
+                    }
+                }
+                case '"' -> {
+                    if (depth == quoteDepth) {
+                        inQuotes = !inQuotes;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isClosingEscapedBrace(String text, int backslash) {
+        return (backslash + 3 < text.length())
+                && (text.charAt(backslash + 1) == '}')
+                && (text.charAt(backslash + 2) == ',')
+                && ((text.charAt(backslash + 3) == '\n') || (text.charAt(backslash + 3) == '\r'));
+    }
+
+    /**
+     * Skips spaces, an optional carriage return and a line feed, as the parser does after an entry
+     *
+     * @return the position after the line feed, or -1 if there is no line feed
+     */
+    private static int skipOneNewline(String text, int position) {
+        while ((position < text.length()) && (text.charAt(position) == ' ')) {
+            position++;
+        }
+        if ((position < text.length()) && (text.charAt(position) == '\r')) {
+            position++;
+        }
+        if ((position < text.length()) && (text.charAt(position) == '\n')) {
+            return position + 1;
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(String text, int position) {
+        while ((position < text.length()) && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int skipTextToken(String text, int position) {
+        while ((position < text.length())
+                && (Character.isLetterOrDigit(text.charAt(position)) || (TEXT_TOKEN_CHARACTERS.indexOf(text.charAt(position)) >= 0))) {
+            position++;
+        }
+        return position;
+    }
+}
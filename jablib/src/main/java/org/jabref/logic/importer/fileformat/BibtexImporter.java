@@ -125,10 +125,12 @@ public class BibtexImporter extends Importer {
     /**
      * This method does not set the metadata encoding information. The caller needs to set the encoding of the supplied
      * reader manually to the metadata
+     * <p>
+     * Large libraries are parsed on several threads, see {@link BibtexParser#parseInParallel(java.io.Reader)}.
      */
     @Override
     public ParserResult importDatabase(@NonNull BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+        return new BibtexParser(importFormatPreferences, fileMonitor).parseInParallel(reader);
     }
 
     @Override
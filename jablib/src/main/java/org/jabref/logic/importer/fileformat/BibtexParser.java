@@ -3,24 +3,26 @@ package org.jabref.logic.importer.fileformat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
-import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -62,6 +64,7 @@ import com.dd.plist.NSDictionary;
 import com.dd.plist.NSString;
 import io.github.adr.linked.ADR;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -94,23 +97,46 @@ import static org.jabref.logic.util.MetadataSerializationConfiguration.GROUP_TYP
 public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
     private static final int LOOKAHEAD = 1024;
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MIN_CHUNK_LENGTH = 256 * 1024;
     private static final String BIB_DESK_ROOT_GROUP_NAME = "BibDeskGroups";
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
     private static final Pattern EPILOG_PATTERN = Pattern.compile("\\w+\\s*=.*,");
     private static final int INDEX_RELATIVE_PATH_IN_PLIST = 4;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+
+    // The input is read block-wise into the buffer. Characters are taken from the buffer by index.
+    private Reader reader;
+    private char[] buffer;
+    private int bufferEnd;
+    private int position;
+    private boolean readerExhausted;
+    // Characters passed to unread which are not the characters before the position in the buffer, e.g., the end of file
+    private char[] pushedBack;
+    private int pushedBackCount;
+    // A file shorter than LOOKAHEAD without any newline ends with additional end of file characters (see determineNewLineSeparator)
+    private int pendingEofCharacters;
+
+    // The text read since the last call of getPureTextFromFile. As long as it is a range of the buffer, only the bounds are kept.
+    // Otherwise, e.g., after reading pushed back characters, the text is collected in pureTextOutsideBuffer.
+    private int pureTextStart;
+    private int pureTextEnd;
+    private StringBuilder pureTextOutsideBuffer;
+
     private BibDatabase database;
+    // Entries are added to the database after parsing, see completeParserResult
+    private List<BibEntry> parsedEntries;
+    // The last preamble read. The database does not distinguish a blank preamble from none.
+    private @Nullable String preamble;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
 
     private int line = 1;
     private int column = 1;
-    // Stores the last read column of the highest column number encountered on any line so far.
-    // The intended data structure is Stack, but it is not used because Java code style checkers complain.
-    // In basic JDK data structures, there is no size-limited stack. We did not want to include Apache Commons Collections only for "CircularFifoBuffer"
-    private final Deque<Integer> highestColumns = new ArrayDeque<>();
+    // Stores the last column of the previous lines, to restore the column when a newline is unread.
+    // At most LOOKAHEAD characters are unread at once, thus a ring buffer of the last LOOKAHEAD lines is sufficient.
+    private final int[] highestColumns = new int[LOOKAHEAD];
+    private int highestColumnsCount;
 
     private ParserResult parserResult;
     private final MetaDataParser metaDataParser;
@@ -118,6 +144,14 @@ public class BibtexParser implements Parser {
 
     private GroupTreeNode bibDeskGroupTreeNode;
 
+    /**
+     * A chunk of the input parsed by its own parser
+     *
+     * @param remainingContent the text after the last entry, string, or meta data comment
+     */
+    private record ParsedChunk(BibtexParser parser, Map<String, String> meta, String remainingContent) {
+    }
+
     public BibtexParser(@NonNull ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = importFormatPreferences;
         this.metaDataParser = new MetaDataParser(fileMonitor);
@@ -172,7 +206,7 @@ public class BibtexParser implements Parser {
      * Handling of encoding is done at {@link BibtexImporter}
      */
     public ParserResult parse(@NonNull Reader in) throws IOException {
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        startReading(in);
 
         String newLineSeparator = determineNewLineSeparator();
 
@@ -186,31 +220,206 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
-    private String determineNewLineSeparator() throws IOException {
-        String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
+    /**
+     * Parses BibTeX data like {@link #parse(Reader)}, but parses large inputs on several threads.
+     * <p>
+     * The input is split after entries and strings followed by a newline, see {@link BibtexChunkSplitter}. The chunks
+     * are parsed on the common fork-join pool. Their entries are merged in the original order, the strings, the
+     * preamble and the JabRef meta data are resolved once after the merge. If a chunk does not end exactly after an
+     * entry or string, e.g., due to a syntax error, the input is parsed again sequentially. Thus, the result is always
+     * the same as the one of {@link #parse(Reader)}.
+     * <p>
+     * In contrast to {@link #parse(Reader)}, the complete input is kept in memory.
+     */
+    public ParserResult parseInParallel(@NonNull Reader in) throws IOException {
+        StringWriter writer = new StringWriter();
+        in.transferTo(writer);
+        String text = writer.toString();
+        // Several chunks per thread, so that threads finishing early can take over
+        return parseInParallel(text, Math.max(MIN_CHUNK_LENGTH, text.length() / (4 * ForkJoinPool.getCommonPoolParallelism())));
+    }
+
+    ParserResult parseInParallel(String text, int minimumChunkLength) throws IOException {
+        List<Integer> chunkStarts = BibtexChunkSplitter.findChunkStarts(text, minimumChunkLength);
+        if ((chunkStarts.size() < 2) || text.contains(MetaData.BIBDESK_STATIC_FLAG)) {
+            return parse(new StringReader(text));
+        }
+
+        int[] firstLines = new int[chunkStarts.size()];
+        int lineNumber = 1;
         int i = 0;
-        int currentChar;
-        // @formatter:off
-        do {
-            // @formatter:on
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
-            i++;
-        } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
-        if (currentChar == '\r') {
-            newLineSeparator = "\r\n";
-        } else if (currentChar == '\n') {
-            newLineSeparator = "\n";
+        for (int chunk = 0; chunk < chunkStarts.size(); chunk++) {
+            for (; i < chunkStarts.get(chunk); i++) {
+                if (text.charAt(i) == '\n') {
+                    lineNumber++;
+                }
+            }
+            firstLines[chunk] = lineNumber;
+        }
+
+        long start = System.nanoTime();
+        List<ParsedChunk> chunks;
+        try {
+            chunks = IntStream.range(0, chunkStarts.size()).parallel().mapToObj(chunk -> {
+                int chunkEnd = chunk + 1 < chunkStarts.size() ? chunkStarts.get(chunk + 1) : text.length();
+                try {
+                    return new BibtexParser(importFormatPreferences).parseChunk(
+                            new StringReader(text.substring(chunkStarts.get(chunk), chunkEnd)),
+                            chunk == 0,
+                            firstLines[chunk]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        Optional<ParserResult> merged = merge(chunks);
+        if (merged.isEmpty()) {
+            LOGGER.debug("Could not split the input at entry boundaries, parsing it sequentially");
+            return parse(new StringReader(text));
+        }
+        LOGGER.debug("Parsed {} chunks in parallel in {} ms", chunks.size(), (System.nanoTime() - start) / 1_000_000);
+        return merged.get();
+    }
+
+    /**
+     * Parses one chunk of the input. The parser is in the same state as after the previous chunk: It starts at the
+     * beginning of a line after an entry or string, and no text read before has to be kept.
+     */
+    private ParsedChunk parseChunk(Reader in, boolean isFirstChunk, int firstLine) throws IOException {
+        startReading(in);
+        if (isFirstChunk) {
+            initializeParserResult(determineNewLineSeparator());
+            parseDatabaseID();
+        } else {
+            initializeParserResult(OS.NEWLINE);
+            line = firstLine;
+        }
+        skipWhitespace();
+
+        Map<String, String> meta = new HashMap<>();
+        parseEntriesAndComments(meta);
+        return new ParsedChunk(this, meta, dumpTextReadSoFarToString());
+    }
+
+    /**
+     * @return empty if a chunk does not end right after an entry or string, or any chunk has warnings
+     */
+    private Optional<ParserResult> merge(List<ParsedChunk> chunks) {
+        BibtexParser firstParser = chunks.getFirst().parser();
+        initializeParserResult(firstParser.database.getNewLineSeparator());
+        firstParser.database.getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+
+        Map<String, String> meta = new HashMap<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            ParsedChunk chunk = chunks.get(i);
+            BibtexParser chunkParser = chunk.parser();
+            boolean isLastChunk = i == chunks.size() - 1;
+            if (chunkParser.parserResult.hasWarnings() || (!isLastChunk && !chunk.remainingContent().isEmpty())) {
+                return Optional.empty();
+            }
+
+            for (BibtexString bibtexString : chunkParser.database.getStringValues()) {
+                if (database.hasStringByName(bibtexString.getName())) {
+                    // The warning is reported by the sequential parser
+                    return Optional.empty();
+                }
+                database.addString(bibtexString);
+            }
+            if (chunkParser.preamble != null) {
+                database.setPreamble(chunkParser.preamble);
+            }
+            parsedEntries.addAll(chunkParser.parsedEntries);
+            entryTypes.addAll(chunkParser.entryTypes);
+            parserResult.getArticleRanges().putAll(chunkParser.parserResult.getArticleRanges());
+            parserResult.getFieldRanges().putAll(chunkParser.parserResult.getFieldRanges());
+            meta.putAll(chunk.meta());
         }
 
-        // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+        BibtexParser lastParser = chunks.getLast().parser();
+        line = lastParser.line;
+        column = lastParser.column;
+        return Optional.of(completeParserResult(meta, chunks.getLast().remainingContent()));
+    }
+
+    private void startReading(Reader in) {
+        reader = in;
+        buffer = new char[BUFFER_SIZE];
+        bufferEnd = 0;
+        position = 0;
+        readerExhausted = false;
+        pushedBack = new char[LOOKAHEAD];
+        pushedBackCount = 0;
+        pendingEofCharacters = 0;
+        pureTextStart = 0;
+        pureTextEnd = 0;
+        pureTextOutsideBuffer = null;
+    }
 
-        return newLineSeparator;
+    /**
+     * Looks for the first newline within the first {@link #LOOKAHEAD} characters without consuming them.
+     */
+    private String determineNewLineSeparator() throws IOException {
+        int scanned = 0;
+        while (scanned < BibtexParser.LOOKAHEAD) {
+            if (position + scanned == bufferEnd && !fillBuffer()) {
+                // The end of file was sneaked at as well, once for each remaining character of the lookahead.
+                // It is read as end of file character (65535) that often before the actual end.
+                pendingEofCharacters = BibtexParser.LOOKAHEAD - scanned;
+                break;
+            }
+            char currentChar = buffer[position + scanned];
+            scanned++;
+            if (currentChar == '\r') {
+                return "\r\n";
+            } else if (currentChar == '\n') {
+                return "\n";
+            }
+        }
+        return OS.NEWLINE;
+    }
+
+    /**
+     * Reads further characters into the buffer. Characters before the position are dropped, unless they belong to the
+     * text read since the last call of {@link #getPureTextFromFile()}.
+     *
+     * @return false if the end of the input is reached
+     */
+    private boolean fillBuffer() throws IOException {
+        if (readerExhausted) {
+            return false;
+        }
+
+        int keepFrom = pureTextOutsideBuffer == null ? Math.min(pureTextStart, position) : position;
+        if (keepFrom > 0) {
+            System.arraycopy(buffer, keepFrom, buffer, 0, bufferEnd - keepFrom);
+            bufferEnd -= keepFrom;
+            position -= keepFrom;
+            pureTextStart = Math.max(0, pureTextStart - keepFrom);
+            pureTextEnd = Math.max(0, pureTextEnd - keepFrom);
+        }
+        if (bufferEnd == buffer.length) {
+            // The text of a single entry does not fit into the buffer
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int charactersRead;
+        do {
+            charactersRead = reader.read(buffer, bufferEnd, buffer.length - bufferEnd);
+        } while (charactersRead == 0);
+        if (charactersRead < 0) {
+            readerExhausted = true;
+            return false;
+        }
+        bufferEnd += charactersRead;
+        return true;
     }
 
     private void initializeParserResult(String newLineSeparator) {
+        parsedEntries = new ArrayList<>();
+        preamble = null;
         database = new BibDatabase();
         database.setNewLineSeparator(newLineSeparator);
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
@@ -239,7 +448,11 @@ public class BibtexParser implements Parser {
 
     private ParserResult parseFileContent() throws IOException {
         Map<String, String> meta = new HashMap<>();
+        parseEntriesAndComments(meta);
+        return completeParserResult(meta, dumpTextReadSoFarToString());
+    }
 
+    private void parseEntriesAndComments(Map<String, String> meta) throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
@@ -253,7 +466,8 @@ public class BibtexParser implements Parser {
 
             switch (entryType) {
                 case "preamble" -> {
-                    database.setPreamble(parsePreamble());
+                    preamble = parsePreamble();
+                    database.setPreamble(preamble);
                     // Consume a new line which separates the preamble from the next part (if the file was written with JabRef)
                     skipOneNewline();
                     // the preamble is saved verbatim anyway, so the text read so far can be dropped
@@ -270,6 +484,11 @@ public class BibtexParser implements Parser {
 
             skipWhitespace();
         }
+    }
+
+    private ParserResult completeParserResult(Map<String, String> meta, String remainingContent) {
+        // The entries are inserted at once, because each insertion posts an event
+        database.insertEntries(parsedEntries);
 
         addBibDeskGroupEntriesToJabRefGroups();
 
@@ -304,7 +523,7 @@ public class BibtexParser implements Parser {
             parserResult.addException(new ParserResult.Range(startLine, startColumn, line, column), exception);
         }
 
-        parseRemainingContent();
+        database.setEpilog(remainingContent.trim());
 
         checkEpilog();
 
@@ -319,10 +538,6 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private void parseRemainingContent() {
-        database.setEpilog(dumpTextReadSoFarToString().trim());
-    }
-
     private void parseAndAddEntry(String type) {
         int startLine = line;
         int startColumn = column;
@@ -349,7 +564,7 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            parsedEntries.add(entry);
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -532,12 +747,40 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
+        String pureText = pureTextOutsideBuffer == null
+                          ? new String(buffer, pureTextStart, pureTextEnd - pureTextStart)
+                          : pureTextOutsideBuffer.toString();
+
+        pureTextStart = position;
+        pureTextEnd = position;
+        pureTextOutsideBuffer = null;
+        return pureText;
+    }
+
+    private void appendToPureText(char character) {
+        if (pureTextOutsideBuffer == null) {
+            // Stays a range of the buffer as long as the characters read are the ones following it
+            if (pureTextEnd < bufferEnd && buffer[pureTextEnd] == character) {
+                pureTextEnd++;
+                return;
+            }
+            pureTextOutsideBuffer = new StringBuilder(pureTextEnd - pureTextStart + 16)
+                    .append(buffer, pureTextStart, pureTextEnd - pureTextStart);
         }
+        pureTextOutsideBuffer.append(character);
+    }
 
-        return entry.toString();
+    private void removeFromPureText(char character) {
+        if (pureTextOutsideBuffer == null) {
+            if (pureTextEnd > pureTextStart && buffer[pureTextEnd - 1] == character) {
+                pureTextEnd--;
+            }
+        } else {
+            int length = pureTextOutsideBuffer.length();
+            if (length > 0 && pureTextOutsideBuffer.charAt(length - 1) == character) {
+                pureTextOutsideBuffer.setLength(length - 1);
+            }
+        }
     }
 
     /**
@@ -649,14 +892,14 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
+        int character = nextCharacter();
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            appendToPureText((char) character);
         }
         if (character == '\n') {
             line++;
-            highestColumns.push(column);
+            highestColumns[highestColumnsCount++ % LOOKAHEAD] = column;
             column = 1;
         } else {
             column++;
@@ -664,17 +907,39 @@ public class BibtexParser implements Parser {
         return character;
     }
 
+    private int nextCharacter() throws IOException {
+        if (pushedBackCount > 0) {
+            return pushedBack[--pushedBackCount];
+        }
+        if (position < bufferEnd || fillBuffer()) {
+            return buffer[position++];
+        }
+        if (pendingEofCharacters > 0) {
+            pendingEofCharacters--;
+            return 65535;
+        }
+        return -1;
+    }
+
     private void unread(int character) throws IOException {
         if (character == '\n') {
             line--;
-            column = highestColumns.pop();
+            column = highestColumns[--highestColumnsCount % LOOKAHEAD];
         } else {
             column--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+
+        // Like a PushbackReader, an unread end of file (-1) is read again as the character 65535
+        char unreadCharacter = (char) character;
+        if (pushedBackCount == 0 && position > 0 && buffer[position - 1] == unreadCharacter) {
+            position--;
+        } else {
+            if (pushedBackCount == pushedBack.length) {
+                pushedBack = Arrays.copyOf(pushedBack, pushedBack.length * 2);
+            }
+            pushedBack[pushedBackCount++] = unreadCharacter;
         }
+        removeFromPureText(unreadCharacter);
     }
 
     private BibtexString parseString() throws IOException {
@@ -22,6 +22,10 @@ public class FieldChecker implements EntryChecker {
         this.checker = checker;
     }
 
+    public ValueChecker getValueChecker() {
+        return checker;
+    }
+
     @Override
     public List<IntegrityMessage> check(BibEntry entry) {
         Optional<String> value = entry.getField(field);
@@ -1,8 +1,16 @@
 package org.jabref.logic.integrity;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -15,8 +23,15 @@ import org.jabref.model.entry.field.StandardField;
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
-    private final List<EntryChecker> entryCheckers;
+    private final List<TimedChecker<FieldChecker>> fieldCheckers = new ArrayList<>();
+    private final List<TimedChecker<EntryChecker>> entryCheckers = new ArrayList<>();
+    private final List<TimedChecker<DatabaseChecker>> databaseCheckers = new ArrayList<>();
+
+    // Time spent in each kind of checker, by name of the checker class. Checkers are called concurrently by checkInParallel().
+    private final Map<String, LongAdder> checkerNanos = new ConcurrentHashMap<>();
+
+    private record TimedChecker<T>(T checker, LongAdder nanos) {
+    }
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -25,12 +40,15 @@ public class IntegrityCheck {
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
+        FieldCheckers allFieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
                 allowIntegerEdition);
+        for (FieldChecker fieldChecker : allFieldCheckers.getAll()) {
+            fieldCheckers.add(timed(fieldChecker, fieldChecker.getValueChecker().getClass()));
+        }
 
-        entryCheckers = new ArrayList<>(List.of(
+        List<EntryChecker> allEntryCheckers = new ArrayList<>(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
@@ -43,15 +61,34 @@ public class IntegrityCheck {
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
 
         if (bibDatabaseContext.isBiblatexMode()) {
-            entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
+            allEntryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
         } else {
-            entryCheckers.addAll(List.of(
+            allEntryCheckers.addAll(List.of(
                     new ASCIICharacterChecker(),
                     new NoBibtexFieldChecker(),
                     new UnicodeNormalFormCanonicalCompositionCheck(),
                     new BibTeXEntryTypeChecker())
             );
         }
+        for (EntryChecker entryChecker : allEntryCheckers) {
+            entryCheckers.add(timed(entryChecker, entryChecker.getClass()));
+        }
+
+        DatabaseChecker doiDuplicationChecker = new DoiDuplicationChecker();
+        databaseCheckers.add(timed(doiDuplicationChecker, doiDuplicationChecker.getClass()));
+    }
+
+    private <T> TimedChecker<T> timed(T checker, Class<?> timedClass) {
+        return new TimedChecker<>(checker, checkerNanos.computeIfAbsent(timedClass.getSimpleName(), _ -> new LongAdder()));
+    }
+
+    private static List<IntegrityMessage> measure(LongAdder nanos, Supplier<List<IntegrityMessage>> check) {
+        long start = System.nanoTime();
+        try {
+            return check.get();
+        } finally {
+            nanos.add(System.nanoTime() - start);
+        }
     }
 
     List<IntegrityMessage> check() {
@@ -67,24 +104,63 @@ public class IntegrityCheck {
         return result;
     }
 
+    /**
+     * Checks all entries of the database, distributed over the threads of the common fork-join pool. The database
+     * checkers run concurrently to the entry checks. The messages are in the same order as if the entries were checked
+     * one after another.
+     */
+    public List<IntegrityMessage> checkInParallel() {
+        BibDatabase database = bibDatabaseContext.getDatabase();
+
+        List<CompletableFuture<List<IntegrityMessage>>> databaseMessages = databaseCheckers.stream()
+                .map(timedChecker -> CompletableFuture.supplyAsync(() -> measure(timedChecker.nanos(), () -> timedChecker.checker().check(database))))
+                .toList();
+
+        // The list of the database does not support concurrent iteration, thus the entries are copied
+        List<IntegrityMessage> result = new ArrayList<>(new ArrayList<>(database.getEntries())
+                .parallelStream()
+                .flatMap(entry -> checkEntry(entry).stream())
+                .toList());
+
+        databaseMessages.forEach(messages -> result.addAll(messages.join()));
+        return result;
+    }
+
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
         List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
+        for (TimedChecker<FieldChecker> fieldChecker : fieldCheckers) {
+            result.addAll(measure(fieldChecker.nanos(), () -> fieldChecker.checker().check(entry)));
         }
 
-        for (EntryChecker entryChecker : entryCheckers) {
-            result.addAll(entryChecker.check(entry));
+        for (TimedChecker<EntryChecker> entryChecker : entryCheckers) {
+            result.addAll(measure(entryChecker.nanos(), () -> entryChecker.checker().check(entry)));
         }
 
         return result;
     }
 
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
-        return new DoiDuplicationChecker().check(database);
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (TimedChecker<DatabaseChecker> databaseChecker : databaseCheckers) {
+            result.addAll(measure(databaseChecker.nanos(), () -> databaseChecker.checker().check(database)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the time spent in each kind of checker since this integrity check was created, the most costly first.
+     * Checkers of the same class are summed up, e.g., all {@link PersonNamesChecker}s of the person name fields.
+     * If entries were checked in parallel, the times of all threads are added.
+     */
+    public Map<String, Duration> getCheckerTimings() {
+        Map<String, Duration> timings = new LinkedHashMap<>();
+        checkerNanos.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed())
+                    .forEach(entry -> timings.put(entry.getKey(), Duration.ofNanos(entry.getValue().sum())));
+        return timings;
     }
 }
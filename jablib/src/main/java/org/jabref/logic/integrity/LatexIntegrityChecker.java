@@ -40,7 +40,8 @@ public class LatexIntegrityChecker implements EntryChecker {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LatexIntegrityChecker.class);
     private static final SnuggleEngine ENGINE = new SnuggleEngine();
-    private static final SnuggleSession SESSION;
+    // A session must not be used by several threads at the same time
+    private static final ThreadLocal<SnuggleSession> SESSION = ThreadLocal.withInitial(LatexIntegrityChecker::createSession);
     private static final ResourceBundle ERROR_MESSAGES = ENGINE.getPackages().getFirst().getErrorMessageBundle();
     private static final Set<ErrorCode> EXCLUDED_ERRORS = new HashSet<>();
 
@@ -51,13 +52,16 @@ public class LatexIntegrityChecker implements EntryChecker {
         snugglePackage.addComplexCommand("textbackslash", false, 0, TEXT_MODE_ONLY, null, null, null);
         snugglePackage.addComplexCommand("textbar", false, 0, TEXT_MODE_ONLY, null, null, null);
 
-        SESSION = ENGINE.createSession();
-        SESSION.getConfiguration().setFailingFast(true);
-
         // '#' only allowed inside and command/environment definitions.
         EXCLUDED_ERRORS.add(CoreErrorCode.TTEG04);
     }
 
+    private static SnuggleSession createSession() {
+        SnuggleSession session = ENGINE.createSession();
+        session.getConfiguration().setFailingFast(true);
+        return session;
+    }
+
     @Override
     public List<IntegrityMessage> check(BibEntry entry) {
         return entry.getFieldMap().entrySet().stream()
@@ -74,21 +78,22 @@ public class LatexIntegrityChecker implements EntryChecker {
     }
 
     private static Stream<Pair<Field, InputError>> getUnescapedAmpersandsWithCount(Map.Entry<Field, String> entry) {
-        SESSION.reset();
+        SnuggleSession session = SESSION.get();
+        session.reset();
         SnuggleInput input = new SnuggleInput(entry.getValue());
         try {
-            SESSION.parseInput(input);
+            session.parseInput(input);
         } catch (IOException e) {
             LOGGER.error("Error at parsing", e);
             return Stream.empty();
         }
-        if (SESSION.getErrors().isEmpty()) {
+        if (session.getErrors().isEmpty()) {
             return Stream.empty();
         }
         // Retrieve the first error only because it is likely to be more meaningful.
         // Displaying all (subsequent) faults may lead to confusion.
         // We further get a slight performance benefit from failing fast (see static config in class header).
-        InputError error = SESSION.getErrors().getFirst();
+        InputError error = session.getErrors().getFirst();
         return Stream.of(new Pair<>(entry.getKey(), error));
     }
 
@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.jabref.logic.journals.ltwa.LtwaRepository;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,6 +28,9 @@ public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
 
+    // The built-in list is copied once, so that all repositories share the opened file (see JournalAbbreviationRepository)
+    private static @Nullable Path builtInJournalList;
+
     public static Collection<Abbreviation> readAbbreviationsFromCsvFile(Path file) throws IOException {
         LOGGER.debug("Reading journal list from file {}", file);
         AbbreviationParser parser = new AbbreviationParser();
@@ -34,22 +38,21 @@ public class JournalAbbreviationLoader {
         return parser.getAbbreviations();
     }
 
+    /**
+     * Creates a repository of the built-in and the external lists. The caller closes the repository it replaces, if any.
+     */
     public static JournalAbbreviationRepository loadRepository(JournalAbbreviationPreferences journalAbbreviationPreferences) {
         JournalAbbreviationRepository repository;
 
         // Initialize with built-in list
-        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
-            if (resourceAsStream == null) {
+        try {
+            Path journalList = getBuiltInJournalList();
+            if (journalList == null) {
                 LOGGER.warn("There is no journal-list.mv. We use a default journal list.");
                 repository = new JournalAbbreviationRepository();
             } else {
-                Path tempDir = Files.createTempDirectory("jabref-journal");
-                Path tempJournalList = tempDir.resolve("journal-list.mv");
-                Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList, loadLtwaRepository());
-                tempDir.toFile().deleteOnExit();
-                tempJournalList.toFile().deleteOnExit();
-                LOGGER.info("Loaded journal abbreviations from {}", tempJournalList.toAbsolutePath());
+                repository = new JournalAbbreviationRepository(journalList, loadLtwaRepository());
+                LOGGER.info("Loaded journal abbreviations from {}", journalList);
             }
         } catch (IOException e) {
             LOGGER.error("Error while loading journal abbreviation repository", e);
@@ -74,6 +77,23 @@ public class JournalAbbreviationLoader {
         return repository;
     }
 
+    private static synchronized @Nullable Path getBuiltInJournalList() throws IOException {
+        if (builtInJournalList == null) {
+            try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
+                if (resourceAsStream == null) {
+                    return null;
+                }
+                Path tempDir = Files.createTempDirectory("jabref-journal");
+                Path tempJournalList = tempDir.resolve("journal-list.mv");
+                Files.copy(resourceAsStream, tempJournalList);
+                tempDir.toFile().deleteOnExit();
+                tempJournalList.toFile().deleteOnExit();
+                builtInJournalList = tempJournalList.toAbsolutePath();
+            }
+        }
+        return builtInJournalList;
+    }
+
     private static LtwaRepository loadLtwaRepository() throws IOException {
         try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/ltwa-list.mv")) {
             if (resourceAsStream == null) {
@@ -1,61 +1,109 @@
 package org.jabref.logic.journals;
 
 import java.nio.file.Path;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.journals.ltwa.LtwaRepository;
 import org.jabref.logic.util.strings.StringSimilarity;
+import org.jabref.logic.util.strings.StringSimilarityIndex;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The built-in abbreviations are not copied into memory. The MV file is kept open read-only and memory-mapped, and each
+ * lookup reads the few pages it needs from it. Custom abbreviations are held in memory and take precedence over the
+ * built-in ones.
+ * <p>
+ * Repositories opened on the same MV file share the opened file. It is closed when the last of them is closed. Thus, a
+ * repository replaced by a newer one of the same file can be closed while it is still in use somewhere.
  */
-public class JournalAbbreviationRepository {
+public class JournalAbbreviationRepository implements AutoCloseable {
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    static final String FULL_TO_ABBREVIATION = "FullToAbbreviation";
+    static final String ABBREVIATION_TO_FULL = "AbbreviationToFull";
+    static final String DOTLESS_TO_FULL = "DotlessToFull";
+    static final String SHORTEST_UNIQUE_TO_FULL = "ShortestUniqueToFull";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationRepository.class);
+
+    // Let the operating system page the file in on demand instead of reading it through a file channel
+    private static final String MEMORY_MAPPED_FILE_PREFIX = "nioMapped:";
+
+    // The opened MV files by their path, with the number of repositories using them
+    private static final Map<Path, SharedStore> OPEN_STORES = new HashMap<>();
+
+    private static final class SharedStore {
+        private final MVStore store;
+        private int users;
+
+        private SharedStore(MVStore store) {
+            this.store = store;
+        }
+    }
+
+    // Null if the repository is held in memory only
+    private final @Nullable Path journalList;
+    private boolean closed;
+
+    private final MVMap<String, Abbreviation> fullToAbbreviation;
+    private final Map<String, String> abbreviationToFull;
+    private final Map<String, String> dotlessToFull;
+    private final Map<String, String> shortestUniqueToFull;
+
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
+    // Custom abbreviations by each of their case-folded names, in the order of customAbbreviations. Rebuilt lazily after a change.
+    private volatile @Nullable Map<String, List<Abbreviation>> customAbbreviationsIndex;
+
+    // Index of the full names for the fuzzy match, created on the first fuzzy lookup
+    private volatile @Nullable StringSimilarityIndex fullNameIndex;
+
     private final StringSimilarity similarity = new StringSimilarity();
     private final LtwaRepository ltwaRepository;
 
     /**
-     * Initializes the internal data based on the abbreviations found in the given MV file
+     * Opens the given MV file containing the journal abbreviations. The file is kept open for lookups and must not be
+     * modified or deleted while the repository is in use.
      *
      * @param journalList    The path to the MV file containing the journal abbreviations.
      * @param ltwaRepository The LTWA repository to use for abbreviations.
      */
     public JournalAbbreviationRepository(Path journalList, LtwaRepository ltwaRepository) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
-            mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
-                fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
-                dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
-            });
+        this.journalList = journalList.toAbsolutePath().normalize();
+        MVStore store = openStore(this.journalList);
+        this.fullToAbbreviation = store.openMap(FULL_TO_ABBREVIATION);
+        if (store.hasMap(ABBREVIATION_TO_FULL) && store.hasMap(DOTLESS_TO_FULL) && store.hasMap(SHORTEST_UNIQUE_TO_FULL)) {
+            this.abbreviationToFull = store.openMap(ABBREVIATION_TO_FULL);
+            this.dotlessToFull = store.openMap(DOTLESS_TO_FULL);
+            this.shortestUniqueToFull = store.openMap(SHORTEST_UNIQUE_TO_FULL);
+        } else {
+            // Lists generated before the reverse maps were introduced
+            LOGGER.debug("Journal list {} has no reverse maps, building them in memory", journalList);
+            this.abbreviationToFull = new HashMap<>();
+            this.dotlessToFull = new HashMap<>();
+            this.shortestUniqueToFull = new HashMap<>();
+            fullToAbbreviation.forEach((name, storedAbbreviation) -> putReverse(withName(name, storedAbbreviation)));
         }
         this.ltwaRepository = ltwaRepository;
     }
@@ -64,23 +112,81 @@ public class JournalAbbreviationRepository {
      * Initializes the repository with demonstration data. Used if no abbreviation file is found.
      */
     public JournalAbbreviationRepository() {
+        this.journalList = null;
+        // Without file name, the store is kept in memory
+        MVStore store = new MVStore.Builder().open();
+        this.fullToAbbreviation = store.openMap(FULL_TO_ABBREVIATION);
+        this.abbreviationToFull = new HashMap<>();
+        this.dotlessToFull = new HashMap<>();
+        this.shortestUniqueToFull = new HashMap<>();
+
         Abbreviation newAbbreviation = new Abbreviation(
                 "Demonstration",
                 "Demo",
                 "Dem"
         );
-        fullToAbbreviationObject.put("Demonstration", newAbbreviation);
-        abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
-        dotlessToAbbreviationObject.put("Demo", newAbbreviation);
-        shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
+        fullToAbbreviation.put(newAbbreviation.getName(), newAbbreviation);
+        putReverse(newAbbreviation);
         ltwaRepository = new LtwaRepository();
     }
 
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getDotlessAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+    private static MVStore openStore(Path journalList) {
+        synchronized (OPEN_STORES) {
+            SharedStore sharedStore = OPEN_STORES.computeIfAbsent(journalList, path -> new SharedStore(new MVStore.Builder()
+                    .readOnly()
+                    .fileName(MEMORY_MAPPED_FILE_PREFIX + path)
+                    .open()));
+            sharedStore.users++;
+            return sharedStore.store;
+        }
+    }
+
+    /**
+     * Releases the MV file of the built-in abbreviations. The file is closed if no other repository uses it, afterward
+     * the built-in abbreviations cannot be looked up anymore.
+     */
+    @Override
+    public void close() {
+        if (journalList == null) {
+            return;
+        }
+        synchronized (OPEN_STORES) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            SharedStore sharedStore = OPEN_STORES.get(journalList);
+            if (--sharedStore.users == 0) {
+                OPEN_STORES.remove(journalList);
+                sharedStore.store.close();
+                LOGGER.debug("Closed journal list {}", journalList);
+            }
+        }
+    }
+
+    private void putReverse(Abbreviation abbreviation) {
+        abbreviationToFull.put(abbreviation.getAbbreviation(), abbreviation.getName());
+        dotlessToFull.put(abbreviation.getDotlessAbbreviation(), abbreviation.getName());
+        shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), abbreviation.getName());
+    }
+
+    /**
+     * The name and the dotless abbreviation are not serialized. Thus, an abbreviation read from the store has to be
+     * completed by its key.
+     */
+    private static Abbreviation withName(String name, Abbreviation storedAbbreviation) {
+        return new Abbreviation(
+                name,
+                storedAbbreviation.getAbbreviation(),
+                storedAbbreviation.getShortestUniqueAbbreviation());
+    }
+
+    private Optional<Abbreviation> getByFullName(@Nullable String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(fullToAbbreviation.get(name))
+                       .map(storedAbbreviation -> withName(name, storedAbbreviation));
     }
 
     private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
@@ -124,10 +230,10 @@ public class JournalAbbreviationRepository {
             return false;
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+        return getCustomAbbreviations(journal).stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
+                || abbreviationToFull.containsKey(journal)
+                || dotlessToFull.containsKey(journal)
+                || shortestUniqueToFull.containsKey(journal);
     }
 
     /**
@@ -140,17 +246,15 @@ public class JournalAbbreviationRepository {
         // Clean up input: trim and unescape ampersand
         String journal = input.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
 
-        Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
-                                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
-                                                                       .findFirst();
-        if (customAbbreviation.isPresent()) {
-            return customAbbreviation;
+        List<Abbreviation> customMatches = getCustomAbbreviations(journal);
+        if (!customMatches.isEmpty()) {
+            return Optional.of(customMatches.getFirst());
         }
 
-        Optional<Abbreviation> abbreviation = Optional.ofNullable(fullToAbbreviationObject.get(journal))
-                                                      .or(() -> Optional.ofNullable(abbreviationToAbbreviationObject.get(journal)))
-                                                      .or(() -> Optional.ofNullable(dotlessToAbbreviationObject.get(journal)))
-                                                      .or(() -> Optional.ofNullable(shortestUniqueToAbbreviationObject.get(journal)));
+        Optional<Abbreviation> abbreviation = getByFullName(journal)
+                .or(() -> getByFullName(abbreviationToFull.get(journal)))
+                .or(() -> getByFullName(dotlessToFull.get(journal)))
+                .or(() -> getByFullName(shortestUniqueToFull.get(journal)));
 
         if (abbreviation.isEmpty()) {
             abbreviation = findAbbreviationFuzzyMatched(journal);
@@ -160,30 +264,48 @@ public class JournalAbbreviationRepository {
     }
 
     private Optional<Abbreviation> findAbbreviationFuzzyMatched(String input) {
-        Optional<Abbreviation> customMatch = findBestFuzzyMatched(customAbbreviations, input);
+        Optional<Abbreviation> customMatch = findBestFuzzyMatched(customAbbreviations, Abbreviation::getName, input);
         if (customMatch.isPresent()) {
             return customMatch;
         }
 
-        return findBestFuzzyMatched(fullToAbbreviationObject.values(), input);
+        // Only the names are read from the store, the abbreviation is read for the best match only
+        return findBestFuzzyMatched(getFullNameIndex().findSimilar(input), name -> name, input)
+                .flatMap(this::getByFullName);
+    }
+
+    private StringSimilarityIndex getFullNameIndex() {
+        StringSimilarityIndex index = fullNameIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = fullNameIndex;
+                if (index == null) {
+                    long start = System.nanoTime();
+                    index = new StringSimilarityIndex(fullToAbbreviation.keySet());
+                    fullNameIndex = index;
+                    LOGGER.debug("Indexed {} journal names for fuzzy matching in {} ms", fullToAbbreviation.size(), (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+        }
+        return index;
     }
 
-    private Optional<Abbreviation> findBestFuzzyMatched(Collection<Abbreviation> abbreviations, String input) {
+    private <T> Optional<T> findBestFuzzyMatched(Collection<T> candidatesToCheck, Function<T, String> getName, String input) {
         // threshold for edit distance similarity comparison
         final double SIMILARITY_THRESHOLD = 1.0;
 
-        List<Abbreviation> candidates = abbreviations.stream()
-                                                     .filter(abbreviation -> similarity.isSimilar(input, abbreviation.getName()))
-                                                     .sorted(Comparator.comparingDouble(abbreviation -> similarity.editDistanceIgnoreCase(input, abbreviation.getName())))
-                                                     .toList();
+        List<T> candidates = candidatesToCheck.stream()
+                                              .filter(candidate -> similarity.isSimilar(input, getName.apply(candidate)))
+                                              .sorted(Comparator.comparingDouble(candidate -> similarity.editDistanceIgnoreCase(input, getName.apply(candidate))))
+                                              .toList();
 
         if (candidates.isEmpty()) {
             return Optional.empty();
         }
 
         if (candidates.size() > 1) {
-            double bestDistance = similarity.editDistanceIgnoreCase(input, candidates.getFirst().getName());
-            double secondDistance = similarity.editDistanceIgnoreCase(input, candidates.get(1).getName());
+            double bestDistance = similarity.editDistanceIgnoreCase(input, getName.apply(candidates.getFirst()));
+            double secondDistance = similarity.editDistanceIgnoreCase(input, getName.apply(candidates.get(1)));
 
             // If there is a very close match of two abbreviations, do not use any of them, because they are too close.
             if (Math.abs(bestDistance - secondDistance) < SIMILARITY_THRESHOLD) {
@@ -198,7 +320,42 @@ public class JournalAbbreviationRepository {
         // We do NOT want to keep duplicates
         // The set automatically "removes" duplicates
         // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
-        customAbbreviations.add(abbreviation);
+        if (customAbbreviations.add(abbreviation)) {
+            customAbbreviationsIndex = null;
+        }
+    }
+
+    /**
+     * @return the custom abbreviations matching the given name ignoring case, in the order of {@link #customAbbreviations}
+     */
+    private List<Abbreviation> getCustomAbbreviations(String name) {
+        Map<String, List<Abbreviation>> index = customAbbreviationsIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            for (Abbreviation abbreviation : customAbbreviations) {
+                Set<String> keys = new HashSet<>();
+                keys.add(caseFolded(abbreviation.getName()));
+                keys.add(caseFolded(abbreviation.getAbbreviation()));
+                keys.add(caseFolded(abbreviation.getDotlessAbbreviation()));
+                keys.add(caseFolded(abbreviation.getShortestUniqueAbbreviation()));
+                for (String key : keys) {
+                    index.computeIfAbsent(key, _ -> new ArrayList<>(1)).add(abbreviation);
+                }
+            }
+            customAbbreviationsIndex = index;
+        }
+        return index.getOrDefault(caseFolded(name), List.of());
+    }
+
+    /**
+     * Two strings are equal ignoring case ({@link String#equalsIgnoreCase(String)}) if and only if their case-folded forms are equal.
+     */
+    private static String caseFolded(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            result.append(Character.toLowerCase(Character.toUpperCase(text.charAt(i))));
+        }
+        return result.toString();
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
@@ -225,11 +382,39 @@ public class JournalAbbreviationRepository {
         return get(text).map(Abbreviation::getShortestUniqueAbbreviation);
     }
 
+    /**
+     * @return the full names of the built-in abbreviations, read from the store while iterating
+     */
     public Set<String> getFullNames() {
-        return fullToAbbreviationObject.keySet();
+        return fullToAbbreviation.keySet();
     }
 
+    /**
+     * @return the built-in abbreviations, read from the store while iterating
+     */
     public Collection<Abbreviation> getAllLoaded() {
-        return fullToAbbreviationObject.values();
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Abbreviation> iterator() {
+                Iterator<Map.Entry<String, Abbreviation>> entries = fullToAbbreviation.entrySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Abbreviation next() {
+                        Map.Entry<String, Abbreviation> entry = entries.next();
+                        return withName(entry.getKey(), entry.getValue());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return fullToAbbreviation.size();
+            }
+        };
     }
 }
@@ -22,6 +22,9 @@ public class HTMLChars implements ParamLayoutFormatter {
     /// - `&Hey` **Matched**
     private static final Pattern HTML_ENTITY_PATTERN = Pattern.compile("&(?!(?:[a-z0-9]+|#[0-9]{1,6}|#x[0-9a-fA-F]{1,6});)");
 
+    // Characters which are changed by this formatter. A text without them is returned as is.
+    private static final String CHARACTERS_TO_CONVERT = "\\{}&$~\n";
+
     private boolean keepCurlyBraces = false;
 
     @Override
@@ -33,6 +36,9 @@ public class HTMLChars implements ParamLayoutFormatter {
 
     @Override
     public String format(String inField) {
+        if (!containsCharacterToConvert(inField)) {
+            return inField;
+        }
         String field = normalizedField(inField);
 
         StringBuilder sb = new StringBuilder();
@@ -177,6 +183,15 @@ public class HTMLChars implements ParamLayoutFormatter {
         return sb.toString().replace("~", "&nbsp;"); // Replace any remaining ~ with &nbsp; (non-breaking spaces)
     }
 
+    private static boolean containsCharacterToConvert(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            if (CHARACTERS_TO_CONVERT.indexOf(field.charAt(i)) != -1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String normalizedField(String inField) {
         // Cannot use StringEscapeUtils#escapeHtml4 because it does not handle LaTeX characters and commands.
         return HTML_ENTITY_PATTERN.matcher(inField).replaceAll("&amp;") // Replace & with &amp; if it does not begin an HTML entity
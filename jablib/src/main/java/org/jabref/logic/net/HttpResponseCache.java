@@ -0,0 +1,511 @@
+package org.jabref.logic.net;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache of successful HTTP GET responses, used by {@link URLDownload}.
+ * <p>
+ * A response is fresh for the time given by its <code>max-age</code> directive or its <code>Expires</code> header. A
+ * stale response having an <code>ETag</code> or a <code>Last-Modified</code> header is revalidated with a conditional
+ * request. A response having such a validator, but no explicit freshness, is fresh for the configured heuristic time to
+ * live, which is zero by default. Thus, it is revalidated at each use. Responses having neither explicit freshness nor a
+ * validator are not cached, because it is unknown whether they may be reused. Responses marked with
+ * <code>no-store</code> are not cached either, responses marked with <code>no-cache</code> are always revalidated.
+ * <p>
+ * If the cache grows larger than its size limit, the least recently used responses are removed. A single response
+ * larger than a quarter of the limit is not cached.
+ */
+public class HttpResponseCache {
+
+    public static final long DEFAULT_MAX_SIZE = 100L * 1024 * 1024;
+    public static final Duration DEFAULT_HEURISTIC_TIME_TO_LIVE = Duration.ZERO;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String BODY_SUFFIX = ".body";
+    private static final String META_DATA_SUFFIX = ".properties";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * Temporary files older than this are left over by a store which was interrupted (e.g., by a crash). Younger ones
+     * may still be written, e.g., by another instance of JabRef.
+     */
+    private static final Duration TEMPORARY_FILE_MAX_AGE = Duration.ofHours(1);
+
+    private static final String CONTENT_TYPE_KEY = "contentType";
+    private static final String ETAG_KEY = "eTag";
+    private static final String LAST_MODIFIED_KEY = "lastModified";
+    private static final String EXPIRES_AT_KEY = "expiresAt";
+
+    private final Path directory;
+    private final long maxSize;
+    private final Duration heuristicTimeToLive;
+    private final Clock clock;
+
+    /**
+     * The total size of the cached bodies, determined on first use
+     */
+    private long currentSize = -1;
+
+    /**
+     * @param maxSize             the maximal total size of the cached responses in bytes
+     * @param heuristicTimeToLive the time a response having a validator is considered fresh if the server does not
+     *                            state it
+     */
+    public HttpResponseCache(Path directory, long maxSize, Duration heuristicTimeToLive) {
+        this(directory, maxSize, heuristicTimeToLive, Clock.systemUTC());
+    }
+
+    HttpResponseCache(Path directory, long maxSize, Duration heuristicTimeToLive, Clock clock) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.heuristicTimeToLive = heuristicTimeToLive;
+        this.clock = clock;
+        removeLeftoverTemporaryFiles();
+    }
+
+    /**
+     * A cached response. It is fresh until <code>expiresAt</code> (milliseconds since the epoch).
+     */
+    public record CachedResponse(
+            Path body,
+            long size,
+            @Nullable String contentType,
+            @Nullable String eTag,
+            @Nullable String lastModified,
+            long expiresAt) {
+
+        public boolean hasValidator() {
+            return (eTag != null) || (lastModified != null);
+        }
+
+        /**
+         * @return the request headers asking the server whether this response is still valid
+         */
+        public Map<String, String> getConditionalHeaders() {
+            Map<String, String> headers = new TreeMap<>();
+            if (eTag != null) {
+                headers.put("If-None-Match", eTag);
+            }
+            if (lastModified != null) {
+                headers.put("If-Modified-Since", lastModified);
+            }
+            return headers;
+        }
+    }
+
+    /**
+     * @param headers the request headers. They are part of the key, because they may change the response (e.g., the
+     *                <code>Accept</code> header for content negotiation).
+     */
+    public static String getKey(String url, Map<String, String> headers) {
+        StringBuilder request = new StringBuilder("GET ").append(url);
+        new TreeMap<>(headers).forEach((name, value) -> request.append('\n').append(name.toLowerCase(Locale.ROOT)).append(": ").append(value));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(request.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the cached response for the given key, which may be stale
+     */
+    public synchronized Optional<CachedResponse> get(String key) {
+        Path metaDataFile = directory.resolve(key + META_DATA_SUFFIX);
+        Path body = directory.resolve(key + BODY_SUFFIX);
+        if (!Files.exists(metaDataFile) || !Files.exists(body)) {
+            return Optional.empty();
+        }
+
+        Properties metaData = new Properties();
+        try (Reader reader = Files.newBufferedReader(metaDataFile, StandardCharsets.UTF_8)) {
+            metaData.load(reader);
+            long size = Files.size(body);
+            // The modification time of the body is the time of the last access, which is used for evicting responses
+            Files.setLastModifiedTime(body, FileTime.fromMillis(clock.millis()));
+            return Optional.of(new CachedResponse(
+                    body,
+                    size,
+                    metaData.getProperty(CONTENT_TYPE_KEY),
+                    metaData.getProperty(ETAG_KEY),
+                    metaData.getProperty(LAST_MODIFIED_KEY),
+                    Long.parseLong(metaData.getProperty(EXPIRES_AT_KEY, "0"))));
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.debug("Could not read cached response {}", key, e);
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    public boolean isFresh(CachedResponse response) {
+        return clock.millis() < response.expiresAt();
+    }
+
+    /**
+     * Determines whether the response of the given connection may be stored
+     */
+    public static boolean isCacheable(HttpURLConnection connection) throws IOException {
+        if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+            return false;
+        }
+        String vary = connection.getHeaderField("Vary");
+        List<String> cacheControl = getCacheControl(connection);
+        if (cacheControl.contains("no-store") || "*".equals(vary)) {
+            return false;
+        }
+        boolean hasExplicitFreshness = cacheControl.stream().anyMatch(directive -> directive.startsWith("max-age="))
+                || (connection.getHeaderField("Expires") != null);
+        boolean hasValidator = (connection.getHeaderField("ETag") != null) || (connection.getHeaderField("Last-Modified") != null);
+        return hasExplicitFreshness || hasValidator;
+    }
+
+    /**
+     * Wraps the body of the given connection, such that it is stored while it is read. The response is added to the
+     * cache when the stream is closed after reading the complete body.
+     */
+    public InputStream store(String key, HttpURLConnection connection, InputStream body) {
+        long contentLength = connection.getContentLengthLong();
+        if (contentLength > getMaxEntrySize()) {
+            return body;
+        }
+
+        Path temporaryFile = null;
+        OutputStream out;
+        try {
+            Files.createDirectories(directory);
+            temporaryFile = Files.createTempFile(directory, key, TEMPORARY_SUFFIX);
+            out = Files.newOutputStream(temporaryFile);
+        } catch (IOException e) {
+            // The URL is not logged, because it may contain an API key
+            LOGGER.debug("Could not create cache file for {}", key, e);
+            deleteQuietly(temporaryFile);
+            return body;
+        }
+
+        Properties metaData = new Properties();
+        putIfPresent(metaData, CONTENT_TYPE_KEY, connection.getContentType());
+        putIfPresent(metaData, ETAG_KEY, connection.getHeaderField("ETag"));
+        putIfPresent(metaData, LAST_MODIFIED_KEY, connection.getHeaderField("Last-Modified"));
+        metaData.setProperty(EXPIRES_AT_KEY, Long.toString(getExpiresAt(connection)));
+
+        return new StoringInputStream(body, out, temporaryFile, key, metaData);
+    }
+
+    /**
+     * Updates the freshness of a cached response after the server confirmed that it is still valid
+     */
+    public synchronized void refresh(String key, HttpURLConnection connection) {
+        Path metaDataFile = directory.resolve(key + META_DATA_SUFFIX);
+        Properties metaData = new Properties();
+        try {
+            try (Reader reader = Files.newBufferedReader(metaDataFile, StandardCharsets.UTF_8)) {
+                metaData.load(reader);
+            }
+            metaData.setProperty(EXPIRES_AT_KEY, Long.toString(getExpiresAt(connection)));
+            writeMetaData(key, metaData);
+        } catch (IOException e) {
+            LOGGER.debug("Could not refresh cached response {}", key, e);
+        }
+    }
+
+    private long getExpiresAt(HttpURLConnection connection) {
+        long now = clock.millis();
+        List<String> cacheControl = getCacheControl(connection);
+        if (cacheControl.contains("no-cache")) {
+            return now;
+        }
+        OptionalLong maxAge = cacheControl.stream()
+                                          .filter(directive -> directive.startsWith("max-age="))
+                                          .mapToLong(directive -> parseSeconds(directive.substring("max-age=".length())))
+                                          .findFirst();
+        if (maxAge.isPresent()) {
+            return now + (maxAge.getAsLong() * 1000);
+        }
+        long expires = connection.getExpiration();
+        if (expires > 0) {
+            return expires;
+        }
+        return now + heuristicTimeToLive.toMillis();
+    }
+
+    private static List<String> getCacheControl(HttpURLConnection connection) {
+        String cacheControl = connection.getHeaderField("Cache-Control");
+        if (cacheControl == null) {
+            return List.of();
+        }
+        return Stream.of(cacheControl.split(","))
+                     .map(directive -> directive.trim().toLowerCase(Locale.ROOT))
+                     .toList();
+    }
+
+    private static long parseSeconds(String seconds) {
+        try {
+            return Math.max(0, Long.parseLong(seconds.replace("\"", "").trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void putIfPresent(Properties properties, String key, @Nullable String value) {
+        if (value != null) {
+            properties.setProperty(key, value);
+        }
+    }
+
+    private long getMaxEntrySize() {
+        return maxSize / 4;
+    }
+
+    private synchronized void commit(Path temporaryFile, String key, Properties metaData) throws IOException {
+        remove(key);
+        long size = Files.size(temporaryFile);
+        long sizeOfOtherResponses = getCurrentSize();
+        Path body = directory.resolve(key + BODY_SUFFIX);
+        Files.move(temporaryFile, body, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(body, FileTime.fromMillis(clock.millis()));
+        writeMetaData(key, metaData);
+        currentSize = sizeOfOtherResponses + size;
+        evict();
+    }
+
+    private void writeMetaData(String key, Properties metaData) throws IOException {
+        Path temporaryFile = Files.createTempFile(directory, key, TEMPORARY_SUFFIX);
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                metaData.store(writer, null);
+            }
+            Files.move(temporaryFile, directory.resolve(key + META_DATA_SUFFIX), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(temporaryFile);
+            throw e;
+        }
+    }
+
+    private void removeLeftoverTemporaryFiles() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        long maxLastModified = clock.millis() - TEMPORARY_FILE_MAX_AGE.toMillis();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(TEMPORARY_SUFFIX))
+                 .filter(file -> lastModifiedOf(file) < maxLastModified)
+                 .forEach(HttpResponseCache::deleteQuietly);
+        } catch (IOException e) {
+            LOGGER.debug("Could not remove temporary files of the cache", e);
+        }
+    }
+
+    private static void deleteQuietly(@Nullable Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete cache file {}", file, e);
+        }
+    }
+
+    private void remove(String key) {
+        Path body = directory.resolve(key + BODY_SUFFIX);
+        try {
+            long size = Files.exists(body) ? Files.size(body) : 0;
+            Files.deleteIfExists(directory.resolve(key + META_DATA_SUFFIX));
+            if (Files.deleteIfExists(body) && (currentSize >= 0)) {
+                currentSize -= size;
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not remove cached response {}", key, e);
+        }
+    }
+
+    private long getCurrentSize() throws IOException {
+        if (currentSize < 0) {
+            try (Stream<Path> files = Files.list(directory)) {
+                currentSize = files.filter(file -> file.getFileName().toString().endsWith(BODY_SUFFIX))
+                                   .mapToLong(HttpResponseCache::sizeOf)
+                                   .sum();
+            }
+        }
+        return currentSize;
+    }
+
+    /**
+     * Removes the least recently used responses until the cache is not larger than its limit
+     */
+    private void evict() throws IOException {
+        if (currentSize <= maxSize) {
+            return;
+        }
+        List<Path> bodies;
+        try (Stream<Path> files = Files.list(directory)) {
+            bodies = new ArrayList<>(files.filter(file -> file.getFileName().toString().endsWith(BODY_SUFFIX)).toList());
+        }
+        bodies.sort(Comparator.comparingLong(HttpResponseCache::lastModifiedOf));
+        for (Path body : bodies) {
+            if (currentSize <= maxSize) {
+                break;
+            }
+            String fileName = body.getFileName().toString();
+            remove(fileName.substring(0, fileName.length() - BODY_SUFFIX.length()));
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long lastModifiedOf(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Copies the read bytes to a temporary file, which becomes the cached body once the stream is read completely
+     */
+    private class StoringInputStream extends FilterInputStream {
+
+        private final Path temporaryFile;
+        private final String key;
+        private final Properties metaData;
+        private @Nullable OutputStream out;
+        private long size;
+        private boolean complete;
+
+        StoringInputStream(InputStream in, OutputStream out, Path temporaryFile, String key, Properties metaData) {
+            super(in);
+            this.out = out;
+            this.temporaryFile = temporaryFile;
+            this.key = key;
+            this.metaData = metaData;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b < 0) {
+                complete = true;
+            } else if (out != null) {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count < 0) {
+                complete = true;
+            } else if (out != null) {
+                write(buffer, offset, count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes would be missing in the cached body
+            discard();
+            return super.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void write(byte[] buffer, int offset, int length) {
+            OutputStream target = out;
+            size += length;
+            if ((target == null) || (size > getMaxEntrySize())) {
+                discard();
+                return;
+            }
+            try {
+                target.write(buffer, offset, length);
+            } catch (IOException e) {
+                LOGGER.debug("Could not write cache file {}", temporaryFile, e);
+                discard();
+            }
+        }
+
+        private void discard() {
+            if (out == null) {
+                return;
+            }
+            try {
+                out.close();
+                Files.deleteIfExists(temporaryFile);
+            } catch (IOException e) {
+                LOGGER.debug("Could not delete cache file {}", temporaryFile, e);
+            }
+            out = null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (out != null) {
+                    if (complete) {
+                        OutputStream target = out;
+                        out = null;
+                        try {
+                            target.close();
+                            commit(temporaryFile, key, metaData);
+                        } catch (NoSuchFileException e) {
+                            LOGGER.debug("Cache file {} vanished", temporaryFile, e);
+                        } catch (IOException e) {
+                            LOGGER.debug("Could not store cached response {}", key, e);
+                            deleteQuietly(temporaryFile);
+                        }
+                    } else {
+                        discard();
+                    }
+                }
+            }
+        }
+    }
+}
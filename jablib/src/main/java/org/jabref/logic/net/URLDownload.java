@@ -44,9 +44,11 @@ import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.http.SimpleHttpResponse;
 import org.jabref.model.strings.StringUtil;
 
+import kong.unirest.core.Empty;
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.Unirest;
 import kong.unirest.core.UnirestException;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,7 +64,10 @@ import org.slf4j.LoggerFactory;
  * </code>
  * <br/><br/>
  * Almost each call to a public method creates a new HTTP connection (except for {@link #asString(Charset, URLConnection) asString},
- * which uses an already opened connection). Nothing is cached.
+ * which uses an already opened connection). The connections are kept alive and reused per host by the JDK.
+ * <p>
+ * If a {@link HttpResponseCache} is set (see {@link #setResponseCache(HttpResponseCache)}), the responses of GET requests
+ * are cached. A fresh cached response is used without connecting to the server, a stale one is revalidated.
  */
 public class URLDownload {
 
@@ -71,6 +76,8 @@ public class URLDownload {
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
     private static final int MAX_RETRIES = 3;
 
+    private static volatile @Nullable HttpResponseCache responseCache;
+
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
     private String postData = "";
@@ -109,6 +116,15 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Sets the cache used for the GET requests of all downloads
+     *
+     * @param cache the cache to use, <code>null</code> to disable caching
+     */
+    public static void setResponseCache(@Nullable HttpResponseCache cache) {
+        responseCache = cache;
+    }
+
     public URL getSource() {
         return source;
     }
@@ -116,16 +132,29 @@ public class URLDownload {
     public Optional<String> getMimeType() {
         String contentType;
 
+        HttpResponseCache cache = responseCache;
+        Optional<String> cacheKey = getCacheKey();
+        if ((cache != null) && cacheKey.isPresent()) {
+            Optional<String> cachedContentType = cache.get(cacheKey.get())
+                                                      .filter(cache::isFresh)
+                                                      .map(HttpResponseCache.CachedResponse::contentType)
+                                                      .filter(type -> !type.isEmpty());
+            if (cachedContentType.isPresent()) {
+                return cachedContentType;
+            }
+        }
+
         int retries = 0;
         // Try to use HEAD request to avoid downloading the whole file
         try {
             String urlToCheck = source.toString();
             String locationHeader;
+            HttpResponse<String> response;
             // @formatter:off
             do {
                 // @formatter:on
                 retries++;
-                HttpResponse<String> response = Unirest.head(urlToCheck).asString();
+                response = Unirest.head(urlToCheck).asString();
                 // Check if we have redirects, e.g. arxiv will give otherwise content type html for the original url
                 // We need to do it "manually", because ".followRedirects(true)" only works for GET not for HEAD
                 locationHeader = response.getHeaders().getFirst("location");
@@ -134,7 +163,10 @@ public class URLDownload {
                 }
                 // while loop, because there could be multiple redirects
             } while (!StringUtil.isNullOrEmpty(locationHeader) && retries <= MAX_RETRIES);
-            contentType = Unirest.head(urlToCheck).asString().getHeaders().getFirst("Content-Type");
+            if (!StringUtil.isNullOrEmpty(locationHeader)) {
+                response = Unirest.head(urlToCheck).asString();
+            }
+            contentType = response.getHeaders().getFirst("Content-Type");
             if ((contentType != null) && !contentType.isEmpty()) {
                 return Optional.of(contentType);
             }
@@ -143,9 +175,12 @@ public class URLDownload {
         }
 
         // Use GET request as alternative if no HEAD request is available
+        // Only the first byte is requested, because the body is not needed
         try {
-            contentType = Unirest.get(source.toString()).asString().getHeaders().get("Content-Type").getFirst();
-            if (!StringUtil.isNullOrEmpty(contentType)) {
+            HttpResponse<Empty> response = Unirest.get(source.toString()).header("Range", "bytes=0-0").asEmpty();
+            contentType = response.getHeaders().getFirst("Content-Type");
+            if (((response.getStatus() == HttpURLConnection.HTTP_OK) || (response.getStatus() == HttpURLConnection.HTTP_PARTIAL))
+                    && !StringUtil.isNullOrEmpty(contentType)) {
                 return Optional.of(contentType);
             }
         } catch (Exception e) {
@@ -202,7 +237,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString() throws FetcherException {
-        return asString(StandardCharsets.UTF_8, this.openConnection());
+        return asString(StandardCharsets.UTF_8);
     }
 
     /**
@@ -212,7 +247,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws FetcherException {
-        return asString(encoding, this.openConnection());
+        return asString(encoding, openBody(false).stream());
     }
 
     /**
@@ -233,7 +268,15 @@ public class URLDownload {
      * @return the downloaded string
      */
     public static String asString(Charset encoding, URLConnection connection) throws FetcherException {
-        try (InputStream input = new BufferedInputStream(connection.getInputStream());
+        try {
+            return asString(encoding, connection.getInputStream());
+        } catch (IOException e) {
+            throw new FetcherException("Error downloading", e);
+        }
+    }
+
+    private static String asString(Charset encoding, InputStream body) throws FetcherException {
+        try (InputStream input = new BufferedInputStream(body);
              Writer output = new StringWriter()) {
             copy(input, output, encoding);
             return output.toString();
@@ -264,7 +307,7 @@ public class URLDownload {
      * @param destination the destination file path.
      */
     public void toFile(Path destination) throws FetcherException {
-        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream())) {
+        try (InputStream input = new BufferedInputStream(openBody(false).stream())) {
             Files.copy(input, destination, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             LOGGER.warn("Could not copy input", e);
@@ -276,28 +319,91 @@ public class URLDownload {
      * Takes the web resource as the source for a monitored input stream.
      */
     public ProgressInputStream asInputStream() throws FetcherException {
-        HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
+        ResponseBody body = openBody(true);
+        return new ProgressInputStream(new BufferedInputStream(body.stream()), body.length());
+    }
 
-        int responseCode;
+    private record ResponseBody(InputStream stream, long length) {
+    }
+
+    /**
+     * Opens the body of the response. GET requests are answered from the response cache if possible.
+     *
+     * @param rejectRedirects whether a redirect not followed (e.g., 307) is an error
+     */
+    private ResponseBody openBody(boolean rejectRedirects) throws FetcherException {
+        HttpResponseCache cache = responseCache;
+        Optional<String> cacheKey = getCacheKey();
+        Optional<HttpResponseCache.CachedResponse> cached = Optional.empty();
+        if ((cache != null) && cacheKey.isPresent()) {
+            cached = cache.get(cacheKey.get());
+            if (cached.isPresent() && cache.isFresh(cached.get())) {
+                Optional<ResponseBody> cachedBody = openCachedBody(cached.get());
+                if (cachedBody.isPresent()) {
+                    LOGGER.debug("Using cached response for {}", FetcherException.getRedactedUrl(source.toString()));
+                    return cachedBody.get();
+                }
+                cached = Optional.empty();
+            }
+        }
+
+        Map<String, String> conditionalHeaders = cached.filter(HttpResponseCache.CachedResponse::hasValidator)
+                                                       .map(HttpResponseCache.CachedResponse::getConditionalHeaders)
+                                                       .orElse(Map.of());
+        URLConnection connection = openConnection(conditionalHeaders);
         try {
-            responseCode = urlConnection.getResponseCode();
+            if (!(connection instanceof HttpURLConnection httpConnection)) {
+                return new ResponseBody(connection.getInputStream(), connection.getContentLengthLong());
+            }
+
+            int responseCode = httpConnection.getResponseCode();
+            LOGGER.debug("Response code: {}", responseCode); // We could check for != 200, != 204
+            if ((responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) && (cache != null) && cached.isPresent()) {
+                httpConnection.getInputStream().close();
+                cache.refresh(cacheKey.get(), httpConnection);
+                Optional<ResponseBody> cachedBody = openCachedBody(cached.get());
+                if (cachedBody.isPresent()) {
+                    return cachedBody.get();
+                }
+                // The response was evicted in the meantime
+                connection = openConnection();
+                httpConnection = (HttpURLConnection) connection;
+                responseCode = httpConnection.getResponseCode();
+            }
+            if (rejectRedirects && (responseCode >= 300)) {
+                SimpleHttpResponse simpleHttpResponse = new SimpleHttpResponse(httpConnection);
+                LOGGER.error("Failed to read from url: {}", simpleHttpResponse);
+                throw FetcherException.of(this.source, simpleHttpResponse);
+            }
+
+            InputStream body = httpConnection.getInputStream();
+            if ((cache != null) && cacheKey.isPresent() && HttpResponseCache.isCacheable(httpConnection)) {
+                body = cache.store(cacheKey.get(), httpConnection, body);
+            }
+            return new ResponseBody(body, httpConnection.getContentLengthLong());
         } catch (IOException e) {
-            throw new FetcherException("Error getting response code", e);
-        }
-        LOGGER.debug("Response code: {}", responseCode); // We could check for != 200, != 204
-        if (responseCode >= 300) {
-            SimpleHttpResponse simpleHttpResponse = new SimpleHttpResponse(urlConnection);
-            LOGGER.error("Failed to read from url: {}", simpleHttpResponse);
-            throw FetcherException.of(this.source, simpleHttpResponse);
+            throw new FetcherException("Error getting input stream", e);
         }
-        long fileSize = urlConnection.getContentLengthLong();
-        InputStream inputStream;
+    }
+
+    private static Optional<ResponseBody> openCachedBody(HttpResponseCache.CachedResponse cached) {
         try {
-            inputStream = urlConnection.getInputStream();
+            return Optional.of(new ResponseBody(Files.newInputStream(cached.body()), cached.size()));
         } catch (IOException e) {
-            throw new FetcherException("Error getting input stream", e);
+            LOGGER.debug("Could not read cached response {}", cached.body(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the key of the response in the cache, or an empty optional if the request is not cacheable
+     */
+    private Optional<String> getCacheKey() {
+        boolean isHttp = "http".equalsIgnoreCase(source.getProtocol()) || "https".equalsIgnoreCase(source.getProtocol());
+        if (!isHttp || !postData.isEmpty()) {
+            return Optional.empty();
         }
-        return new ProgressInputStream(new BufferedInputStream(inputStream), fileSize);
+        return Optional.of(HttpResponseCache.getKey(source.toString(), parameters));
     }
 
     /**
@@ -351,9 +457,17 @@ public class URLDownload {
      * @return an open connection
      */
     public URLConnection openConnection() throws FetcherException {
+        return openConnection(Map.of());
+    }
+
+    /**
+     * @param additionalHeaders request headers sent in addition to the ones of this download (e.g., for revalidating a
+     *                          cached response)
+     */
+    private URLConnection openConnection(Map<String, String> additionalHeaders) throws FetcherException {
         URLConnection connection;
         try {
-            connection = getUrlConnection();
+            connection = getUrlConnection(additionalHeaders);
         } catch (IOException e) {
             throw new FetcherException("Error opening connection", e);
         }
@@ -395,7 +509,7 @@ public class URLDownload {
         return connection;
     }
 
-    private URLConnection getUrlConnection() throws IOException {
+    private URLConnection getUrlConnection(Map<String, String> additionalHeaders) throws IOException {
         URLConnection connection = this.source.openConnection();
 
         if (connection instanceof HttpURLConnection httpConnection) {
@@ -410,6 +524,9 @@ public class URLDownload {
         for (Entry<String, String> entry : this.parameters.entrySet()) {
             connection.setRequestProperty(entry.getKey(), entry.getValue());
         }
+        for (Entry<String, String> entry : additionalHeaders.entrySet()) {
+            connection.setRequestProperty(entry.getKey(), entry.getValue());
+        }
         if (!this.postData.isEmpty()) {
             connection.setDoOutput(true);
             try (DataOutputStream wr = new DataOutputStream(connection.getOutputStream())) {
@@ -24,6 +24,12 @@ public class ProtectedTermsLoader {
 
     private final List<ProtectedTermsList> mainList = new ArrayList<>();
 
+    // The matcher for the enabled lists and the state of the lists it was built from
+    private record CachedMatcher(List<ProtectedTermsList> lists, List<Integer> sizes, ProtectedTermsMatcher matcher) {
+    }
+
+    private volatile CachedMatcher cachedMatcher = new CachedMatcher(List.of(), List.of(), new ProtectedTermsMatcher(List.of()));
+
     static {
         INTERNAL_LISTS.put("/protectedterms/months_weekdays.terms", () -> Localization.lang("Months and weekdays in English"));
         INTERNAL_LISTS.put("/protectedterms/countries_territories.terms", () -> Localization.lang("Countries and territories in English"));
@@ -112,6 +118,41 @@ public class ProtectedTermsLoader {
         return new ArrayList<>(result);
     }
 
+    /// Returns a matcher for the terms of all enabled lists.
+    ///
+    /// The matcher is built only if a list was enabled, disabled, added, removed or got new terms since the last call.
+    public ProtectedTermsMatcher getProtectedTermsMatcher() {
+        List<ProtectedTermsList> enabledLists = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        for (ProtectedTermsList list : mainList) {
+            if (list.isEnabled()) {
+                enabledLists.add(list);
+                sizes.add(list.getTermList().size());
+            }
+        }
+
+        CachedMatcher cached = cachedMatcher;
+        if (!isSameLists(cached.lists(), enabledLists) || !cached.sizes().equals(sizes)) {
+            LOGGER.debug("Building matcher for {} protected terms lists", enabledLists.size());
+            cached = new CachedMatcher(enabledLists, sizes, new ProtectedTermsMatcher(getProtectedTerms()));
+            cachedMatcher = cached;
+        }
+        return cached.matcher();
+    }
+
+    private static boolean isSameLists(List<ProtectedTermsList> first, List<ProtectedTermsList> second) {
+        // The lists are compared by identity, as a reloaded list is equal to the list it replaces
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public void addProtectedTermsListFromFile(Path path, boolean enabled) {
         mainList.add(readProtectedTermsListFromFile(path, enabled));
     }
@@ -0,0 +1,131 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/// Finds protected terms in a text in a single pass over the text, regardless of the number of terms.
+///
+/// The terms are stored in a trie. A term is found if
+///
+/// - it starts at the beginning of the text, after one of `- /[(}"`, or directly after a found term, and
+/// - it ends at the end of the text or is followed by a character which is neither an ASCII letter nor `}`.
+///
+/// The text is scanned from left to right. At each position, the longest term starting there is taken, and the text of
+/// a found term is not searched for further terms. Thus, of two overlapping terms, the one starting first wins, even if
+/// the other one is longer: with the terms `A B` and `B C D`, the text `A B C D` becomes `{A B} C D`.
+/// (Before, the terms were replaced one after another, the longest term first, which resulted in `A {B C D}`.)
+public class ProtectedTermsMatcher {
+
+    private static final String CHARACTERS_BEFORE_TERM = "- /[(}\"";
+
+    private static final class Node {
+        // Sorted, to find a child by binary search. Arrays instead of maps keep the trie small for lists with thousands of terms.
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean isTerm;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrAddChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertionPoint = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertionPoint);
+            System.arraycopy(children, 0, newChildren, 0, insertionPoint);
+            System.arraycopy(keys, insertionPoint, newKeys, insertionPoint + 1, keys.length - insertionPoint);
+            System.arraycopy(children, insertionPoint, newChildren, insertionPoint + 1, children.length - insertionPoint);
+            Node child = new Node();
+            newKeys[insertionPoint] = c;
+            newChildren[insertionPoint] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+    }
+
+    private final Node root = new Node();
+
+    public ProtectedTermsMatcher(Collection<String> terms) {
+        for (String term : terms) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < term.length(); i++) {
+                node = node.getOrAddChild(term.charAt(i));
+            }
+            node.isTerm = true;
+        }
+    }
+
+    /// @return the text with every found term enclosed in braces. If no term is found, the text itself is returned.
+    public String protectTerms(String text) {
+        StringBuilder result = null;
+        int copiedUpTo = 0;
+        int lastTermEnd = 0;
+        int position = 0;
+        while (position < text.length()) {
+            if (!mayStartTerm(text, position, lastTermEnd)) {
+                position++;
+                continue;
+            }
+            int termEnd = findLongestTerm(text, position);
+            if (termEnd < 0) {
+                position++;
+                continue;
+            }
+
+            if (result == null) {
+                result = new StringBuilder(text.length() + 16);
+            }
+            result.append(text, copiedUpTo, position)
+                  .append('{')
+                  .append(text, position, termEnd)
+                  .append('}');
+            copiedUpTo = termEnd;
+            lastTermEnd = termEnd;
+            position = termEnd;
+        }
+
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, copiedUpTo, text.length()).toString();
+    }
+
+    private static boolean mayStartTerm(String text, int position, int lastTermEnd) {
+        // A found term ends with the inserted '}'
+        return position == 0 || position == lastTermEnd || CHARACTERS_BEFORE_TERM.indexOf(text.charAt(position - 1)) >= 0;
+    }
+
+    /// @return the end of the longest term starting at the position, or -1 if there is none
+    private int findLongestTerm(String text, int position) {
+        int termEnd = -1;
+        Node node = root;
+        for (int i = position; i < text.length(); i++) {
+            node = node.child(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.isTerm && mayEndTerm(text, i + 1)) {
+                termEnd = i + 1;
+            }
+        }
+        return termEnd;
+    }
+
+    private static boolean mayEndTerm(String text, int end) {
+        if (end == text.length()) {
+            return true;
+        }
+        char c = text.charAt(end);
+        return !(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z') && c != '}';
+    }
+}
@@ -6,8 +6,10 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -62,7 +64,7 @@ public class IndexManager {
         this.preferencesListener = (_, _, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
-        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection(), postgreServer.isPersistent());
 
         LuceneIndexer indexer;
         try {
@@ -232,6 +234,16 @@ public class IndexManager {
         return bibFieldsSearcher.isMatched(entry, query);
     }
 
+    /**
+     * Evaluates the query once for all given entries.
+     *
+     * @return the ids of the given entries matching the query
+     * @implNote No need to check for full-text searches as this method only used by the search groups
+     */
+    public Set<String> getMatchedEntries(Collection<BibEntry> entries, SearchQuery query) {
+        return bibFieldsSearcher.getMatchedEntries(entries, query);
+    }
+
     public static void clearOldSearchIndices() {
         Path currentIndexPath = Directories.getFulltextIndexBaseDirectory();
         Path appData = currentIndexPath.getParent();
@@ -1,36 +1,84 @@
 package org.jabref.logic.search;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.sql.DataSource;
 
 import org.jabref.model.search.PostgreConstants;
 
 import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.search.PostgreConstants.BIB_FIELDS_SCHEME;
+import static org.jabref.model.search.PostgreConstants.FINGERPRINT;
+import static org.jabref.model.search.PostgreConstants.LAST_USED;
+import static org.jabref.model.search.PostgreConstants.LIBRARIES_TABLE;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_PATH;
+import static org.jabref.model.search.PostgreConstants.STAGING_TABLE_SUFFIX;
+import static org.jabref.model.search.PostgreConstants.TABLE_NAME;
 
 public class PostgreServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgreServer.class);
+
+    // Persisted indexes of libraries, which were not opened for this number of days, are removed
+    private static final int UNUSED_LIBRARY_RETENTION_DAYS = 30;
+
     private final EmbeddedPostgres embeddedPostgres;
     private final DataSource dataSource;
+    private final boolean persistent;
 
+    /**
+     * Starts a server with a temporary data directory. Everything indexed is lost on shutdown.
+     */
     public PostgreServer() {
-        EmbeddedPostgres embeddedPostgres;
-        try {
-            embeddedPostgres = EmbeddedPostgres.builder()
-                                               .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
-                                               .start();
-            LOGGER.info("Postgres server started, connection port: {}", embeddedPostgres.getPort());
-        } catch (IOException e) {
-            LOGGER.error("Could not start Postgres server", e);
-            this.embeddedPostgres = null;
-            this.dataSource = null;
-            return;
+        this(null);
+    }
+
+    /**
+     * Starts a server keeping its data in the given directory, so that the indexes of saved libraries survive a restart.
+     * If the server cannot be started on that directory (e.g., because another JabRef instance uses it), a temporary data directory is used.
+     *
+     * @param dataDirectory the data directory, or null for a temporary one
+     */
+    public PostgreServer(@Nullable Path dataDirectory) {
+        EmbeddedPostgres embeddedPostgres = null;
+        if (dataDirectory != null) {
+            try {
+                Files.createDirectories(dataDirectory);
+                embeddedPostgres = EmbeddedPostgres.builder()
+                                                   .setDataDirectory(dataDirectory)
+                                                   .setCleanDataDirectory(false)
+                                                   .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
+                                                   .start();
+                LOGGER.info("Postgres server started using data directory {}, connection port: {}", dataDirectory, embeddedPostgres.getPort());
+            } catch (IOException e) {
+                LOGGER.warn("Could not start Postgres server using data directory {}. Using a temporary one.", dataDirectory, e);
+            }
+        }
+        this.persistent = embeddedPostgres != null;
+
+        if (embeddedPostgres == null) {
+            try {
+                embeddedPostgres = EmbeddedPostgres.builder()
+                                                   .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
+                                                   .start();
+                LOGGER.info("Postgres server started, connection port: {}", embeddedPostgres.getPort());
+            } catch (IOException e) {
+                LOGGER.error("Could not start Postgres server", e);
+                this.embeddedPostgres = null;
+                this.dataSource = null;
+                return;
+            }
         }
 
         this.embeddedPostgres = embeddedPostgres;
@@ -44,14 +92,71 @@ public class PostgreServer {
         try (Connection connection = getConnection()) {
             if (connection != null) {
                 LOGGER.debug("Creating scheme for bib fields");
-                connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
-                connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
+                if (persistent) {
+                    connection.createStatement().execute("CREATE SCHEMA IF NOT EXISTS " + BIB_FIELDS_SCHEME);
+                    connection.createStatement().execute("""
+                            CREATE TABLE IF NOT EXISTS %s (
+                                %s TEXT PRIMARY KEY,
+                                %s TEXT NOT NULL,
+                                %s TEXT,
+                                %s TIMESTAMP NOT NULL DEFAULT now()
+                            )
+                            """.formatted(
+                            PostgreConstants.getLibrariesTableSchemaReference(),
+                            TABLE_NAME,
+                            LIBRARY_PATH,
+                            FINGERPRINT,
+                            LAST_USED));
+                    removeStaleTables(connection);
+                } else {
+                    connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
+                    connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
+                }
             }
         } catch (SQLException e) {
             LOGGER.error("Could not create scheme for bib fields", e);
         }
     }
 
+    /**
+     * Removes the tables of libraries not opened for a long time and tables left behind by unsaved libraries or aborted loads (e.g., after a crash)
+     */
+    private void removeStaleTables(Connection connection) throws SQLException {
+        connection.createStatement().executeUpdate("""
+                DELETE FROM %s
+                WHERE %s < now() - interval '%d days'
+                """.formatted(
+                PostgreConstants.getLibrariesTableSchemaReference(),
+                LAST_USED,
+                UNUSED_LIBRARY_RETENTION_DAYS));
+
+        List<String> registeredTables = new ArrayList<>();
+        try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT %s FROM %s".formatted(TABLE_NAME, PostgreConstants.getLibrariesTableSchemaReference()))) {
+            while (resultSet.next()) {
+                registeredTables.add(resultSet.getString(1));
+            }
+        }
+
+        List<String> staleTables = new ArrayList<>();
+        try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT tablename FROM pg_tables WHERE schemaname = '%s'".formatted(BIB_FIELDS_SCHEME))) {
+            while (resultSet.next()) {
+                String table = resultSet.getString(1);
+                // Staging tables are only used while a library is loaded. Left over ones stem from an aborted load.
+                boolean isStagingTable = table.endsWith(STAGING_TABLE_SUFFIX.toString());
+                if (!LIBRARIES_TABLE.toString().equals(table) && (isStagingTable || registeredTables.stream().noneMatch(table::startsWith))) {
+                    staleTables.add(table);
+                }
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            for (String table : staleTables) {
+                LOGGER.debug("Dropping stale index table {}", table);
+                statement.executeUpdate("DROP TABLE IF EXISTS %s.\"%s\"".formatted(BIB_FIELDS_SCHEME, table));
+            }
+        }
+    }
+
     private void addTrigramExtension() {
         try (Connection connection = getConnection()) {
             if (connection != null) {
@@ -87,6 +192,13 @@ public class PostgreServer {
         return null;
     }
 
+    /**
+     * @return true if the data survives a restart of the server
+     */
+    public boolean isPersistent() {
+        return persistent;
+    }
+
     public void shutdown() {
         if (embeddedPostgres != null) {
             try {
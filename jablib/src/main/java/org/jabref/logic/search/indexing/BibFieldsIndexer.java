@@ -1,15 +1,28 @@
 package org.jabref.logic.search.indexing;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
@@ -25,16 +38,25 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.PostgreConstants;
 import org.jabref.model.strings.LatexToUnicodeAdapter;
 
+import com.google.common.hash.Hashing;
 import io.github.thibaultmeyer.cuid.CUID;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.entry.field.InternalField.TYPE_HEADER;
+import static org.jabref.model.search.PostgreConstants.BIB_FIELDS_SCHEME;
 import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
 import static org.jabref.model.search.PostgreConstants.FIELD_NAME;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_LITERAL;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_TRANSFORMED;
+import static org.jabref.model.search.PostgreConstants.FINGERPRINT;
+import static org.jabref.model.search.PostgreConstants.LAST_USED;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_PATH;
 import static org.jabref.model.search.PostgreConstants.SPLIT_TABLE_SUFFIX;
+import static org.jabref.model.search.PostgreConstants.STAGING_TABLE_SUFFIX;
+import static org.jabref.model.search.PostgreConstants.TABLE_NAME;
 
 public class BibFieldsIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsIndexer.class);
@@ -42,6 +64,13 @@ public class BibFieldsIndexer {
     private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
     private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
 
+    // Libraries with at least this number of entries are loaded using COPY on start
+    private static final int BULK_LOAD_THRESHOLD = 1000;
+    private static final int BULK_LOAD_SLICE_SIZE = 5000;
+
+    // Persisted tables currently used in this JabRef instance. A library opened twice gets a second, non-persisted, table.
+    private static final Set<String> PERSISTED_TABLES_IN_USE = ConcurrentHashMap.newKeySet();
+
     private final BibDatabaseContext databaseContext;
     private final Connection connection;
     private final String libraryName;
@@ -49,27 +78,65 @@ public class BibFieldsIndexer {
     private final String schemaMainTableReference;
     private final String splitValuesTable;
     private final String schemaSplitValuesTableReference;
+    private final String schemaFingerprintsTableReference;
     private final Character keywordSeparator;
+    private final boolean persisted;
+
+    /**
+     * Guards writes which consist of several statements: the rows of the split values table of an entry are deleted
+     * before the new ones are inserted, and fingerprints are only stored if no change of the entry intervened
+     */
+    private final Object writeLock = new Object();
 
     public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection) {
+        this(bibEntryPreferences, databaseContext, connection, false);
+    }
+
+    /**
+     * @param persistIndex if true and the library is saved, the index is kept after closing and reused on the next start.
+     *                     The Postgres server needs to be {@link org.jabref.logic.search.PostgreServer#isPersistent() persistent}.
+     */
+    public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection, boolean persistIndex) {
         this.databaseContext = databaseContext;
         this.connection = connection;
         this.keywordSeparator = bibEntryPreferences.getKeywordSeparator();
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
 
-        this.mainTable = CUID.randomCUID2(12).toString();
+        Optional<String> persistedTable = databaseContext.getDatabasePath()
+                                                         .filter(_ -> persistIndex)
+                                                         .map(BibFieldsIndexer::getPersistedTableName)
+                                                         .filter(PERSISTED_TABLES_IN_USE::add);
+        this.persisted = persistedTable.isPresent();
+        this.mainTable = persistedTable.orElseGet(() -> CUID.randomCUID2(12).toString());
         this.splitValuesTable = mainTable + SPLIT_TABLE_SUFFIX;
 
         this.schemaMainTableReference = PostgreConstants.getMainTableSchemaReference(mainTable);
         this.schemaSplitValuesTableReference = PostgreConstants.getSplitTableSchemaReference(mainTable);
+        this.schemaFingerprintsTableReference = PostgreConstants.getFingerprintsTableSchemaReference(mainTable);
         // TODO: Set-up should be in a background task
         setup();
     }
 
+    /**
+     * The table name of a persisted index is derived from the path of the library, so that it is found again on the next start
+     */
+    private static String getPersistedTableName(Path libraryPath) {
+        String path = libraryPath.toAbsolutePath().normalize().toString();
+        return "l" + Hashing.sha256().hashString(path, StandardCharsets.UTF_8).toString().substring(0, 24);
+    }
+
     /**
      * Creates a table for the library in the database, and sets up indexes on the columns.
      */
     private void setup() {
+        createTables();
+        createIndexes();
+        if (persisted) {
+            createFingerprintsTable();
+        }
+    }
+
+    private void createTables() {
         try {
             connection.createStatement().executeUpdate("""
                     CREATE TABLE IF NOT EXISTS %s (
@@ -105,6 +172,9 @@ public class BibFieldsIndexer {
         } catch (SQLException e) {
             LOGGER.error("Could not create tables for library: {}", libraryName, e);
         }
+    }
+
+    private void createIndexes() {
         try {
             // region btree index on id column
             connection.createStatement().executeUpdate("""
@@ -161,8 +231,230 @@ public class BibFieldsIndexer {
         }
     }
 
+    /**
+     * Drops the secondary indexes created by {@link #createIndexes()}. The primary key is kept, because the upserts need it.
+     */
+    private void dropIndexes() {
+        List<String> indexes = List.of(
+                mainTable + "_" + ENTRY_ID,
+                splitValuesTable + "_" + ENTRY_ID,
+                mainTable + "_" + FIELD_NAME,
+                splitValuesTable + "_" + FIELD_NAME,
+                mainTable + "_" + FIELD_VALUE_LITERAL,
+                splitValuesTable + "_" + FIELD_VALUE_LITERAL);
+        try {
+            for (String index : indexes) {
+                connection.createStatement().executeUpdate("""
+                        DROP INDEX IF EXISTS %s."%s_index"
+                        """.formatted(BIB_FIELDS_SCHEME, index));
+            }
+            LOGGER.debug("Dropped indexes for library: {}", libraryName);
+        } catch (SQLException e) {
+            LOGGER.error("Could not drop indexes for library: {}", libraryName, e);
+        }
+    }
+
     public void updateOnStart(BackgroundTask<?> task) {
-        addToIndex(databaseContext.getDatabase().getEntries(), task);
+        List<BibEntry> entries = databaseContext.getDatabase().getEntries();
+        if (!persisted) {
+            addAllToIndex(entries, task);
+            return;
+        }
+
+        Map<String, String> fingerprints = entries.parallelStream()
+                                                  .collect(Collectors.toConcurrentMap(BibEntry::getId, this::computeFingerprint));
+        List<BibEntry> entriesToIndex = reusePersistedIndex(entries, fingerprints);
+        LOGGER.debug("Reusing the persisted index of {} entries, indexing {} entries", entries.size() - entriesToIndex.size(), entriesToIndex.size());
+        addAllToIndex(entriesToIndex, task);
+        if (!task.isCancelled()) {
+            storeFingerprints(entriesToIndex, fingerprints);
+        }
+    }
+
+    private void addAllToIndex(List<BibEntry> entries, BackgroundTask<?> task) {
+        if (entries.size() < BULK_LOAD_THRESHOLD) {
+            addToIndex(entries, task);
+            return;
+        }
+        try {
+            bulkAddToIndex(entries, task);
+        } catch (SQLException e) {
+            LOGGER.warn("Could not bulk load the index for library: {}. Adding the entries one by one.", libraryName, e);
+            addToIndex(entries, task);
+        }
+    }
+
+    /**
+     * Adds many entries at once, e.g., when a library is opened.
+     * <p>
+     * The fields are transformed on all cores and streamed using the Postgres COPY protocol into unlogged staging tables without any index.
+     * Afterwards, the staging tables are merged into the tables of the library and the indexes are built once.
+     */
+    private void bulkAddToIndex(List<BibEntry> entries, BackgroundTask<?> task) throws SQLException {
+        int count = entries.size();
+        task.showToUser(true);
+        task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
+        long startTime = System.currentTimeMillis();
+        LOGGER.debug("Bulk loading {} entries into index", count);
+
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        String schemaMainStagingTableReference = getStagingTableSchemaReference(mainTable);
+        String schemaSplitStagingTableReference = getStagingTableSchemaReference(splitValuesTable);
+        try {
+            // Staging tables left by an aborted load hold entry ids of an earlier session, which may denote other entries now
+            dropStagingTable(schemaMainStagingTableReference);
+            dropStagingTable(schemaSplitStagingTableReference);
+            createStagingTable(schemaMainStagingTableReference);
+            createStagingTable(schemaSplitStagingTableReference);
+            dropIndexes();
+
+            for (int start = 0; start < count; start += BULK_LOAD_SLICE_SIZE) {
+                if (task.isCancelled()) {
+                    LOGGER.debug("Indexing canceled");
+                    break;
+                }
+                List<BibEntry> slice = entries.subList(start, Math.min(start + BULK_LOAD_SLICE_SIZE, count));
+                List<IndexRows> rows = slice.parallelStream().map(this::createRows).toList();
+
+                StringBuilder mainTableRows = new StringBuilder();
+                StringBuilder splitTableRows = new StringBuilder();
+                for (IndexRows entryRows : rows) {
+                    mainTableRows.append(entryRows.mainTableRows());
+                    splitTableRows.append(entryRows.splitTableRows());
+                }
+                copyIn(copyManager, schemaMainStagingTableReference, mainTableRows);
+                copyIn(copyManager, schemaSplitStagingTableReference, splitTableRows);
+
+                int done = start + slice.size();
+                task.updateProgress(done, count);
+                task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", done, count));
+            }
+            mergeStagingTables(schemaMainStagingTableReference, schemaSplitStagingTableReference);
+        } finally {
+            dropStagingTable(schemaMainStagingTableReference);
+            dropStagingTable(schemaSplitStagingTableReference);
+            createIndexes();
+        }
+        LOGGER.debug("Bulk loaded {} entries into index in {} ms", count, System.currentTimeMillis() - startTime);
+    }
+
+    private static String getStagingTableSchemaReference(String table) {
+        return BIB_FIELDS_SCHEME + ".\"" + table + STAGING_TABLE_SUFFIX + "\"";
+    }
+
+    private void createStagingTable(String schemaStagingTableReference) throws SQLException {
+        connection.createStatement().executeUpdate("""
+                CREATE UNLOGGED TABLE %s (
+                    %s TEXT NOT NULL,
+                    %s TEXT NOT NULL,
+                    %s TEXT,
+                    %s TEXT
+                )
+                """.formatted(
+                schemaStagingTableReference,
+                ENTRY_ID,
+                FIELD_NAME,
+                FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED));
+    }
+
+    private void dropStagingTable(String schemaStagingTableReference) {
+        try {
+            connection.createStatement().executeUpdate("""
+                    DROP TABLE IF EXISTS %s
+                    """.formatted(schemaStagingTableReference));
+        } catch (SQLException e) {
+            LOGGER.error("Could not drop staging table for library: {}", libraryName, e);
+        }
+    }
+
+    private static void copyIn(CopyManager copyManager, String schemaStagingTableReference, StringBuilder csvRows) throws SQLException {
+        if (csvRows.isEmpty()) {
+            return;
+        }
+        String copyQuery = """
+                COPY %s ("%s", "%s", "%s", "%s") FROM STDIN WITH (FORMAT csv)
+                """.formatted(
+                schemaStagingTableReference,
+                ENTRY_ID,
+                FIELD_NAME,
+                FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED);
+        try {
+            copyManager.copyIn(copyQuery, new StringReader(csvRows.toString()));
+        } catch (IOException e) {
+            throw new SQLException("Could not stream rows into " + schemaStagingTableReference, e);
+        }
+    }
+
+    /**
+     * Moves the rows of the staging tables into the tables of the library.
+     * Rows of entries added concurrently by {@link #addToIndex(List, BackgroundTask)} are overwritten by the bulk loaded ones.
+     */
+    private void mergeStagingTables(String schemaMainStagingTableReference, String schemaSplitStagingTableReference) throws SQLException {
+        synchronized (writeLock) {
+            mergeStagingTablesLocked(schemaMainStagingTableReference, schemaSplitStagingTableReference);
+        }
+    }
+
+    private void mergeStagingTablesLocked(String schemaMainStagingTableReference, String schemaSplitStagingTableReference) throws SQLException {
+        connection.createStatement().executeUpdate("""
+                INSERT INTO %s ("%s", "%s", "%s", "%s")
+                SELECT DISTINCT ON ("%s", "%s") "%s", "%s", "%s", "%s"
+                FROM %s
+                ON CONFLICT ("%s", "%s")
+                DO UPDATE SET "%s" = EXCLUDED."%s", "%s" = EXCLUDED."%s"
+                """.formatted(
+                schemaMainTableReference,
+                ENTRY_ID, FIELD_NAME, FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED,
+                ENTRY_ID, FIELD_NAME,
+                ENTRY_ID, FIELD_NAME, FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED,
+                schemaMainStagingTableReference,
+                ENTRY_ID, FIELD_NAME,
+                FIELD_VALUE_LITERAL, FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED, FIELD_VALUE_TRANSFORMED));
+
+        // The split values table has no primary key. Thus, rows already indexed for the staged entries are removed in the same statement.
+        connection.createStatement().executeUpdate("""
+                WITH removed AS (
+                    DELETE FROM %s WHERE "%s" IN (SELECT "%s" FROM %s)
+                )
+                INSERT INTO %s ("%s", "%s", "%s", "%s")
+                SELECT "%s", "%s", "%s", "%s"
+                FROM %s
+                """.formatted(
+                schemaSplitValuesTableReference, ENTRY_ID, ENTRY_ID, schemaMainStagingTableReference,
+                schemaSplitValuesTableReference,
+                ENTRY_ID, FIELD_NAME, FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED,
+                ENTRY_ID, FIELD_NAME, FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED,
+                schemaSplitStagingTableReference));
+    }
+
+    /**
+     * Transforms the fields of the entry into CSV rows for the main table and for the split values table.
+     */
+    private IndexRows createRows(BibEntry entry) {
+        StringBuilder mainTableRows = new StringBuilder();
+        StringBuilder splitTableRows = new StringBuilder();
+        collectRows(entry,
+                (entryId, field, value, normalized) -> appendCsvRow(mainTableRows, entryId, field, value, normalized),
+                (entryId, field, value, normalized) -> appendCsvRow(splitTableRows, entryId, field, value, normalized));
+        return new IndexRows(mainTableRows, splitTableRows);
+    }
+
+    private static void appendCsvRow(StringBuilder builder, String entryId, Field field, String value, String normalized) {
+        appendCsvValue(builder, entryId).append(',');
+        appendCsvValue(builder, field.getName()).append(',');
+        appendCsvValue(builder, value).append(',');
+        appendCsvValue(builder, normalized).append('\n');
+    }
+
+    private static StringBuilder appendCsvValue(StringBuilder builder, String value) {
+        if (value == null) {
+            // An unquoted empty value is read as NULL by COPY
+            return builder;
+        }
+        return builder.append('"').append(value.replace("\"", "\"\"")).append('"');
     }
 
     public void addToIndex(List<BibEntry> entries, BackgroundTask<?> task) {
@@ -212,59 +504,77 @@ public class BibFieldsIndexer {
                 FIELD_VALUE_LITERAL,
                 FIELD_VALUE_TRANSFORMED);
 
+        String deleteFromSplitTable = """
+                DELETE FROM %s WHERE "%s" = ?
+                """.formatted(schemaSplitValuesTableReference, ENTRY_ID);
+
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
-             PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
-            String entryId = bibEntry.getId();
+             PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable);
+             PreparedStatement preparedStatementDeleteSplitValues = connection.prepareStatement(deleteFromSplitTable)) {
             LOGGER.atTrace().setMessage("Adding entry {}").addArgument(bibEntry::getKeyAuthorTitleYear).log();
-            for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
-                Field field = fieldPair.getKey();
-                String value = fieldPair.getValue();
-
-                // Skip indexing of date-related fields separately to ensure proper handling later in the process.
-                if (!DATE_FIELDS.contains(field)) {
-                    // If a field exists, there also exists a resolved field latex free.
-                    // Only exception: If the content of the field is empty, then the resolved field is also empty. Example: `series = {{}}`.
-                    String resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase()).orElse("");
-
-                    // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
-                    addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree);
-                }
-
-                // region Handling of known multi-value fields
-                // split and convert to Unicode
-                if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                    addAuthors(value, preparedStatementSplitValues, entryId, field);
-                } else if (field == StandardField.KEYWORDS) {
-                    addKeywords(value, preparedStatementSplitValues, entryId, field, keywordSeparator);
-                } else if (field == StandardField.GROUPS) {
-                    addGroups(value, preparedStatementSplitValues, entryId, field);
-                } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                    addEntryLinks(bibEntry, field, preparedStatementSplitValues, entryId);
-                } else if (field == StandardField.FILE) {
-                    // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-                    // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
-                    // The use case to search for file names seems pretty seldom, therefore we omit it.
-                } else {
-                    // No other multi-value fields are known
-                    // No action needed -> main table has the value
-                }
-                // endregion
-            }
-            // ensure all date-related fields are indexed.
-            for (Field dateField : DATE_FIELDS) {
-                Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
+            collectRows(bibEntry,
+                    (entryId, field, value, normalized) -> addBatch(preparedStatement, entryId, field, value, normalized),
+                    (entryId, field, value, normalized) -> addBatch(preparedStatementSplitValues, entryId, field, value, normalized));
+            synchronized (writeLock) {
+                // The entry may have been indexed before (e.g., by the bulk load on start), the split values table has no primary key
+                preparedStatementDeleteSplitValues.setString(1, bibEntry.getId());
+                preparedStatementDeleteSplitValues.executeUpdate();
+                preparedStatement.executeBatch();
+                preparedStatementSplitValues.executeBatch();
             }
-            // add entry type
-            addBatch(preparedStatement, entryId, TYPE_HEADER, bibEntry.getType().getName());
-
-            preparedStatement.executeBatch();
-            preparedStatementSplitValues.executeBatch();
         } catch (SQLException e) {
             LOGGER.error("Could not add an entry to the index.", e);
         }
     }
 
+    /**
+     * Determines the rows of the main table and of the split values table for the given entry.
+     */
+    private void collectRows(BibEntry bibEntry, RowConsumer mainTableRows, RowConsumer splitTableRows) {
+        String entryId = bibEntry.getId();
+        for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            String value = fieldPair.getValue();
+
+            // Skip indexing of date-related fields separately to ensure proper handling later in the process.
+            if (!DATE_FIELDS.contains(field)) {
+                // If a field exists, there also exists a resolved field latex free.
+                // Only exception: If the content of the field is empty, then the resolved field is also empty. Example: `series = {{}}`.
+                String resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase()).orElse("");
+
+                // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
+                mainTableRows.accept(entryId, field, value, resolvedFieldLatexFree);
+            }
+
+            // region Handling of known multi-value fields
+            // split and convert to Unicode
+            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+                addAuthors(value, splitTableRows, entryId, field);
+            } else if (field == StandardField.KEYWORDS) {
+                addKeywords(value, splitTableRows, entryId, field, keywordSeparator);
+            } else if (field == StandardField.GROUPS) {
+                addGroups(value, splitTableRows, entryId, field);
+            } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+                addEntryLinks(bibEntry, field, splitTableRows, entryId);
+            } else if (field == StandardField.FILE) {
+                // No handling of File, because due to relative paths, we think, there won't be any exact match operation
+                // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
+                // The use case to search for file names seems pretty seldom, therefore we omit it.
+            } else {
+                // No other multi-value fields are known
+                // No action needed -> main table has the value
+            }
+            // endregion
+        }
+        // ensure all date-related fields are indexed.
+        for (Field dateField : DATE_FIELDS) {
+            Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
+            resolvedDateValue.ifPresent(dateValue -> addRow(mainTableRows, entryId, dateField, dateValue));
+        }
+        // add entry type
+        addRow(mainTableRows, entryId, TYPE_HEADER, bibEntry.getType().getName());
+    }
+
     public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
         if (entries.size() > 1) {
             task.showToUser(true);
@@ -284,6 +594,13 @@ public class BibFieldsIndexer {
     }
 
     private void removeFromIndex(BibEntry entry) {
+        synchronized (writeLock) {
+            removeFingerprint(entry);
+            removeRows(entry);
+        }
+    }
+
+    private void removeRows(BibEntry entry) {
         try {
             connection.createStatement().executeUpdate("""
                     DELETE FROM %s
@@ -300,7 +617,8 @@ public class BibFieldsIndexer {
     }
 
     public void updateEntry(BibEntry entry, Field field) {
-        synchronized (entry.getId()) {
+        synchronized (writeLock) {
+            removeFingerprint(entry);
             removeField(entry, field);
             insertField(entry, field);
         }
@@ -387,15 +705,16 @@ public class BibFieldsIndexer {
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertIntoSplitTable)) {
             String value = entry.getField(field).orElse("");
+            RowConsumer splitTableRows = (rowEntryId, rowField, rowValue, normalized) -> addBatch(preparedStatement, rowEntryId, rowField, rowValue, normalized);
 
             if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                addAuthors(value, preparedStatement, entryId, field);
+                addAuthors(value, splitTableRows, entryId, field);
             } else if (field == StandardField.KEYWORDS) {
-                addKeywords(value, preparedStatement, entryId, field, keywordSeparator);
+                addKeywords(value, splitTableRows, entryId, field, keywordSeparator);
             } else if (field == StandardField.GROUPS) {
-                addGroups(value, preparedStatement, entryId, field);
+                addGroups(value, splitTableRows, entryId, field);
             } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                addEntryLinks(entry, field, preparedStatement, entryId);
+                addEntryLinks(entry, field, splitTableRows, entryId);
             } else if (field == StandardField.FILE) {
                 // No handling of File, because due to relative paths, we think, there won't be any exact match operation
             }
@@ -421,6 +740,246 @@ public class BibFieldsIndexer {
         }
     }
 
+    // region persisted index
+
+    private void createFingerprintsTable() {
+        try {
+            connection.createStatement().executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS %s (
+                        %s TEXT PRIMARY KEY,
+                        %s TEXT NOT NULL
+                    )
+                    """.formatted(
+                    schemaFingerprintsTableReference,
+                    ENTRY_ID,
+                    FINGERPRINT));
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                    INSERT INTO %s ("%s", "%s", "%s")
+                    VALUES (?, ?, now())
+                    ON CONFLICT ("%s")
+                    DO UPDATE SET "%s" = EXCLUDED."%s", "%s" = now()
+                    """.formatted(
+                    PostgreConstants.getLibrariesTableSchemaReference(),
+                    TABLE_NAME, LIBRARY_PATH, LAST_USED,
+                    TABLE_NAME,
+                    LIBRARY_PATH, LIBRARY_PATH, LAST_USED))) {
+                preparedStatement.setString(1, mainTable);
+                preparedStatement.setString(2, databaseContext.getDatabasePath().map(Path::toString).orElse(""));
+                preparedStatement.executeUpdate();
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Could not create fingerprints table for library: {}", libraryName, e);
+        }
+    }
+
+    /**
+     * The fingerprint of an entry covers everything the rows of the entry are derived from: its type, its fields, and the entry it inherits fields from
+     */
+    private String computeFingerprint(BibEntry entry) {
+        StringBuilder content = new StringBuilder(entry.getType().getName());
+        appendFields(content, entry);
+        entry.getField(StandardField.CROSSREF)
+             .flatMap(key -> databaseContext.getDatabase().getEntryByCitationKey(key))
+             .ifPresent(parent -> appendFields(content.append("\n@crossref"), parent));
+        return Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+    }
+
+    private static void appendFields(StringBuilder content, BibEntry entry) {
+        entry.getFieldMap().entrySet().stream()
+             .sorted(Comparator.comparing(field -> field.getKey().getName()))
+             .forEach(field -> content.append('\n').append(field.getKey().getName()).append('=').append(field.getValue()));
+    }
+
+    /**
+     * The fingerprint of the library covers everything besides the entries the rows depend on: the strings and the keyword separator
+     */
+    private String computeLibraryFingerprint() {
+        StringBuilder content = new StringBuilder(keywordSeparator.toString());
+        databaseContext.getDatabase().getStringValues().stream()
+                       .map(string -> string.getName() + "=" + string.getContent())
+                       .sorted()
+                       .forEach(string -> content.append('\n').append(string));
+        return Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Matches the entries with the entries indexed in a previous session by their fingerprint.
+     * The rows of matched entries are kept and moved to the ids of this session. All other rows are removed.
+     *
+     * @return the entries which need to be indexed
+     */
+    private List<BibEntry> reusePersistedIndex(List<BibEntry> entries, Map<String, String> fingerprints) {
+        try {
+            String libraryFingerprint = computeLibraryFingerprint();
+            if (!libraryFingerprint.equals(getStoredLibraryFingerprint().orElse(null))) {
+                LOGGER.debug("Strings or preferences of library {} changed since the last indexing. Reindexing all entries.", libraryName);
+                removeAllRows();
+                storeLibraryFingerprint(libraryFingerprint);
+                return entries;
+            }
+
+            Map<String, Deque<String>> storedIdsByFingerprint = new HashMap<>();
+            try (ResultSet resultSet = connection.createStatement().executeQuery("""
+                    SELECT "%s", "%s" FROM %s
+                    """.formatted(ENTRY_ID, FINGERPRINT, schemaFingerprintsTableReference))) {
+                while (resultSet.next()) {
+                    storedIdsByFingerprint.computeIfAbsent(resultSet.getString(2), _ -> new ArrayDeque<>()).add(resultSet.getString(1));
+                }
+            }
+
+            List<BibEntry> entriesToIndex = new ArrayList<>();
+            Map<String, String> storedIdToNewId = new HashMap<>();
+            for (BibEntry entry : entries) {
+                Deque<String> storedIds = storedIdsByFingerprint.get(fingerprints.get(entry.getId()));
+                if (storedIds == null || storedIds.isEmpty()) {
+                    entriesToIndex.add(entry);
+                } else {
+                    storedIdToNewId.put(storedIds.poll(), entry.getId());
+                }
+            }
+
+            removeRowsExcept(storedIdToNewId.keySet());
+            moveRows(storedIdToNewId);
+            return entriesToIndex;
+        } catch (SQLException e) {
+            LOGGER.error("Could not reuse the persisted index of library: {}. Reindexing all entries.", libraryName, e);
+            removeAllRows();
+            return entries;
+        }
+    }
+
+    private Optional<String> getStoredLibraryFingerprint() throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                SELECT "%s" FROM %s WHERE "%s" = ?
+                """.formatted(FINGERPRINT, PostgreConstants.getLibrariesTableSchemaReference(), TABLE_NAME))) {
+            preparedStatement.setString(1, mainTable);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? Optional.ofNullable(resultSet.getString(1)) : Optional.empty();
+            }
+        }
+    }
+
+    private void storeLibraryFingerprint(String libraryFingerprint) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                UPDATE %s SET "%s" = ? WHERE "%s" = ?
+                """.formatted(PostgreConstants.getLibrariesTableSchemaReference(), FINGERPRINT, TABLE_NAME))) {
+            preparedStatement.setString(1, libraryFingerprint);
+            preparedStatement.setString(2, mainTable);
+            preparedStatement.executeUpdate();
+        }
+    }
+
+    private void removeAllRows() {
+        try {
+            connection.createStatement().executeUpdate("""
+                    TRUNCATE %s, %s, %s
+                    """.formatted(schemaMainTableReference, schemaSplitValuesTableReference, schemaFingerprintsTableReference));
+        } catch (SQLException e) {
+            LOGGER.error("Could not clear the index of library: {}", libraryName, e);
+        }
+    }
+
+    private void removeRowsExcept(Set<String> entryIdsToKeep) throws SQLException {
+        Array ids = connection.createArrayOf("text", entryIdsToKeep.toArray());
+        for (String table : List.of(schemaMainTableReference, schemaSplitValuesTableReference, schemaFingerprintsTableReference)) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                    DELETE FROM %s WHERE NOT ("%s" = ANY(?))
+                    """.formatted(table, ENTRY_ID))) {
+                preparedStatement.setArray(1, ids);
+                preparedStatement.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Moves the rows from the ids of the previous session to the ids of this session.
+     * As the ids of both sessions may overlap, the rows are moved in two steps using a prefix not occurring in ids.
+     */
+    private void moveRows(Map<String, String> storedIdToNewId) throws SQLException {
+        if (storedIdToNewId.isEmpty()) {
+            return;
+        }
+        List<String> storedIds = new ArrayList<>(storedIdToNewId.keySet());
+        Array storedIdsArray = connection.createArrayOf("text", storedIds.toArray());
+        Array newIdsArray = connection.createArrayOf("text", storedIds.stream().map(storedIdToNewId::get).toArray());
+        for (String table : List.of(schemaMainTableReference, schemaSplitValuesTableReference, schemaFingerprintsTableReference)) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                    UPDATE %s AS t SET "%s" = '~' || mapping.new_id
+                    FROM unnest(?::text[], ?::text[]) AS mapping(stored_id, new_id)
+                    WHERE t."%s" = mapping.stored_id
+                    """.formatted(table, ENTRY_ID, ENTRY_ID))) {
+                preparedStatement.setArray(1, storedIdsArray);
+                preparedStatement.setArray(2, newIdsArray);
+                preparedStatement.executeUpdate();
+            }
+            connection.createStatement().executeUpdate("""
+                    UPDATE %s SET "%s" = substr("%s", 2) WHERE "%s" LIKE '~%%'
+                    """.formatted(table, ENTRY_ID, ENTRY_ID, ENTRY_ID));
+        }
+    }
+
+    /**
+     * Stores the fingerprints computed before indexing. An entry changed meanwhile is skipped, as its fingerprint does
+     * not describe the indexed rows. Holding the lock, a change indexed afterward removes the stored fingerprint again.
+     */
+    private void storeFingerprints(List<BibEntry> entries, Map<String, String> fingerprints) {
+        synchronized (writeLock) {
+            storeFingerprintsLocked(entries, fingerprints);
+        }
+    }
+
+    private void storeFingerprintsLocked(List<BibEntry> entries, Map<String, String> fingerprints) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                INSERT INTO %s ("%s", "%s")
+                VALUES (?, ?)
+                ON CONFLICT ("%s")
+                DO UPDATE SET "%s" = EXCLUDED."%s"
+                """.formatted(
+                schemaFingerprintsTableReference,
+                ENTRY_ID, FINGERPRINT,
+                ENTRY_ID,
+                FINGERPRINT, FINGERPRINT))) {
+            for (BibEntry entry : entries) {
+                String fingerprint = fingerprints.get(entry.getId());
+                if (!fingerprint.equals(computeFingerprint(entry))) {
+                    continue;
+                }
+                preparedStatement.setString(1, entry.getId());
+                preparedStatement.setString(2, fingerprint);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        } catch (SQLException e) {
+            LOGGER.error("Could not store the fingerprints of library: {}", libraryName, e);
+        }
+    }
+
+    /**
+     * An entry changed in this session is reindexed on the next start, because the stored fingerprint does not describe the indexed rows anymore
+     */
+    private void removeFingerprint(BibEntry entry) {
+        if (!persisted) {
+            return;
+        }
+        synchronized (writeLock) {
+            removeFingerprintLocked(entry);
+        }
+    }
+
+    private void removeFingerprintLocked(BibEntry entry) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                DELETE FROM %s WHERE "%s" = ?
+                """.formatted(schemaFingerprintsTableReference, ENTRY_ID))) {
+            preparedStatement.setString(1, entry.getId());
+            preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("Could not remove fingerprint of entry {}", entry.getId(), e);
+        }
+    }
+
+    // endregion
+
     public void close() {
         HeadlessExecutorService.INSTANCE.execute(this::closeIndex);
     }
@@ -432,12 +991,20 @@ public class BibFieldsIndexer {
     private void closeIndex() {
         try {
             LOGGER.debug("Closing connection to Postgres server for library: {}", libraryName);
-            connection.createStatement().executeUpdate("""
-                    DROP TABLE IF EXISTS %s
-                    """.formatted(schemaMainTableReference));
-            connection.createStatement().executeUpdate("""
-                    DROP TABLE IF EXISTS %s
-                    """.formatted(schemaSplitValuesTableReference));
+            if (persisted) {
+                // Keep the tables for the next start
+                connection.createStatement().executeUpdate("""
+                        UPDATE %s SET "%s" = now() WHERE "%s" = '%s'
+                        """.formatted(PostgreConstants.getLibrariesTableSchemaReference(), LAST_USED, TABLE_NAME, mainTable));
+                PERSISTED_TABLES_IN_USE.remove(mainTable);
+            } else {
+                connection.createStatement().executeUpdate("""
+                        DROP TABLE IF EXISTS %s
+                        """.formatted(schemaMainTableReference));
+                connection.createStatement().executeUpdate("""
+                        DROP TABLE IF EXISTS %s
+                        """.formatted(schemaSplitValuesTableReference));
+            }
             connection.close();
         } catch (SQLException e) {
             LOGGER.error("Could not drop table for library: {}", libraryName, e);
@@ -448,34 +1015,34 @@ public class BibFieldsIndexer {
         return mainTable;
     }
 
-    private void addEntryLinks(BibEntry bibEntry, Field field, PreparedStatement preparedStatementSplitValues, String entryId) {
+    private void addEntryLinks(BibEntry bibEntry, Field field, RowConsumer splitTableRows, String entryId) {
         bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
                 .distinct()
-                .forEach(link -> addBatch(preparedStatementSplitValues, entryId, field, link.getKey()));
+                .forEach(link -> addRow(splitTableRows, entryId, field, link.getKey()));
     }
 
-    private static void addGroups(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addGroups(String value, RowConsumer splitTableRows, String entryId, Field field) {
         // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
         Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
               .distinct()
-              .forEach(group -> addBatch(preparedStatementSplitValues, entryId, field, group));
+              .forEach(group -> addRow(splitTableRows, entryId, field, group));
     }
 
-    private static void addKeywords(String keywordsString, PreparedStatement preparedStatementSplitValues, String entryId, Field field, Character keywordSeparator) {
+    private static void addKeywords(String keywordsString, RowConsumer splitTableRows, String entryId, Field field, Character keywordSeparator) {
         KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
         keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
             String value = keyword.toString();
-            addBatch(preparedStatementSplitValues, entryId, field, value);
+            addRow(splitTableRows, entryId, field, value);
         });
     }
 
-    private static void addAuthors(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addAuthors(String value, RowConsumer splitTableRows, String entryId, Field field) {
         AuthorList.parse(value).getAuthors().forEach(author -> {
             // Author object does not support literal values
             // We use the method giving us the most complete information for the literal value;
             String literal = author.getGivenFamily(false);
             String transformed = author.latexFree().getGivenFamily(false);
-            addBatch(preparedStatementSplitValues, entryId, field, literal, transformed);
+            splitTableRows.accept(entryId, field, literal, transformed);
         });
     }
 
@@ -483,6 +1050,10 @@ public class BibFieldsIndexer {
         addBatch(preparedStatement, entryId, field, value, LatexToUnicodeAdapter.format(value));
     }
 
+    private static void addRow(RowConsumer rows, String entryId, Field field, String value) {
+        rows.accept(entryId, field, value, LatexToUnicodeAdapter.format(value));
+    }
+
     /**
      * The values are passed as they should be inserted into the database table
      */
@@ -497,4 +1068,15 @@ public class BibFieldsIndexer {
             LOGGER.error("Could not add field {} having value {} of entry {} to the index.", field.getName(), value, entryId, e);
         }
     }
+
+    /**
+     * Receives the values of a row as they should be inserted into the database table
+     */
+    @FunctionalInterface
+    private interface RowConsumer {
+        void accept(String entryId, Field field, String value, String normalized);
+    }
+
+    private record IndexRows(StringBuilder mainTableRows, StringBuilder splitTableRows) {
+    }
 }
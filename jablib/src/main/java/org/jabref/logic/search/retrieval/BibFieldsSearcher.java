@@ -1,9 +1,14 @@
 package org.jabref.logic.search.retrieval;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.BibEntry;
@@ -29,13 +34,47 @@ public class BibFieldsSearcher {
     }
 
     public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
-        SearchQuery newSearchQuery = createBooleanQueryForEntry(entry, searchQuery);
-        return search(newSearchQuery).isMatched(entry);
+        return getMatchedEntries(List.of(entry), searchQuery).contains(entry.getId());
     }
 
-    private static SearchQuery createBooleanQueryForEntry(BibEntry entry, SearchQuery oldSearchQuery) {
-        String newSearchExpression = "( " + ENTRY_ID + "= " + entry.getId() + ") AND (" + oldSearchQuery.getSearchExpression() + " )";
-        return new SearchQuery(newSearchExpression, oldSearchQuery.getSearchFlags());
+    /**
+     * Evaluates the search query once for a set of entries instead of issuing one query per entry.
+     * The query of the search is wrapped and restricted to the ids of the given entries.
+     *
+     * @return the ids of the given entries matching the query
+     */
+    public Set<String> getMatchedEntries(Collection<BibEntry> entries, SearchQuery searchQuery) {
+        Set<String> matchedEntries = new HashSet<>();
+        if (entries.isEmpty() || !searchQuery.isValid()) {
+            return matchedEntries;
+        }
+
+        SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, searchQuery);
+        String restrictedQuery = """
+                SELECT matches.%s
+                FROM (
+                %s
+                ) AS matches
+                WHERE matches.%s = ANY(?)
+                """.formatted(ENTRY_ID, sqlQueryNode.cte(), ENTRY_ID);
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(restrictedQuery)) {
+            List<String> params = sqlQueryNode.params();
+            for (int i = 0; i < params.size(); i++) {
+                preparedStatement.setString(i + 1, params.get(i));
+            }
+            Array entryIds = connection.createArrayOf("text", entries.stream().map(BibEntry::getId).toArray());
+            preparedStatement.setArray(params.size() + 1, entryIds);
+            LOGGER.debug("Executing restricted search query for {} entries: {}", entries.size(), preparedStatement);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    matchedEntries.add(resultSet.getString(1));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error during bib fields search execution", e);
+        }
+        return matchedEntries;
     }
 
     public SearchResults search(SearchQuery searchQuery) {
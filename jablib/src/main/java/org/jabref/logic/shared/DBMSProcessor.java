@@ -592,6 +592,34 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Fetches the shared entries which are not known locally or have a higher version than the local ones.
+     * All other entries are not transferred.
+     *
+     * @param localIDVersionMapping mapping between the shared IDs and versions of the local entries
+     */
+    public List<BibEntry> getNewerSharedEntries(Map<Integer, Integer> localIDVersionMapping) {
+        return getNewerSharedEntries(getSharedIDVersionMapping(), localIDVersionMapping);
+    }
+
+    /**
+     * Fetches the shared entries which are not known locally or have a higher version than the local ones.
+     *
+     * @param sharedIDVersionMapping mapping as returned by {@link #getSharedIDVersionMapping()}
+     * @param localIDVersionMapping  mapping between the shared IDs and versions of the local entries
+     */
+    public List<BibEntry> getNewerSharedEntries(Map<Integer, Integer> sharedIDVersionMapping, Map<Integer, Integer> localIDVersionMapping) {
+        List<Integer> newerSharedIDs = sharedIDVersionMapping.entrySet().stream()
+                                                             .filter(idVersion -> {
+                                                                 Integer localVersion = localIDVersionMapping.get(idVersion.getKey());
+                                                                 return (localVersion == null) || (idVersion.getValue() > localVersion);
+                                                             })
+                                                             .map(Map.Entry::getKey)
+                                                             .sorted()
+                                                             .toList();
+        return partitionAndGetSharedEntries(newerSharedIDs);
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
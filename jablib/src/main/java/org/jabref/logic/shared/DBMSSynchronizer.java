@@ -3,10 +3,13 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.FieldPreferences;
@@ -58,6 +61,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final FileUpdateMonitor fileMonitor;
     private Optional<BibEntry> lastEntryChanged;
     private final String userAndHost;
+    // Local entries by their shared ID. Kept current by the entry events, so that a pull does not scan all local entries for each shared entry.
+    private final Map<Integer, BibEntry> localEntriesBySharedID = new ConcurrentHashMap<>();
 
     public DBMSSynchronizer(@NonNull BibDatabaseContext bibDatabaseContext,
                             Character keywordSeparator,
@@ -92,6 +97,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             // Reset last changed entry because it just has already been synchronized -> Why necessary?
             lastEntryChanged = Optional.empty();
         }
+        // Shared entries already have their shared ID, local ones got it by the insertion above
+        indexEntries(event.getBibEntries());
     }
 
     /**
@@ -118,6 +125,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      */
     @Subscribe
     public void listen(EntriesRemovedEvent event) {
+        unindexEntries(event.getBibEntries());
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to delete the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
@@ -185,43 +193,58 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
-        List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
-        for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
-                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+
+        Map<Integer, Integer> localIDVersionMap = new HashMap<>();
+        localEntriesBySharedID.forEach((sharedID, localEntry) -> localIDVersionMap.put(sharedID, localEntry.getSharedBibEntryData().getVersion()));
+
+        // only the entries which are new or have a higher version are fetched
+        List<BibEntry> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        for (BibEntry sharedEntry : dbmsProcessor.getNewerSharedEntries(idVersionMap, localIDVersionMap)) {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (localEntry == null) {
+                entriesToInsertIntoLocalDatabase.add(sharedEntry);
+            } else {
+                updateLocalEntry(localEntry, sharedEntry);
             }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
             // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+            bibDatabase.insertEntries(entriesToInsertIntoLocalDatabase, EntriesEventSource.SHARED);
+            indexEntries(entriesToInsertIntoLocalDatabase);
+        }
+    }
+
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData()
+                  .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        sharedEntry.getFieldMap().forEach(
+                // copy remote values to local entry
+                (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+        );
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(
+                          field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                  );
+    }
+
+    private void indexEntries(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            int sharedID = entry.getSharedBibEntryData().getSharedID();
+            if (sharedID != -1) {
+                localEntriesBySharedID.put(sharedID, entry);
+            }
+        }
+    }
+
+    private void unindexEntries(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            localEntriesBySharedID.remove(entry.getSharedBibEntryData().getSharedID(), entry);
         }
     }
 
@@ -237,6 +260,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
                             .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
                             .collect(Collectors.toList());
         if (!entriesToRemove.isEmpty()) {
+            unindexEntries(entriesToRemove);
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
             bibDatabase.removeEntries(entriesToRemove, EntriesEventSource.SHARED);
@@ -390,6 +414,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         this.dbName = connection.getProperties().getDatabase();
         this.currentConnection = connection.getConnection();
         this.dbmsProcessor = DBMSProcessor.getProcessorInstance(connection);
+        localEntriesBySharedID.clear();
+        indexEntries(bibDatabase.getEntries());
         initializeDatabases();
     }
 
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.os.OS;
 import org.jabref.model.search.LinkedFilesConstants;
+import org.jabref.model.search.PostgreConstants;
 
 import net.harawata.appdirs.AppDirsFactory;
 
@@ -46,6 +47,16 @@ public class Directories {
                                              OS.APP_DIR_APP_AUTHOR));
     }
 
+    /**
+     * Returns the data directory of the embedded Postgres server holding the bib fields search index
+     */
+    public static Path getBibFieldsIndexDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "postgres" + File.separator + PostgreConstants.VERSION,
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public static Path getAiFilesDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                                      .getUserDataDir(OS.APP_DIR_APP_NAME,
@@ -68,4 +79,14 @@ public class Directories {
                                       "relations",
                                       OS.APP_DIR_APP_AUTHOR));
     }
+
+    /**
+     * Returns the directory of the cache for responses of web fetchers. The cache may be deleted at any time.
+     */
+    public static Path getHttpCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserCacheDir(OS.APP_DIR_APP_NAME,
+                                             "http",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
 }
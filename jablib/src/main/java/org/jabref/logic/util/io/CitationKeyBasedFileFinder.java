@@ -1,20 +1,16 @@
 package org.jabref.logic.util.io;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.function.BiPredicate;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.model.entry.BibEntry;
@@ -46,16 +42,19 @@ class CitationKeyBasedFileFinder implements FileFinder {
         String citeKey = citeKeyOptional.get();
 
         Function<Path, Boolean> filteringFunction;
+        Set<String> fileNamePrefixes;
 
         if (exactKeyOnly) {
             // LOGGER.debug("Found exact match for key {} in file {}", citeKey, file);
             filteringFunction = (Path p) -> FileUtil.getBaseName(p.getFileName().toString()).equals(citeKey);
+            fileNamePrefixes = Set.of(citeKey);
         } else {
             // LOGGER.debug("Found non-exact match for key {} in file {}", citeKey, file);
             filteringFunction = (Path p) -> matches(p.getFileName().toString(), citeKey);
+            fileNamePrefixes = new HashSet<>(List.of(citeKey, FileNameCleaner.cleanFileName(citeKey)));
         }
 
-        SortedSet<Path> result = findFilesByExtension(directories, extensions, filteringFunction);
+        SortedSet<Path> result = findFilesByExtension(directories, extensions, fileNamePrefixes, filteringFunction);
 
         return result.stream().toList();
     }
@@ -73,20 +72,22 @@ class CitationKeyBasedFileFinder implements FileFinder {
 
     /**
      * Returns a list of all files in the given directories which have one of the given extension.
+     * Only files whose name starts with one of the given prefixes are considered.
      */
     private SortedSet<Path> findFilesByExtension(List<Path> directories,
                                                  @NonNull Collection<String> extensions,
-                                                 Function<Path, Boolean> filteringFunction) throws IOException {
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, _) -> !Files.isDirectory(path)
-                && extensions.contains(FileUtil.getFileExtension(path).orElse("")) && filteringFunction.apply(path);
-
+                                                 Set<String> fileNamePrefixes,
+                                                 Function<Path, Boolean> filteringFunction) {
         SortedSet<Path> result = new TreeSet<>();
         for (Path directory : directories) {
             if (Files.exists(directory)) {
-                try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension, FileVisitOption.FOLLOW_LINKS)) {
-                    result.addAll(pathStream.collect(Collectors.toSet()));
-                } catch (UncheckedIOException e) {
-                    throw new IOException("Problem in finding files", e);
+                FileDirectoryIndex index = FileDirectoryIndex.of(directory);
+                for (String prefix : fileNamePrefixes) {
+                    index.findFilesByNamePrefix(prefix).stream()
+                         .filter(path -> !index.isDirectory(path)
+                                 && extensions.contains(FileUtil.getFileExtension(path).orElse(""))
+                                 && filteringFunction.apply(path))
+                         .forEach(result::add);
                 }
             }
         }
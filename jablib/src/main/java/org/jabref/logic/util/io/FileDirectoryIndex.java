@@ -0,0 +1,453 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.os.OS;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the files and directories below a directory. It is used to find files for many entries without walking
+ * the directory tree for each entry.
+ * <p>
+ * An index is built on first use and cached for later operations (see {@link #of(Path)}). A {@link WatchService} keeps
+ * it up to date. The pending events are processed before each query, thus a change is visible as soon as the file
+ * system reports it. Network file systems do not report changes made by other machines, and on macOS, the JDK polls for
+ * changes with a delay of seconds. Thus, such directories are not watched. An index which is not watched (also because
+ * the limit of watched directories is reached, or because it was evicted from the cache while still in use) is rebuilt
+ * for each operation instead.
+ * <p>
+ * As a safeguard against missed events, every index is rebuilt when it is older than {@link #MAX_AGE_MILLIS}. An index
+ * not queried for that long releases its watches and its content.
+ * <p>
+ * Like {@link Files#find(Path, int, java.util.function.BiPredicate, FileVisitOption...)} with
+ * {@link FileVisitOption#FOLLOW_LINKS}, symbolic links are followed. The children of a directory are kept in the order
+ * in which the file system lists them.
+ */
+public class FileDirectoryIndex implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileDirectoryIndex.class);
+
+    private static final int MAX_CACHED_INDEXES = 16;
+
+    /**
+     * An index which is not watched is reused as long as it is queried at least this often. This way, it is built
+     * once per operation.
+     */
+    private static final long UNWATCHED_VALIDITY_MILLIS = 5_000;
+
+    private static final long MAX_AGE_MILLIS = 120_000;
+
+    /**
+     * The number of directories watched by all indexes, which is limited to leave watches (e.g., inotify watches on
+     * Linux) to other applications
+     */
+    private static final AtomicInteger WATCHED_DIRECTORIES = new AtomicInteger();
+    private static final int MAX_WATCHED_DIRECTORIES = 4096;
+
+    private static final List<String> NETWORK_FILE_SYSTEM_TYPES = List.of("nfs", "cifs", "smb", "afp", "webdav", "davfs", "sshfs", "fuse", "9p");
+
+    /**
+     * Cached indexes in access order, guarded by itself
+     */
+    private static final Map<Path, FileDirectoryIndex> CACHE = new LinkedHashMap<>(MAX_CACHED_INDEXES, 0.75f, true);
+
+    private final Path root;
+    private final Clock clock;
+
+    /**
+     * Maps each indexed directory to its direct children (files and directories)
+     */
+    private final Map<Path, Set<Path>> children = new HashMap<>();
+    private final Map<String, Set<Path>> filesByNormalizedBaseName = new HashMap<>();
+    private final NavigableMap<String, Set<Path>> filesByName = new TreeMap<>();
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+
+    private @Nullable WatchService watchService;
+    private boolean stale = true;
+    private boolean closed;
+    private long builtMillis;
+    // Volatile, because idle indexes are determined without acquiring their lock
+    private volatile long lastQueryMillis;
+
+    FileDirectoryIndex(Path root) {
+        this(root, Clock.systemUTC());
+    }
+
+    FileDirectoryIndex(Path root, Clock clock) {
+        this.root = root;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the index of the given directory. Indexes are shared, thus an index built by one operation is reused by
+     * later operations as long as it is kept up to date.
+     */
+    public static FileDirectoryIndex of(Path directory) {
+        FileDirectoryIndex index;
+        FileDirectoryIndex evicted = null;
+        List<FileDirectoryIndex> idle;
+        synchronized (CACHE) {
+            index = CACHE.computeIfAbsent(directory, FileDirectoryIndex::new);
+            if (CACHE.size() > MAX_CACHED_INDEXES) {
+                Iterator<FileDirectoryIndex> eldest = CACHE.values().iterator();
+                evicted = eldest.next();
+                eldest.remove();
+            }
+            idle = CACHE.values().stream().filter(FileDirectoryIndex::isIdle).toList();
+        }
+        // Closed outside the lock of the cache, because closing waits for a running query of the evicted index
+        if (evicted != null) {
+            evicted.close();
+        }
+        idle.forEach(FileDirectoryIndex::releaseIfIdle);
+        return index;
+    }
+
+    /**
+     * @return the files and directories directly inside the given directory, or an empty list if the directory is not
+     * part of the index
+     */
+    public synchronized List<Path> getChildren(Path directory) {
+        update();
+        return List.copyOf(children.getOrDefault(directory, Set.of()));
+    }
+
+    public synchronized boolean isDirectory(Path path) {
+        update();
+        return children.containsKey(path);
+    }
+
+    /**
+     * @return all directories below the given directory, excluding the directory itself, in depth-first order
+     */
+    public synchronized List<Path> getSubdirectories(Path directory) {
+        update();
+        List<Path> result = new ArrayList<>();
+        Deque<Path> toVisit = new ArrayDeque<>();
+        toVisit.push(directory);
+        while (!toVisit.isEmpty()) {
+            Path current = toVisit.pop();
+            if (!current.equals(directory)) {
+                result.add(current);
+            }
+            List<Path> subdirectories = children.getOrDefault(current, Set.of()).stream()
+                                                .filter(children::containsKey)
+                                                .toList();
+            for (int i = subdirectories.size() - 1; i >= 0; i--) {
+                toVisit.push(subdirectories.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the files whose name without extension equals the given one, ignoring case
+     */
+    public synchronized List<Path> findFilesByBaseName(String baseName) {
+        update();
+        return List.copyOf(filesByNormalizedBaseName.getOrDefault(normalizeBaseName(baseName), Set.of()));
+    }
+
+    /**
+     * @return the files whose name starts with the given prefix (case-sensitive), e.g., a citation key
+     */
+    public synchronized List<Path> findFilesByNamePrefix(String prefix) {
+        update();
+        List<Path> result = new ArrayList<>();
+        for (Set<Path> files : filesByName.tailMap(prefix, true).values()) {
+            Path first = files.iterator().next();
+            if (!first.getFileName().toString().startsWith(prefix)) {
+                break;
+            }
+            result.addAll(files);
+        }
+        return result;
+    }
+
+    /**
+     * Stops watching the directory. The index stays usable, e.g., by an operation still holding it after it was
+     * evicted from the cache, but it is rebuilt like an index which cannot be watched.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        closeWatchService();
+        clear();
+        stale = true;
+    }
+
+    synchronized boolean isWatching() {
+        return watchService != null;
+    }
+
+    private boolean isIdle() {
+        return clock.millis() - lastQueryMillis > MAX_AGE_MILLIS;
+    }
+
+    /**
+     * Releases the watches and the content of an index not queried for {@link #MAX_AGE_MILLIS}. It would be rebuilt at
+     * the next query anyway.
+     */
+    synchronized void releaseIfIdle() {
+        if (isIdle() && !stale) {
+            closeWatchService();
+            clear();
+            stale = true;
+        }
+    }
+
+    private void update() {
+        long now = clock.millis();
+        if (((watchService == null) && (now - lastQueryMillis > UNWATCHED_VALIDITY_MILLIS)) || (now - builtMillis > MAX_AGE_MILLIS)) {
+            stale = true;
+        }
+        lastQueryMillis = now;
+        if (!stale) {
+            processEvents();
+        }
+        if (stale) {
+            build();
+        }
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        closeWatchService();
+        clear();
+        builtMillis = clock.millis();
+        if (!closed && canBeWatched(root)) {
+            try {
+                watchService = root.getFileSystem().newWatchService();
+            } catch (IOException | UnsupportedOperationException e) {
+                LOGGER.debug("Could not watch {}, the index is rebuilt for each operation", root, e);
+            }
+        }
+        stale = false;
+        if (Files.isDirectory(root)) {
+            addTree(root);
+        }
+        LOGGER.debug("Indexed {} files in {} directories below {} in {} ms",
+                filesByName.values().stream().mapToInt(Set::size).sum(), children.size(), root, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void addTree(Path start) {
+        try {
+            Files.walkFileTree(start, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                    addDirectory(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    addFile(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    LOGGER.debug("Could not index {}", file, e);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.warn("Could not index {}", start, e);
+        }
+    }
+
+    private void addDirectory(Path directory) {
+        if (children.putIfAbsent(directory, new LinkedHashSet<>()) != null) {
+            return;
+        }
+        addToParent(directory);
+        if (watchService == null) {
+            return;
+        }
+        if (WATCHED_DIRECTORIES.incrementAndGet() > MAX_WATCHED_DIRECTORIES) {
+            WATCHED_DIRECTORIES.decrementAndGet();
+            LOGGER.debug("Too many directories are watched, the index of {} is rebuilt for each operation", root);
+            closeWatchService();
+            return;
+        }
+        try {
+            WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+            watchedDirectories.put(key, directory);
+        } catch (IOException e) {
+            WATCHED_DIRECTORIES.decrementAndGet();
+            LOGGER.debug("Could not watch {}, the index is rebuilt for each operation", directory, e);
+            closeWatchService();
+        }
+    }
+
+    private void addFile(Path file) {
+        if (!addToParent(file)) {
+            return;
+        }
+        String fileName = file.getFileName().toString();
+        filesByName.computeIfAbsent(fileName, _ -> new LinkedHashSet<>()).add(file);
+        filesByNormalizedBaseName.computeIfAbsent(normalizeBaseName(FileUtil.getBaseName(fileName)), _ -> new LinkedHashSet<>()).add(file);
+    }
+
+    private boolean addToParent(Path path) {
+        if (path.equals(root)) {
+            return true;
+        }
+        Set<Path> siblings = children.get(path.getParent());
+        return (siblings != null) && siblings.add(path);
+    }
+
+    private void remove(Path path) {
+        Set<Path> siblings = children.get(path.getParent());
+        if ((siblings != null) && siblings.remove(path)) {
+            removeRecursively(path);
+        }
+    }
+
+    private void removeRecursively(Path path) {
+        Set<Path> directChildren = children.remove(path);
+        if (directChildren != null) {
+            if (watchedDirectories.values().remove(path)) {
+                WATCHED_DIRECTORIES.decrementAndGet();
+            }
+            directChildren.forEach(this::removeRecursively);
+            return;
+        }
+        String fileName = path.getFileName().toString();
+        removeFromMap(filesByName, fileName, path);
+        removeFromMap(filesByNormalizedBaseName, normalizeBaseName(FileUtil.getBaseName(fileName)), path);
+    }
+
+    private static void removeFromMap(Map<String, Set<Path>> map, String key, Path path) {
+        Set<Path> paths = map.get(key);
+        if (paths != null) {
+            paths.remove(path);
+            if (paths.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private void processEvents() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            WatchKey key;
+            while (!stale && ((key = watchService.poll()) != null)) {
+                Path directory = watchedDirectories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        stale = true;
+                    } else if (directory != null) {
+                        // We only register for "ENTRY_CREATE" and "ENTRY_DELETE", so the context is always a Path
+                        Path path = directory.resolve((Path) event.context());
+                        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                            add(path);
+                        } else {
+                            remove(path);
+                        }
+                    }
+                }
+                if (!key.reset()) {
+                    if (watchedDirectories.remove(key) != null) {
+                        WATCHED_DIRECTORIES.decrementAndGet();
+                    }
+                    if (root.equals(directory)) {
+                        stale = true;
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            stale = true;
+        }
+    }
+
+    private void add(Path path) {
+        if (Files.isDirectory(path)) {
+            addTree(path);
+        } else if (Files.exists(path)) {
+            addFile(path);
+        }
+    }
+
+    private void clear() {
+        children.clear();
+        filesByName.clear();
+        filesByNormalizedBaseName.clear();
+    }
+
+    private void closeWatchService() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.debug("Could not close watch service for {}", root, e);
+        }
+        watchService = null;
+        WATCHED_DIRECTORIES.addAndGet(-watchedDirectories.size());
+        watchedDirectories.clear();
+    }
+
+    /**
+     * Checks whether changes of the given directory are reported reliably and in time
+     */
+    private static boolean canBeWatched(Path directory) {
+        if (OS.OS_X) {
+            return false;
+        }
+        // UNC path of a network share on Windows
+        if (directory.toAbsolutePath().toString().startsWith("\\\\")) {
+            return false;
+        }
+        try {
+            String type = Files.getFileStore(directory).type().toLowerCase(Locale.ROOT);
+            return NETWORK_FILE_SYSTEM_TYPES.stream().noneMatch(type::contains);
+        } catch (IOException e) {
+            LOGGER.debug("Could not determine the file system of {}", directory, e);
+            return false;
+        }
+    }
+
+    /**
+     * Normalizes the base name such that two names are equal if they are equal ignoring case (see
+     * {@link String#equalsIgnoreCase(String)})
+     */
+    static String normalizeBaseName(String baseName) {
+        StringBuilder normalized = new StringBuilder(baseName.length());
+        baseName.codePoints().forEach(codePoint -> normalized.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return normalized.toString();
+    }
+}
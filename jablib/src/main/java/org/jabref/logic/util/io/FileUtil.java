@@ -21,7 +21,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.jabref.logic.FilePreferences;
-import org.jabref.logic.citationkeypattern.BracketedPattern;
+import org.jabref.logic.citationkeypattern.CompiledBracketedPattern;
 import org.jabref.logic.layout.format.RemoveLatexCommandsFormatter;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.StandardFileType;
@@ -344,7 +344,7 @@ public class FileUtil {
      * @return a suggested fileName
      */
     public static Optional<String> createFileNameFromPattern(BibDatabase database, BibEntry entry, String fileNamePattern) {
-        String targetName = BracketedPattern.expandBrackets(fileNamePattern, ';', entry, database).trim();
+        String targetName = CompiledBracketedPattern.compile(fileNamePattern).expand(';', entry, database).trim();
 
         if (targetName.isEmpty() || "-".equals(targetName)) {
             targetName = entry.getCitationKey().orElse("default");
@@ -372,7 +372,7 @@ public class FileUtil {
      * @return a suggested dirName
      */
     public static String createDirNameFromPattern(BibDatabase database, BibEntry entry, String directoryNamePattern) {
-        String targetName = BracketedPattern.expandBrackets(directoryNamePattern, ';', entry, database);
+        String targetName = CompiledBracketedPattern.compile(directoryNamePattern).expand(';', entry, database);
 
         if (targetName.isEmpty()) {
             return targetName;
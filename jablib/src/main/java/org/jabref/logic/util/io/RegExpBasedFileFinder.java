@@ -16,6 +16,8 @@ import java.util.regex.PatternSyntaxException;
 import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.BracketedPattern;
+import org.jabref.logic.citationkeypattern.CompiledBracketedPattern;
+import org.jabref.logic.citationkeypattern.CompiledBracketedPattern.Bracket;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
 
@@ -46,11 +48,11 @@ class RegExpBasedFileFinder implements FileFinder {
         String filePart = fileParts[fileParts.length - 1].replace("[extension]", EXT_MARKER);
 
         // We need to supply a custom function to deal with the content of a bracketed expression and expandBracketContent is the default function
-        Function<String, String> expandBracket = BracketedPattern.expandBracketContent(keywordDelimiter, entry, null);
+        Function<Bracket, String> expandBracket = BracketedPattern.expandBracketContent(keywordDelimiter, entry, null);
         // but, we want to post-process the expanded content so that it can be used as a regex for finding a file name
-        Function<String, String> bracketToFileNameRegex = expandBracket.andThen(RegExpBasedFileFinder::toFileNameRegex);
+        Function<Bracket, String> bracketToFileNameRegex = expandBracket.andThen(RegExpBasedFileFinder::toFileNameRegex);
 
-        String expandedBracketAsFileNameRegex = BracketedPattern.expandBrackets(filePart, bracketToFileNameRegex);
+        String expandedBracketAsFileNameRegex = CompiledBracketedPattern.compile(filePart).expand(bracketToFileNameRegex);
 
         String fileNamePattern = expandedBracketAsFileNameRegex
                 .replaceAll(EXT_MARKER, extensionRegExp) // Replace the extension marker
@@ -122,7 +124,7 @@ class RegExpBasedFileFinder implements FileFinder {
     private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            res.addAll(findFile(entry, FileDirectoryIndex.of(directory), directory, regExp, extensionRegExp));
         }
         return res;
     }
@@ -130,8 +132,9 @@ class RegExpBasedFileFinder implements FileFinder {
     /**
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
+     * Directories covered by the given index are listed using the index.
      */
-    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp) throws IOException {
+    private List<Path> findFile(final BibEntry entry, final FileDirectoryIndex directoryIndex, final Path directory, final String file, final String extensionRegExp) throws IOException {
         List<Path> resultFiles = new ArrayList<>();
 
         String fileName = file;
@@ -175,32 +178,44 @@ class RegExpBasedFileFinder implements FileFinder {
                     String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
                     final Path rootDirectory = currentDirectory;
-                    try (Stream<Path> pathStream = Files.walk(currentDirectory, 1)) {
-                        List<Path> subDirs = pathStream
-                                .filter(path -> isSubDirectory(rootDirectory, path))  // We only want to transverse directories (and not the current one; this is already done below)
-                                .toList();
-
-                        for (Path subDir : subDirs) {
-                            resultFiles.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp));
+                    List<Path> subDirs;
+                    if (directoryIndex.isDirectory(currentDirectory)) {
+                        subDirs = directoryIndex.getChildren(currentDirectory).stream()
+                                                .filter(directoryIndex::isDirectory)
+                                                .toList();
+                    } else {
+                        try (Stream<Path> pathStream = Files.walk(currentDirectory, 1)) {
+                            subDirs = pathStream
+                                    .filter(path -> isSubDirectory(rootDirectory, path))  // We only want to transverse directories (and not the current one; this is already done below)
+                                    .toList();
+                        } catch (UncheckedIOException ioe) {
+                            throw ioe.getCause();
                         }
-                    } catch (UncheckedIOException ioe) {
-                        throw ioe.getCause();
+                    }
+
+                    for (Path subDir : subDirs) {
+                        resultFiles.addAll(findFile(entry, directoryIndex, subDir, restOfFileString, extensionRegExp));
                     }
                 }
                 case "**" -> { // for all direct and indirect subdirs
                     String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
                     final Path rootDirectory = currentDirectory;
-                    try (Stream<Path> pathStream = Files.walk(currentDirectory)) {
-                        List<Path> subDirs = pathStream
-                                .filter(path -> isSubDirectory(rootDirectory, path))  // We only want to transverse directories (and not the current one; this is already done below)
-                                .toList();
-
-                        for (Path subDir : subDirs) {
-                            resultFiles.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp));
+                    List<Path> subDirs;
+                    if (directoryIndex.isDirectory(currentDirectory)) {
+                        subDirs = directoryIndex.getSubdirectories(currentDirectory);
+                    } else {
+                        try (Stream<Path> pathStream = Files.walk(currentDirectory)) {
+                            subDirs = pathStream
+                                    .filter(path -> isSubDirectory(rootDirectory, path))  // We only want to transverse directories (and not the current one; this is already done below)
+                                    .toList();
+                        } catch (UncheckedIOException ioe) {
+                            throw ioe.getCause();
                         }
-                    } catch (UncheckedIOException ioe) {
-                        throw ioe.getCause();
+                    }
+
+                    for (Path subDir : subDirs) {
+                        resultFiles.addAll(findFile(entry, directoryIndex, subDir, restOfFileString, extensionRegExp));
                     }
                 }
             } // End process directory information
@@ -208,6 +223,12 @@ class RegExpBasedFileFinder implements FileFinder {
 
         // Last step: check if the given file can be found in this directory
         Pattern toMatch = createFileNamePattern(fileParts, extensionRegExp, entry);
+        if (directoryIndex.isDirectory(currentDirectory)) {
+            directoryIndex.getChildren(currentDirectory).stream()
+                          .filter(path -> toMatch.matcher(path.getFileName().toString()).matches())
+                          .forEach(resultFiles::add);
+            return resultFiles;
+        }
         BiPredicate<Path, BasicFileAttributes> matcher = (path, _) -> toMatch.matcher(path.getFileName().toString()).matches();
         try (Stream<Path> pathStream = Files.find(currentDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
             resultFiles.addAll(pathStream.toList());
@@ -17,6 +17,10 @@ public class HTMLUnicodeConversionMaps {
     public static final Map<String, String> LATEX_HTML_CONVERSION_MAP = new HashMap<>();
     public static final Map<String, String> LATEX_UNICODE_CONVERSION_MAP = new HashMap<>();
 
+    // Replace the keys of HTML_LATEX_CONVERSION_MAP and UNICODE_LATEX_CONVERSION_MAP in one pass
+    public static final StringReplacementTrie HTML_LATEX_REPLACER;
+    public static final StringReplacementTrie UNICODE_LATEX_REPLACER;
+
     /*   Portions © International Organization for Standardization 1986:
      Permission to copy in any form is granted for use with
      conforming SGML systems and applications as defined in
@@ -903,6 +907,9 @@ public class HTMLUnicodeConversionMaps {
         // Support a special version of apostrophe
         LATEX_HTML_CONVERSION_MAP.put("textquotesingle", "&#39;");
         LATEX_UNICODE_CONVERSION_MAP.put("textquotesingle", "'"); // apostrophe, U+00027
+
+        HTML_LATEX_REPLACER = new StringReplacementTrie(HTML_LATEX_CONVERSION_MAP);
+        UNICODE_LATEX_REPLACER = new StringReplacementTrie(UNICODE_LATEX_CONVERSION_MAP);
     }
 
     private HTMLUnicodeConversionMaps() {
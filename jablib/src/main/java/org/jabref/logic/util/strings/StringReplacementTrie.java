@@ -0,0 +1,105 @@
+package org.jabref.logic.util.strings;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Replaces all occurrences of a fixed set of strings in a single left-to-right pass.
+ * <p>
+ * The keys are stored in a trie. At every position, the longest key starting there is replaced. Positions at which no
+ * key can start are skipped without a lookup in the trie. A text without any key is returned as is, without copying it.
+ */
+public class StringReplacementTrie {
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private @Nullable String replacement;
+    }
+
+    private final Node root = new Node();
+
+    // ASCII characters a key starts with. Allows to skip ASCII text without a lookup in the trie.
+    private final boolean[] asciiKeyStarts = new boolean[128];
+
+    /**
+     * @param replacements the replacement of each key. Empty keys are ignored.
+     */
+    public StringReplacementTrie(Map<String, String> replacements) {
+        replacements.forEach(this::add);
+    }
+
+    private void add(String key, String replacement) {
+        if (key.isEmpty()) {
+            return;
+        }
+        char first = key.charAt(0);
+        if (first < asciiKeyStarts.length) {
+            asciiKeyStarts[first] = true;
+        }
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), _ -> new Node());
+        }
+        node.replacement = replacement;
+    }
+
+    /**
+     * @return the text with each key replaced by its replacement. If keys overlap, the leftmost and then the longest key wins.
+     */
+    public String replaceAll(@NonNull String text) {
+        int position = nextKeyStart(text, 0);
+        if (position == text.length()) {
+            return text;
+        }
+
+        StringBuilder result = null;
+        int copiedUpTo = 0;
+        while (position < text.length()) {
+            Node node = root;
+            String replacement = null;
+            int matchEnd = position;
+            for (int i = position; i < text.length(); i++) {
+                node = node.children.get(text.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.replacement != null) {
+                    replacement = node.replacement;
+                    matchEnd = i + 1;
+                }
+            }
+
+            if (replacement == null) {
+                position = nextKeyStart(text, position + 1);
+                continue;
+            }
+            if (result == null) {
+                result = new StringBuilder(text.length() + 16);
+            }
+            result.append(text, copiedUpTo, position).append(replacement);
+            copiedUpTo = matchEnd;
+            position = nextKeyStart(text, matchEnd);
+        }
+
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, copiedUpTo, text.length()).toString();
+    }
+
+    /**
+     * @return the first position from the given one at which a key could start, or the length of the text if there is none
+     */
+    private int nextKeyStart(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < asciiKeyStarts.length ? asciiKeyStarts[c] : root.children.containsKey(c)) {
+                return i;
+            }
+        }
+        return text.length();
+    }
+}
@@ -9,9 +9,10 @@ import org.slf4j.LoggerFactory;
 public class StringSimilarity {
     private static final Logger LOGGER = LoggerFactory.getLogger(StringSimilarity.class);
 
-    private final Levenshtein METRIC_DISTANCE = new Levenshtein();
     // edit distance threshold for entry title comparison
-    private final int METRIC_THRESHOLD = 4;
+    static final int METRIC_THRESHOLD = 4;
+
+    private final Levenshtein METRIC_DISTANCE = new Levenshtein();
 
     /**
      * String similarity based on Levenshtein, ignoreCase, and fixed metric threshold of 4.
@@ -25,8 +26,15 @@ public class StringSimilarity {
     }
 
     public double editDistanceIgnoreCase(String a, String b) {
+        return METRIC_DISTANCE.distance(normalize(a), normalize(b));
+    }
+
+    /**
+     * The form in which strings are compared by {@link #editDistanceIgnoreCase(String, String)}
+     */
+    static String normalize(String text) {
         // TODO: Locale is dependent on the language of the strings. English is a good denominator.
-        return METRIC_DISTANCE.distance(a.toLowerCase(Locale.ENGLISH), b.toLowerCase(Locale.ENGLISH));
+        return text.toLowerCase(Locale.ENGLISH);
     }
 
     /**
@@ -0,0 +1,134 @@
+package org.jabref.logic.util.strings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds all strings of a fixed collection which are similar to a given string according to {@link StringSimilarity#isSimilar(String, String)}.
+ * <p>
+ * Instead of comparing the given string with each string of the collection, candidates are taken from an index of
+ * trigrams (three consecutive characters). A single edit changes at most three trigrams. Thus, a string within the
+ * edit distance threshold shares all but a few trigrams with the given one, and strings sharing fewer trigrams are
+ * skipped. Only the remaining candidates are compared by {@link StringSimilarity}. Short strings have too few trigrams
+ * for this bound, for them the candidates are all strings of a similar length.
+ * <p>
+ * The index is immutable and can be used by several threads at the same time.
+ */
+public class StringSimilarityIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int MAX_CHANGED_GRAMS = GRAM_LENGTH * StringSimilarity.METRIC_THRESHOLD;
+
+    private final StringSimilarity similarity = new StringSimilarity();
+    private final String[] strings;
+    // Length of each normalized string
+    private final int[] lengths;
+    // For each trigram, the ascending indices of the strings containing it
+    private final Map<Long, int[]> postings;
+
+    // Counts the shared trigrams of each string during a lookup. Reset after each lookup.
+    private final ThreadLocal<int[]> sharedGramCounts;
+
+    /**
+     * @param strings the strings to search in. Duplicates are kept.
+     */
+    public StringSimilarityIndex(Collection<String> strings) {
+        this.strings = strings.toArray(String[]::new);
+        this.lengths = new int[this.strings.length];
+        this.sharedGramCounts = ThreadLocal.withInitial(() -> new int[this.strings.length]);
+
+        Map<Long, PostingsBuilder> builders = new HashMap<>();
+        for (int i = 0; i < this.strings.length; i++) {
+            String normalized = StringSimilarity.normalize(this.strings[i]);
+            lengths[i] = normalized.length();
+            for (int start = 0; start + GRAM_LENGTH <= normalized.length(); start++) {
+                builders.computeIfAbsent(gram(normalized, start), _ -> new PostingsBuilder()).add(i);
+            }
+        }
+
+        this.postings = HashMap.newHashMap(builders.size());
+        builders.forEach((gram, builder) -> postings.put(gram, builder.build()));
+    }
+
+    /**
+     * @return the strings similar to the given one, in the order of the collection the index was created from
+     */
+    public List<String> findSimilar(String input) {
+        String normalized = StringSimilarity.normalize(input);
+        Set<Long> grams = new HashSet<>();
+        for (int start = 0; start + GRAM_LENGTH <= normalized.length(); start++) {
+            grams.add(gram(normalized, start));
+        }
+
+        int minSharedGrams = grams.size() - MAX_CHANGED_GRAMS;
+        List<String> result = new ArrayList<>();
+        if (minSharedGrams <= 0) {
+            // Too short for the trigram bound
+            for (int i = 0; i < strings.length; i++) {
+                if (hasSimilarLength(i, normalized) && similarity.isSimilar(input, strings[i])) {
+                    result.add(strings[i]);
+                }
+            }
+            return result;
+        }
+
+        int[] counts = sharedGramCounts.get();
+        List<Integer> candidates = new ArrayList<>();
+        for (Long gram : grams) {
+            int[] indices = postings.get(gram);
+            if (indices == null) {
+                continue;
+            }
+            for (int index : indices) {
+                if (counts[index] == 0) {
+                    candidates.add(index);
+                }
+                counts[index]++;
+            }
+        }
+
+        candidates.sort(null);
+        for (int index : candidates) {
+            if (counts[index] >= minSharedGrams && hasSimilarLength(index, normalized) && similarity.isSimilar(input, strings[index])) {
+                result.add(strings[index]);
+            }
+            counts[index] = 0;
+        }
+        return result;
+    }
+
+    private boolean hasSimilarLength(int index, String normalizedInput) {
+        // Each edit changes the length by at most one
+        return Math.abs(lengths[index] - normalizedInput.length()) <= StringSimilarity.METRIC_THRESHOLD;
+    }
+
+    private static long gram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private static class PostingsBuilder {
+        private int[] indices = new int[4];
+        private int size;
+
+        void add(int index) {
+            // A string containing a trigram several times is listed once
+            if (size > 0 && indices[size - 1] == index) {
+                return;
+            }
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+            }
+            indices[size++] = index;
+        }
+
+        int[] build() {
+            return Arrays.copyOf(indices, size);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
@@ -66,9 +67,15 @@ public class BibDatabase {
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
+    // All entries of this database post their events to this event bus, which relays them to eventBus
+    private final EventBus entriesEventBus = new EventBus();
+
     // Reverse index for citation links
     private final Map<String, Set<BibEntry>> citationIndex = new ConcurrentHashMap<>();
 
+    // Citation key to the entries having that key. The lists are immutable and kept in the order of the entries (i.e., ordered by id).
+    private final Map<String, List<BibEntry>> citationKeyIndex = new ConcurrentHashMap<>();
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -89,6 +96,7 @@ public class BibDatabase {
     }
 
     public BibDatabase() {
+        entriesEventBus.register(this);
         this.registerListener(new KeyChangeListener(this));
     }
 
@@ -144,8 +152,11 @@ public class BibDatabase {
     /**
      * Returns the entry with the given citation key.
      */
-    public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+    public Optional<BibEntry> getEntryByCitationKey(String key) {
+        if (key == null) {
+            return entries.stream().filter(entry -> !entry.hasCitationKey()).findFirst();
+        }
+        return getEntriesByCitationKey(key).stream().findFirst();
     }
 
     /**
@@ -154,17 +165,8 @@ public class BibDatabase {
      *
      * @return list of entries that contains the given key
      */
-    public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
-        }
-        return result;
+    public List<BibEntry> getEntriesByCitationKey(@NonNull String key) {
+        return new ArrayList<>(citationKeyIndex.getOrDefault(key, List.of()));
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -195,13 +197,14 @@ public class BibDatabase {
         }
 
         for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+            entry.registerDatabaseEventBus(entriesEventBus);
         }
         eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
         entries.addAll(newEntries);
         newEntries.forEach(entry -> {
                     entriesId.put(entry.getId(), entry);
                     indexEntry(entry);
+                    entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(key, entry));
                 }
         );
     }
@@ -249,6 +252,7 @@ public class BibDatabase {
         toBeDeleted.forEach(entry -> {
             entriesId.remove(entry.getId());
             removeEntryFromIndex(entry);
+            entry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(key, entry));
         });
 
         entries.setAll(newEntries);
@@ -299,6 +303,29 @@ public class BibDatabase {
         });
     }
 
+    private void addToCitationKeyIndex(String key, BibEntry entry) {
+        citationKeyIndex.compute(key, (_, entriesForKey) -> {
+            if (entriesForKey == null) {
+                return List.of(entry);
+            }
+            if (entriesForKey.stream().anyMatch(existing -> existing == entry)) {
+                return entriesForKey;
+            }
+            List<BibEntry> updated = new ArrayList<>(entriesForKey.size() + 1);
+            updated.addAll(entriesForKey);
+            int index = Collections.binarySearch(updated, entry, Comparator.comparing(BibEntry::getId));
+            updated.add(index < 0 ? -index - 1 : index + 1, entry);
+            return List.copyOf(updated);
+        });
+    }
+
+    private void removeFromCitationKeyIndex(String key, BibEntry entry) {
+        citationKeyIndex.computeIfPresent(key, (_, entriesForKey) -> {
+            List<BibEntry> updated = entriesForKey.stream().filter(existing -> existing != entry).toList();
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
     /**
      * Returns the database's preamble.
      * If the preamble text consists only of whitespace, then also an empty optional is returned.
@@ -616,6 +643,16 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (event.getField().equals(InternalField.KEY_FIELD) && (entriesId.get(event.getBibEntry().getId()) == event.getBibEntry())) {
+            // Keep the citation key index up to date before any other listener is informed
+            BibEntry entry = event.getBibEntry();
+            if (event.getOldValue() != null) {
+                removeFromCitationKeyIndex(event.getOldValue(), entry);
+            }
+            if (event.getNewValue() != null) {
+                addToCitationKeyIndex(event.getNewValue(), entry);
+            }
+        }
         eventBus.post(event);
     }
 
@@ -652,11 +689,8 @@ public class BibDatabase {
     /**
      * Returns the number of occurrences of the given citation key in this database.
      */
-    public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+    public long getNumberOfCitationKeyOccurrences(@NonNull String key) {
+        return citationKeyIndex.getOrDefault(key, List.of()).size();
     }
 
     /**
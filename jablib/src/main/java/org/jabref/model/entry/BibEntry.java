@@ -91,26 +91,39 @@ public class BibEntry {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private final SharedBibEntryData sharedBibEntryData;
 
+    // The caches, the event bus and the type property are created on first use only.
+    // Most entries of a large library never need them, especially when running headless (jabkit, jabsrv, jabls).
+
     /**
      * Map to store the words in every field
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile @Nullable Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile @Nullable Map<Field, String> latexFreeFields;
 
     /**
      * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private volatile @Nullable MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
+
+    /**
+     * Listeners registered at this entry only
+     */
+    private volatile @Nullable EventBus eventBus;
 
-    private final EventBus eventBus = new EventBus();
+    /**
+     * Event buses shared by all entries of a database, see {@link #registerDatabaseEventBus(EventBus)}
+     */
+    private volatile List<EventBus> databaseEventBuses = List.of();
 
     private String id;
 
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    private volatile EntryType type = DEFAULT_TYPE;
+
+    private @Nullable ObjectProperty<EntryType> typeProperty;
 
     private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
 
@@ -131,6 +144,11 @@ public class BibEntry {
      */
     private boolean changed;
 
+    /**
+     * Incremented on every change, after the change is applied. Allows to detect a change while the entry was serialized, see {@link #setParsedSerialization(String, long)}.
+     */
+    private long modificationCount;
+
     /**
      * Constructs a new BibEntry. The internal ID is set to IdGenerator.next()
      */
@@ -163,7 +181,7 @@ public class BibEntry {
      * Does <em>not</em> port the listeners.
      */
     public BibEntry(BibEntry other) {
-        this(other.type.getValue());
+        this(other.type);
         this.fields = FXCollections.observableMap(new ConcurrentHashMap<>(other.fields));
         this.commentsBeforeEntry = other.commentsBeforeEntry;
         this.parsedSerialization = other.parsedSerialization;
@@ -334,7 +352,7 @@ public class BibEntry {
 
     private Optional<String> genericGetResolvedFieldOrAlias(Field field, @Nullable BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if ((InternalField.TYPE_HEADER == field) || (InternalField.OBSOLETE_TYPE_HEADER == field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(type.getDisplayName());
         }
 
         if (InternalField.KEY_FIELD == field) {
@@ -347,8 +365,8 @@ public class BibEntry {
         if (result.isEmpty() && (database != null)) {
             Optional<BibEntry> referred = database.getReferencedEntry(this);
             if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
+                EntryType sourceEntry = referred.get().type;
+                EntryType targetEntry = type;
                 Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
 
                 if (sourceField.isPresent()) {
@@ -384,9 +402,9 @@ public class BibEntry {
     public void setId(@NonNull String id) {
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
-        changed = true;
+        markChanged();
     }
 
     /**
@@ -425,11 +443,15 @@ public class BibEntry {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        return type;
     }
 
-    public ObjectProperty<EntryType> typeProperty() {
-        return type;
+    public synchronized ObjectProperty<EntryType> typeProperty() {
+        if (typeProperty == null) {
+            typeProperty = new SimpleObjectProperty<>(type);
+            typeProperty.addListener((_, _, newType) -> this.type = newType);
+        }
+        return typeProperty;
     }
 
     /**
@@ -444,16 +466,21 @@ public class BibEntry {
      * If the new entry type equals the old entry type no changed flag is set.
      */
     public Optional<FieldChange> setType(@NonNull EntryType newType, EntriesEventSource eventSource) {
-        EntryType oldType = type.get();
+        EntryType oldType = type;
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
-        changed = true;
-        this.type.setValue(newType);
+        this.type = newType;
+        markChanged();
+        synchronized (this) {
+            if (typeProperty != null) {
+                typeProperty.setValue(newType);
+            }
+        }
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -483,15 +510,15 @@ public class BibEntry {
             // the key field should not be converted
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
-            return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
+            return Optional.of(type.getDisplayName());
+        } else if (latexFreeFields != null && latexFreeFields.containsKey(field)) {
             return Optional.ofNullable(latexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
                 String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                getLatexFreeFieldsCache().put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -632,16 +659,16 @@ public class BibEntry {
         }
 
         boolean isNewField = oldValue == null;
-        changed = true;
 
         invalidateFieldCache(field);
         fields.put(field, value.intern());
+        markChanged();
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -678,13 +705,12 @@ public class BibEntry {
             return Optional.empty();
         }
 
-        changed = true;
-
         invalidateFieldCache(field);
         fields.remove(field);
+        markChanged();
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -794,21 +820,50 @@ public class BibEntry {
         return parsedSerialization;
     }
 
-    public void setParsedSerialization(String parsedSerialization) {
+    public synchronized void setParsedSerialization(String parsedSerialization) {
         changed = false;
         this.parsedSerialization = parsedSerialization;
     }
 
+    /**
+     * Sets the parsed serialization, unless the entry was changed after the given modification count was read.
+     * The check and the update are atomic with respect to changes of the entry. Thus, a serialization missing a
+     * concurrent change is never kept, and the entry stays marked as changed.
+     *
+     * @param modificationCount the result of {@link #getModificationCount()}, read before serializing the entry
+     * @return true if the serialization was set
+     */
+    public synchronized boolean setParsedSerialization(String parsedSerialization, long modificationCount) {
+        if (this.modificationCount != modificationCount) {
+            return false;
+        }
+        setParsedSerialization(parsedSerialization);
+        return true;
+    }
+
+    public synchronized long getModificationCount() {
+        return modificationCount;
+    }
+
+    private synchronized void markChanged() {
+        changed = true;
+        modificationCount++;
+    }
+
     public void setCommentsBeforeEntry(String parsedComments) {
         this.commentsBeforeEntry = parsedComments;
     }
 
-    public boolean hasChanged() {
+    public synchronized boolean hasChanged() {
         return changed;
     }
 
-    public void setChanged(boolean changed) {
-        this.changed = changed;
+    public synchronized void setChanged(boolean changed) {
+        if (changed) {
+            markChanged();
+        } else {
+            this.changed = false;
+        }
     }
 
     /**
@@ -817,7 +872,7 @@ public class BibEntry {
      * we need to construct a BibEntry with <code>changed=false</code> (which is the default) and thus we need a workaround.
      */
     public BibEntry withChanged(boolean changed) {
-        this.changed = changed;
+        setChanged(changed);
         return this;
     }
 
@@ -938,7 +993,7 @@ public class BibEntry {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        return Objects.equals(type, entry.type)
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
@@ -956,14 +1011,20 @@ public class BibEntry {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(type.getValue(), fields, commentsBeforeEntry);
+        return Objects.hash(type, fields, commentsBeforeEntry);
     }
 
-    public void registerListener(Object object) {
+    public synchronized void registerListener(Object object) {
+        if (eventBus == null) {
+            eventBus = new EventBus();
+        }
         this.eventBus.register(object);
     }
 
-    public void unregisterListener(Object object) {
+    public synchronized void unregisterListener(Object object) {
+        if (eventBus == null) {
+            return;
+        }
         try {
             this.eventBus.unregister(object);
         } catch (IllegalArgumentException e) {
@@ -972,6 +1033,36 @@ public class BibEntry {
         }
     }
 
+    /**
+     * Posts the events of this entry also to the given event bus. A {@link BibDatabase} passes the same event bus to all its entries,
+     * so that the entries do not need an event bus of their own.
+     */
+    public synchronized void registerDatabaseEventBus(@NonNull EventBus databaseEventBus) {
+        if (!databaseEventBuses.contains(databaseEventBus)) {
+            List<EventBus> eventBuses = new ArrayList<>(databaseEventBuses);
+            eventBuses.add(databaseEventBus);
+            databaseEventBuses = List.copyOf(eventBuses);
+        }
+    }
+
+    public synchronized void unregisterDatabaseEventBus(EventBus databaseEventBus) {
+        if (databaseEventBuses.contains(databaseEventBus)) {
+            List<EventBus> eventBuses = new ArrayList<>(databaseEventBuses);
+            eventBuses.remove(databaseEventBus);
+            databaseEventBuses = List.copyOf(eventBuses);
+        }
+    }
+
+    private void postEvent(Object event) {
+        EventBus entryEventBus = eventBus;
+        if (entryEventBus != null) {
+            entryEventBus.post(event);
+        }
+        for (EventBus databaseEventBus : databaseEventBuses) {
+            databaseEventBus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -1022,7 +1113,8 @@ public class BibEntry {
     }
 
     public Set<String> getFieldAsWords(Field field) {
-        Set<String> storedList = fieldsAsWords.get(field);
+        Map<Field, Set<String>> cache = fieldsAsWords;
+        Set<String> storedList = cache == null ? null : cache.get(field);
         if (storedList != null) {
             return storedList;
         } else {
@@ -1031,14 +1123,14 @@ public class BibEntry {
                 return Set.of();
             } else {
                 HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
-                fieldsAsWords.put(field, words);
+                getFieldsAsWordsCache().put(field, words);
                 return words;
             }
         }
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField standardField) {
+        if ((field instanceof StandardField standardField) && (fieldsAsKeywords != null)) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
                 return storedList.get();
@@ -1050,21 +1142,49 @@ public class BibEntry {
                 .orElse(new KeywordList());
 
         if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
+            getFieldsAsKeywordsCache().put(standardField, keywordSeparator, keywords);
         }
         return keywords;
     }
 
+    private synchronized Map<Field, Set<String>> getFieldsAsWordsCache() {
+        if (fieldsAsWords == null) {
+            fieldsAsWords = new ConcurrentHashMap<>();
+        }
+        return fieldsAsWords;
+    }
+
+    private synchronized Map<Field, String> getLatexFreeFieldsCache() {
+        if (latexFreeFields == null) {
+            latexFreeFields = new ConcurrentHashMap<>();
+        }
+        return latexFreeFields;
+    }
+
+    private synchronized MultiKeyMap<StandardField, Character, KeywordList> getFieldsAsKeywordsCache() {
+        if (fieldsAsKeywords == null) {
+            fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+        }
+        return fieldsAsKeywords;
+    }
+
     public Optional<FieldChange> clearCiteKey() {
         return clearField(InternalField.KEY_FIELD);
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        Map<Field, String> latexFreeCache = latexFreeFields;
+        if (latexFreeCache != null) {
+            latexFreeCache.remove(field);
+        }
+        Map<Field, Set<String>> wordsCache = fieldsAsWords;
+        if (wordsCache != null) {
+            wordsCache.remove(field);
+        }
 
-        if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.remove(standardField);
+        MultiKeyMap<StandardField, Character, KeywordList> keywordsCache = fieldsAsKeywords;
+        if ((keywordsCache != null) && (field instanceof StandardField standardField)) {
+            keywordsCache.remove(standardField);
         }
     }
 
@@ -1180,7 +1300,7 @@ public class BibEntry {
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields, type};
+        return new Observable[] {fields, typeProperty()};
     }
 
     /**
@@ -3,12 +3,25 @@ package org.jabref.model.search;
 import java.util.List;
 
 public enum PostgreConstants {
+    /**
+     * Version number of the persisted bib fields index.
+     * Increment when the table layout or the transformation of the field values changes.
+     * Incrementing triggers reindexing.
+     */
+    VERSION("1"),
     BIB_FIELDS_SCHEME("bib_fields"),
     SPLIT_TABLE_SUFFIX("_split_values"),
+    FINGERPRINTS_TABLE_SUFFIX("_fingerprints"),
+    STAGING_TABLE_SUFFIX("_staging"), // unlogged tables used while bulk loading a library, never kept across sessions
+    LIBRARIES_TABLE("libraries"), // bookkeeping of the persisted tables of the libraries
     ENTRY_ID("entryid"),
     FIELD_NAME("field_name"),
     FIELD_VALUE_LITERAL("field_value_literal"), // contains the value as-is
-    FIELD_VALUE_TRANSFORMED("field_value_transformed"); // contains the value transformed for better querying
+    FIELD_VALUE_TRANSFORMED("field_value_transformed"), // contains the value transformed for better querying
+    FINGERPRINT("fingerprint"), // hash of the content an entry or a library had when it was indexed
+    TABLE_NAME("table_name"),
+    LIBRARY_PATH("library_path"),
+    LAST_USED("last_used");
 
     public static final List<String> POSTGRES_FUNCTIONS = List.of(
             // HTML highlighting function
@@ -71,6 +84,17 @@ public enum PostgreConstants {
         return BIB_FIELDS_SCHEME + ".\"" + mainTable + SPLIT_TABLE_SUFFIX + "\"";
     }
 
+    /**
+     * Generates the schema reference for the table storing the fingerprint of each indexed entry of a persisted index
+     */
+    public static String getFingerprintsTableSchemaReference(String mainTable) {
+        return BIB_FIELDS_SCHEME + ".\"" + mainTable + FINGERPRINTS_TABLE_SUFFIX + "\"";
+    }
+
+    public static String getLibrariesTableSchemaReference() {
+        return BIB_FIELDS_SCHEME + ".\"" + LIBRARIES_TABLE + "\"";
+    }
+
     @Override
     public String toString() {
         return value;
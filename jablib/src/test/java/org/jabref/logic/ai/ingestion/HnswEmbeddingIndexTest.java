@@ -0,0 +1,100 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswEmbeddingIndexTest {
+
+    private final Random random = new Random(42);
+    private final Map<String, float[]> vectors = new HashMap<>();
+    private final Set<String> requestedIds = new HashSet<>();
+    private final MVStore mvStore = MVStore.open(null);
+
+    @AfterEach
+    void tearDown() {
+        mvStore.close();
+    }
+
+    @Test
+    void searchAfterRemovalDoesNotFollowLinksToRemovedEmbeddings() {
+        HnswEmbeddingIndex index = createIndex();
+        for (int i = 0; i < 300; i++) {
+            add(index, "id" + i);
+        }
+        Set<String> removed = new HashSet<>();
+        for (int i = 0; i < 300; i += 2) {
+            vectors.remove("id" + i);
+            index.remove("id" + i);
+            removed.add("id" + i);
+        }
+
+        requestedIds.clear();
+        for (int i = 1; i < 300; i += 20) {
+            assertEquals("id" + i, index.search(vectors.get("id" + i), null, 1).getFirst());
+        }
+
+        assertTrue(requestedIds.stream().noneMatch(removed::contains));
+    }
+
+    @Test
+    void addingSameEmbeddingsInSameOrderBuildsSameGraph() {
+        HnswEmbeddingIndex first = createIndex();
+        for (int i = 0; i < 300; i++) {
+            add(first, "id" + i);
+        }
+        List<String> firstResult = first.search(vectors.get("id0"), null, 10);
+        first.clear();
+
+        HnswEmbeddingIndex second = createIndex();
+        for (int i = 0; i < 300; i++) {
+            second.add("id" + i, null, vectors.get("id" + i));
+        }
+
+        assertEquals(firstResult, second.search(vectors.get("id0"), null, 10));
+    }
+
+    @Test
+    void removePartitionKeepsOtherFilesSearchable() {
+        HnswEmbeddingIndex index = createIndex();
+        for (int i = 0; i < 300; i++) {
+            String id = "id" + i;
+            add(index, id);
+            index.remove(id);
+            index.add(id, i % 2 == 0 ? "removed.pdf" : "kept.pdf", vectors.get(id));
+        }
+
+        List<String> removed = index.removePartition("removed.pdf");
+
+        assertEquals(150, removed.size());
+        assertEquals(150, index.size());
+        assertEquals(List.of(), index.search(vectors.get("id0"), List.of("removed.pdf"), 1));
+        assertEquals(List.of("id1"), index.search(vectors.get("id1"), List.of("kept.pdf"), 1));
+    }
+
+    private HnswEmbeddingIndex createIndex() {
+        return new HnswEmbeddingIndex(mvStore, id -> {
+            requestedIds.add(id);
+            return vectors.get(id);
+        });
+    }
+
+    private void add(HnswEmbeddingIndex index, String id) {
+        float[] vector = new float[16];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = random.nextFloat() - 0.5f;
+        }
+        vectors.put(id, vector);
+        index.add(id, null, vector);
+    }
+}
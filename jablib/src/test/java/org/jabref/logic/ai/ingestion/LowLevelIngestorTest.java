@@ -0,0 +1,99 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LowLevelIngestorTest {
+    private static final int CHUNK_SIZE = 100;
+    private static final int BATCH_SIZE = 3;
+
+    @TempDir
+    Path tempDir;
+
+    private final AiPreferences aiPreferences = mock(AiPreferences.class);
+    private final RecordingEmbeddingModel embeddingModel = new RecordingEmbeddingModel();
+    private MVStoreEmbeddingStore embeddingStore;
+    private LowLevelIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        when(aiPreferences.getDocumentSplitterChunkSize()).thenReturn(CHUNK_SIZE);
+        when(aiPreferences.getDocumentSplitterOverlapSize()).thenReturn(0);
+        when(aiPreferences.getEmbeddingBatchSize()).thenReturn(BATCH_SIZE);
+        when(aiPreferences.customizeExpertSettingsProperty()).thenReturn(new SimpleBooleanProperty());
+        embeddingStore = new MVStoreEmbeddingStore(tempDir.resolve("embeddings.mv"), mock(NotificationService.class));
+        ingestor = new LowLevelIngestor(aiPreferences, embeddingStore, embeddingModel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        embeddingStore.close();
+    }
+
+    @Test
+    void ingestDocumentEmbedsEverySegmentOnceInBatches() throws InterruptedException {
+        Document document = Document.from(IntStream.range(0, 10)
+                                                   .mapToObj(i -> "Paragraph " + i + " with some text that fills most of a segment.")
+                                                   .collect(Collectors.joining("\n\n")));
+        List<String> segments = DocumentSplitters.recursive(CHUNK_SIZE, 0).split(document).stream().map(TextSegment::text).toList();
+        SimpleIntegerProperty workDone = new SimpleIntegerProperty();
+        SimpleIntegerProperty workMax = new SimpleIntegerProperty();
+
+        ingestor.ingestDocument(document, new SimpleBooleanProperty(false), workDone, workMax);
+
+        assertEquals(segments, embeddingModel.embeddedTexts);
+        List<Integer> expectedBatchSizes = new ArrayList<>();
+        for (int remaining = segments.size(); remaining > 0; remaining -= BATCH_SIZE) {
+            expectedBatchSizes.add(Math.min(BATCH_SIZE, remaining));
+        }
+        assertEquals(expectedBatchSizes, embeddingModel.batchSizes);
+        assertEquals(segments.size(), workDone.get());
+        assertEquals(segments.size(), workMax.get());
+    }
+
+    @Test
+    void ingestDocumentStopsBeforeFirstBatchIfStopped() {
+        Document document = Document.from("Some text");
+
+        assertThrows(InterruptedException.class, () -> ingestor.ingestDocument(document, new SimpleBooleanProperty(true), new SimpleIntegerProperty(), new SimpleIntegerProperty()));
+        assertEquals(List.of(), embeddingModel.embeddedTexts);
+    }
+
+    /// Records the segments it is asked to embed, and returns the same embedding for all of them
+    private static class RecordingEmbeddingModel implements EmbeddingModel {
+        private final List<String> embeddedTexts = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            batchSizes.add(textSegments.size());
+            textSegments.forEach(segment -> embeddedTexts.add(segment.text()));
+            return Response.from(textSegments.stream().map(_ -> Embedding.from(new float[] {1, 0, 0})).toList());
+        }
+    }
+}
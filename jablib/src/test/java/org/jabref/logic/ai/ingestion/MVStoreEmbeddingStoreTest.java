@@ -0,0 +1,117 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class MVStoreEmbeddingStoreTest {
+    private static final int DIMENSION = 16;
+
+    @TempDir
+    Path tempDir;
+
+    private final Random random = new Random(42);
+    private MVStoreEmbeddingStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MVStoreEmbeddingStore(tempDir.resolve("embeddings.mv"), mock(NotificationService.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void searchFindsMostSimilarSegmentOfFilteredFile() {
+        for (int i = 0; i < 500; i++) {
+            addRandom("a.pdf", "a" + i);
+            addRandom("b.pdf", "b" + i);
+        }
+        Embedding query = randomEmbedding();
+        store.add(query, segment("b.pdf", "query in b"));
+        store.add(query, segment("a.pdf", "query in a"));
+
+        List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                                                                                       .queryEmbedding(query)
+                                                                                       .filter(metadataKey(LINK_METADATA_KEY).isEqualTo("a.pdf"))
+                                                                                       .maxResults(5)
+                                                                                       .build())
+                                                         .matches();
+
+        assertEquals(5, matches.size());
+        assertEquals("query in a", matches.getFirst().embedded().text());
+        assertTrue(matches.stream().allMatch(match -> "a.pdf".equals(match.embedded().metadata().getString(LINK_METADATA_KEY))));
+    }
+
+    @Test
+    void removeAllWithFilterRemovesPartition() {
+        for (int i = 0; i < 50; i++) {
+            addRandom("a.pdf", "a" + i);
+            addRandom("b.pdf", "b" + i);
+        }
+
+        store.removeAll(metadataKey(LINK_METADATA_KEY).isIn(List.of("a.pdf")));
+
+        List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                                                                                       .queryEmbedding(randomEmbedding())
+                                                                                       .maxResults(100)
+                                                                                       .build())
+                                                         .matches();
+        assertEquals(50, matches.size());
+        assertTrue(matches.stream().allMatch(match -> "b.pdf".equals(match.embedded().metadata().getString(LINK_METADATA_KEY))));
+    }
+
+    @Test
+    void searchAfterRemovingSingleEmbeddingsFindsRemainingOnes() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(addRandom("a.pdf", "a" + i));
+        }
+        store.removeAll(ids.subList(0, 150));
+
+        List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                                                                                       .queryEmbedding(randomEmbedding())
+                                                                                       .filter(metadataKey(LINK_METADATA_KEY).isEqualTo("a.pdf"))
+                                                                                       .maxResults(100)
+                                                                                       .build())
+                                                         .matches();
+        assertEquals(50, matches.size());
+    }
+
+    private String addRandom(String file, String text) {
+        return store.add(randomEmbedding(), segment(file, text));
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    private static TextSegment segment(String file, String text) {
+        return new TextSegment(text, Metadata.from(LINK_METADATA_KEY, file));
+    }
+}
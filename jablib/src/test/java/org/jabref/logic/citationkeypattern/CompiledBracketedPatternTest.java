@@ -0,0 +1,40 @@
+package org.jabref.logic.citationkeypattern;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CompiledBracketedPatternTest {
+
+    private final BibEntry entry = new BibEntry().withField(StandardField.AUTHOR, "O. Kitsune")
+                                                 .withField(StandardField.YEAR, "2017");
+
+    @Test
+    void compileReusesCompiledPattern() {
+        assertSame(CompiledBracketedPattern.compile("[auth]_[year]"), CompiledBracketedPattern.compile("[auth]_[year]"));
+    }
+
+    @Test
+    void expandReplacesBracketsAndKeepsLiteralText() {
+        assertEquals("Kitsune_2017", CompiledBracketedPattern.compile("[auth]_[year]").expand(';', entry, null));
+    }
+
+    @Test
+    void expandKeepsQuotedBrackets() {
+        assertEquals("2017 \"[year]\"", CompiledBracketedPattern.compile("[year] \"[year]\"").expand(';', entry, null));
+    }
+
+    @Test
+    void expandUsesAlternativeTextForEmptyValue() {
+        assertEquals("unknown 2017", CompiledBracketedPattern.compile("[editor:(unknown [year])]").expand(';', entry, null));
+    }
+
+    @Test
+    void expandPassesBracketsToHandler() {
+        assertEquals("[year:lower]-[auth]", CompiledBracketedPattern.compile("[year:lower]-[auth]").expand(Object::toString));
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
@@ -523,4 +524,48 @@ class MakeLabelWithDatabaseTest {
         new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKey(entry);
         assertEquals(Optional.of("Aapoj"), entry.getCitationKey());
     }
+
+    @Test
+    void generateKeysAppendsLettersInGivenOrder() {
+        BibEntry entry2 = new BibEntry()
+                .withField(StandardField.AUTHOR, "John Doe")
+                .withField(StandardField.YEAR, "2016");
+        BibEntry entry3 = new BibEntry()
+                .withField(StandardField.AUTHOR, "John Doe")
+                .withField(StandardField.YEAR, "2016");
+        database.insertEntries(entry2, entry3);
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(entry3, entry, entry2));
+
+        assertEquals(List.of(Optional.of("Doe2016a"), Optional.of("Doe2016b"), Optional.of("Doe2016")),
+                List.of(entry.getCitationKey(), entry2.getCitationKey(), entry3.getCitationKey()));
+    }
+
+    @Test
+    void generateKeysUsesLinksUpdatedByEarlierKeys() {
+        bibtexKeyPattern.setDefaultValue("[crossref][auth][year]");
+        entry.setCitationKey("Old");
+        BibEntry child = new BibEntry()
+                .withField(StandardField.AUTHOR, "Jane Roe")
+                .withField(StandardField.YEAR, "2020")
+                .withField(StandardField.CROSSREF, "Old");
+        database.insertEntry(child);
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(entry, child));
+
+        assertEquals(Optional.of("Doe2016Roe2020"), child.getCitationKey());
+    }
+
+    @Test
+    void generateKeysResolvesCrossrefToKeyGivenEarlier() {
+        BibEntry child = new BibEntry()
+                .withField(StandardField.AUTHOR, "Jane Roe")
+                .withField(StandardField.CROSSREF, "Doe2016");
+        database.insertEntry(child);
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(entry, child));
+
+        // The year is inherited from the entry, which receives the key "Doe2016" first
+        assertEquals(Optional.of("Roe2016"), child.getCitationKey());
+    }
 }
@@ -0,0 +1,76 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateFinderTest {
+
+    private final DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+    private final DuplicateFinder duplicateFinder = new DuplicateFinder(duplicateCheck);
+
+    private List<List<BibEntry>> findDuplicates(List<BibEntry> entries) {
+        List<List<BibEntry>> duplicates = Collections.synchronizedList(new ArrayList<>());
+        duplicateFinder.findDuplicates(entries, BibDatabaseMode.BIBTEX, (first, second) -> duplicates.add(List.of(first, second)));
+        return duplicates;
+    }
+
+    @Test
+    void findsSameDuplicatesAsComparingEachPair() {
+        List<BibEntry> entries = List.of(
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Single Author")
+                        .withField(StandardField.TITLE, "A serious paper about something")
+                        .withField(StandardField.YEAR, "2017"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Completely Different")
+                        .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+                        .withField(StandardField.YEAR, "1992"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Single Author")
+                        .withField(StandardField.TITLE, "A serious paper about somethin")
+                        .withField(StandardField.YEAR, "2017"),
+                new BibEntry(StandardEntryType.Book)
+                        .withField(StandardField.TITLE, "A serious paper about something")
+                        .withField(StandardField.YEAR, "2017"),
+                new BibEntry(StandardEntryType.Misc)
+                        .withField(StandardField.TITLE, "Some title")
+                        .withField(StandardField.DOI, "10.1000/182"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.TITLE, "Another title")
+                        .withField(StandardField.DOI, "10.1000/182"));
+
+        List<List<BibEntry>> expected = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    expected.add(List.of(entries.get(i), entries.get(j)));
+                }
+            }
+        }
+        List<List<BibEntry>> actual = findDuplicates(entries);
+
+        assertEquals(2, expected.size());
+        assertEquals(expected.size(), actual.size());
+        assertTrue(actual.containsAll(expected));
+    }
+
+    @Test
+    void entriesOfDifferentTypesAreNotInSameBlock() {
+        BibEntry article = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Same title");
+        BibEntry book = new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "Same title");
+
+        assertTrue(Collections.disjoint(DuplicateFinder.getBlockingKeys(article), DuplicateFinder.getBlockingKeys(book)));
+    }
+}
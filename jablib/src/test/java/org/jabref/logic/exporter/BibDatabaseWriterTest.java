@@ -12,6 +12,7 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.citationkeypattern.AbstractCitationKeyPatterns;
@@ -57,7 +58,9 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -596,6 +599,78 @@ class BibDatabaseWriterTest {
         assertEquals(bibEntry, stringWriter.toString());
     }
 
+    @Test
+    void changedEntryIsCopiedAtNextSaveIfSerializationIsKept() throws IOException {
+        String bibEntry = "% user comment\n" +
+                "\n" +
+                "@InProceedings{1137631,\n" +
+                "  author     = {Mr. Author},\n" +
+                "}\n";
+        ParserResult result = new BibtexParser(importFormatPreferences).parse(Reader.of(bibEntry));
+        BibEntry entry = result.getDatabase().getEntryByCitationKey("1137631").get();
+        entry.setField(StandardField.TITLE, "Title");
+        BibDatabaseContext context = new BibDatabaseContext(result.getDatabase(), result.getMetaData());
+        saveConfiguration.withKeepSerializationOfChangedEntries(true);
+
+        bibWriter = new BibWriter(stringWriter, "\n");
+        initializeDatabaseWriter();
+        databaseWriter.saveDatabase(context);
+        String firstSave = stringWriter.toString();
+
+        assertFalse(entry.hasChanged());
+
+        stringWriter = new StringWriter();
+        bibWriter = new BibWriter(stringWriter, "\n");
+        initializeDatabaseWriter();
+        databaseWriter.saveDatabase(context);
+
+        assertEquals(firstSave, stringWriter.toString());
+    }
+
+    @Test
+    void serializationIsNotKeptIfEntryIsChangedWhileWriting() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("key")
+                .withField(StandardField.TITLE, "Title")
+                .withChanged(true);
+        database.insertEntry(entry);
+        entryTypesManager = new BibEntryTypesManager() {
+            @Override
+            public Optional<BibEntryType> enrich(EntryType type, BibDatabaseMode mode) {
+                // Simulates an edit in the entry editor while the entry is serialized
+                if (entry.getField(StandardField.TITLE).equals(Optional.of("Title"))) {
+                    entry.setField(StandardField.TITLE, "Changed");
+                }
+                return super.enrich(type, mode);
+            }
+        };
+        saveConfiguration.withKeepSerializationOfChangedEntries(true);
+        initializeDatabaseWriter();
+
+        databaseWriter.saveDatabase(bibtexContext);
+
+        assertTrue(entry.hasChanged());
+
+        stringWriter = new StringWriter();
+        bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
+        initializeDatabaseWriter();
+        databaseWriter.saveDatabase(bibtexContext);
+
+        assertTrue(stringWriter.toString().contains("title = {Changed}"));
+        assertFalse(entry.hasChanged());
+    }
+
+    @Test
+    void changedEntryIsSerializedAgainIfSerializationIsNotKept() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setField(StandardField.TITLE, "Title");
+        database.insertEntry(entry);
+
+        databaseWriter.saveDatabase(bibtexContext);
+
+        assertTrue(entry.hasChanged());
+    }
+
     @Test
     void roundtripWithTwoEntriesAndOneUserCommentAndEntryChange() throws IOException {
         String bibEntry = "@Article{test,}\n" +
@@ -49,6 +49,16 @@ class ProtectTermsFormatterTest {
         assertEquals("{3GPP} {3G}", formatter.format("3GPP 3G"));
     }
 
+    @Test
+    void protectsRepeatedTerm() {
+        assertEquals("{VLSI} {VLSI}", formatter.format("VLSI VLSI"));
+    }
+
+    @Test
+    void termIsMatchedLiterally() {
+        assertEquals("{H.264} and H-264", formatter.format("H.264 and H-264"));
+    }
+
     @Test
     void test() {
         assertEquals("{VLSI} {VLSI}", formatter.format("VLSI {VLSI}"));
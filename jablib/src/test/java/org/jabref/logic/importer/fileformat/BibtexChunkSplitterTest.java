@@ -0,0 +1,53 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibtexChunkSplitterTest {
+
+    private static List<String> split(String text) {
+        List<Integer> chunkStarts = BibtexChunkSplitter.findChunkStarts(text, 1);
+        return IntStream.range(0, chunkStarts.size())
+                        .mapToObj(i -> text.substring(chunkStarts.get(i), i + 1 < chunkStarts.size() ? chunkStarts.get(i + 1) : text.length()))
+                        .toList();
+    }
+
+    @Test
+    void splitsAfterEntriesAndStrings() {
+        assertEquals(List.of("@article{a, title={x}}\n", "\n@string{s = {t}}\n", "@book{b}\n"),
+                split("@article{a, title={x}}\n\n@string{s = {t}}\n@book{b}\n"));
+    }
+
+    @Test
+    void doesNotSplitAfterCommentsAndPreambles() {
+        assertEquals(List.of("@comment{jabref-meta: x;}\n@preamble{p}\n@article{a}\n", "end"),
+                split("@comment{jabref-meta: x;}\n@preamble{p}\n@article{a}\nend"));
+    }
+
+    @Test
+    void doesNotSplitWithoutNewlineAfterEntry() {
+        assertEquals(List.of("@article{a}@article{b}\n"), split("@article{a}@article{b}\n"));
+    }
+
+    @Test
+    void ignoresParenthesesInQuotesAndEscapedBraces() {
+        assertEquals(List.of("@article(a, title = \"x ) y\")\n", "@article{b, title = {\\{}}\n", "@book{c}\n"),
+                split("@article(a, title = \"x ) y\")\n@article{b, title = {\\{}}\n@book{c}\n"));
+    }
+
+    @Test
+    void keepsRemainingTextAfterUnbalancedBraces() {
+        assertEquals(List.of("@article{a}\n", "@article{b, title = {x}\n@book{c}\n"),
+                split("@article{a}\n@article{b, title = {x}\n@book{c}\n"));
+    }
+
+    @Test
+    void respectsMinimumChunkLength() {
+        String text = "@article{a}\n@article{b}\n@article{c}\n";
+        assertEquals(List.of(0, 24), BibtexChunkSplitter.findChunkStarts(text, 20));
+    }
+}
@@ -65,6 +65,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -1165,6 +1166,90 @@ class BibtexParserTest {
         assertEquals(OS.NEWLINE + testEntryTwo, second.getParsedSerialization());
     }
 
+    @Test
+    void parseSavesParsedSerializationOfEntriesLargerThanReadBuffer() throws IOException {
+        List<String> testEntries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String abstractText = "word ".repeat(i * 200);
+            testEntries.add("@article{test" + i + ",author={Ed von Test},abstract={" + abstractText + "}}" + OS.NEWLINE);
+        }
+        ParserResult result = parser.parse(Reader.of(String.join("", testEntries)));
+
+        List<BibEntry> parsedEntries = result.getDatabase().getEntries();
+        assertEquals(testEntries.size(), parsedEntries.size());
+        for (int i = 0; i < testEntries.size(); i++) {
+            assertEquals(testEntries.get(i), parsedEntries.get(i).getParsedSerialization());
+            assertEquals(Optional.of("test" + i), parsedEntries.get(i).getCitationKey());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            """
+                    % Encoding: UTF-8
+
+                    @Preamble{{preamble}}
+
+                    @String{firstname = {Ed}}
+
+                    % comment before entry
+                    @Article{test1,
+                      author = firstname # { von Test},
+                      title  = {Title with \\{ escaped brace},
+                    }
+
+                    @Book(test2,
+                      title = "Title (with parentheses)"
+                    )
+                    @Comment{jabref-entrytype: Lecturenotes: req[author;title] opt[language;url]}
+
+                    @Lecturenotes{test3,
+                      title = {Lecture notes},
+                    }
+
+                    @String{lastname = {Test}}
+                    @Article{test4,
+                      author = {Ed von Test},
+                      file = {:c:\\temp\\},
+                    }
+
+                    @Comment{jabref-meta: databaseType:bibtex;}
+                    some epilog
+                    """,
+            """
+                    @Article{test1,
+                      title = {Missing comma}
+                      author = {Ed von Test},
+                    }
+                    @Article{test2,
+                      title = {Title},
+                    }
+                    @String{name = {First}}
+                    @Article{test3,
+                      title = {Title},
+                    }
+                    @String{name = {Duplicate}}
+                    """})
+    void parseInParallelGivesSameResultAsParse(String bibtex) throws IOException {
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(Reader.of(bibtex));
+        // Every entry and string in a chunk of its own
+        ParserResult result = new BibtexParser(importFormatPreferences).parseInParallel(bibtex, 1);
+
+        BibDatabase expectedDatabase = expected.getDatabase();
+        BibDatabase database = result.getDatabase();
+        assertEquals(expectedDatabase.getEntries(), database.getEntries());
+        assertEquals(expectedDatabase.getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                database.getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(Set.copyOf(expectedDatabase.getStringValues()), Set.copyOf(database.getStringValues()));
+        assertEquals(expectedDatabase.getPreamble(), database.getPreamble());
+        assertEquals(expectedDatabase.getEpilog(), database.getEpilog());
+        assertEquals(expected.getMetaData(), result.getMetaData());
+        assertEquals(expected.getEntryTypes(), result.getEntryTypes());
+        assertEquals(expected.getWarningsMap(), result.getWarningsMap());
+        assertEquals(expectedDatabase.getEntries().stream().map(entry -> expected.getArticleRanges().get(entry)).toList(),
+                database.getEntries().stream().map(entry -> result.getArticleRanges().get(entry)).toList());
+    }
+
     @Test
     void parseIgnoresWhitespaceInEpilogue() throws IOException {
         ParserResult result = parser.parse(Reader.of("   " + OS.NEWLINE));
@@ -3,7 +3,9 @@ package org.jabref.logic.integrity;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -33,6 +35,7 @@ import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -146,6 +149,41 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkInParallelFindsSameMessagesInSameOrder() {
+        BibDatabase bibDatabase = new BibDatabase();
+        for (int i = 0; i < 200; i++) {
+            bibDatabase.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey(i % 3 == 0 ? "duplicate" : "key" + i)
+                    .withField(StandardField.TITLE, i % 2 == 0 ? "Title with & ampersand" : "Title " + i)
+                    .withField(StandardField.YEAR, i % 5 == 0 ? "twenty" : "2020")
+                    .withField(StandardField.DOI, i % 7 == 0 ? "10.1000/same" : "10.1000/" + i));
+        }
+        BibDatabaseContext context = withMode(new BibDatabaseContext(bibDatabase), BibDatabaseMode.BIBTEX);
+        IntegrityCheck integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+
+        assertEquals(integrityCheck.check(), integrityCheck.checkInParallel());
+    }
+
+    @Test
+    void checkerTimingsContainEachKindOfChecker() {
+        IntegrityCheck integrityCheck = new IntegrityCheck(createContext(StandardField.TITLE, "sometitle"),
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+        integrityCheck.checkInParallel();
+
+        Map<String, Duration> timings = integrityCheck.getCheckerTimings();
+        assertTrue(timings.containsKey(TitleChecker.class.getSimpleName()));
+        assertTrue(timings.containsKey(LatexIntegrityChecker.class.getSimpleName()));
+        assertTrue(timings.containsKey(DoiDuplicationChecker.class.getSimpleName()));
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
@@ -0,0 +1,92 @@
+package org.jabref.logic.journals;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.journals.ltwa.LtwaRepository;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalAbbreviationRepositoryTest {
+
+    private static final List<Abbreviation> ABBREVIATIONS = List.of(
+            new Abbreviation("Physical Review Letters", "Phys. Rev. Lett.", "PRL"),
+            new Abbreviation("Journal of Physics A", "J. Phys. A", "JPA"));
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void getFindsAbbreviationByAllNames(boolean withReverseMaps) {
+        try (JournalAbbreviationRepository repository = new JournalAbbreviationRepository(writeJournalList(withReverseMaps), new LtwaRepository())) {
+            Optional<Abbreviation> expected = Optional.of(ABBREVIATIONS.getFirst());
+
+            assertEquals(expected, repository.get("Physical Review Letters"));
+            assertEquals(expected, repository.get("Phys. Rev. Lett."));
+            assertEquals(expected, repository.get("Phys Rev Lett"));
+            assertEquals(expected, repository.get("PRL"));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void isAbbreviatedNameUsesReverseMaps(boolean withReverseMaps) {
+        try (JournalAbbreviationRepository repository = new JournalAbbreviationRepository(writeJournalList(withReverseMaps), new LtwaRepository())) {
+            assertTrue(repository.isAbbreviatedName("J. Phys. A"));
+            assertTrue(repository.isAbbreviatedName("J Phys A"));
+            assertFalse(repository.isAbbreviatedName("Journal of Physics A"));
+        }
+    }
+
+    @Test
+    void getNextAbbreviationCyclesThroughStoredForms() {
+        try (JournalAbbreviationRepository repository = new JournalAbbreviationRepository(writeJournalList(true), new LtwaRepository())) {
+            assertEquals(Optional.of("J. Phys. A"), repository.getNextAbbreviation("Journal of Physics A"));
+            assertEquals(Optional.of("J Phys A"), repository.getNextAbbreviation("J. Phys. A"));
+        }
+    }
+
+    @Test
+    void closingOneOfTwoRepositoriesOfSameFileKeepsOtherUsable() {
+        Path journalList = writeJournalList(true);
+        JournalAbbreviationRepository first = new JournalAbbreviationRepository(journalList, new LtwaRepository());
+        try (JournalAbbreviationRepository second = new JournalAbbreviationRepository(journalList, new LtwaRepository())) {
+            first.close();
+            // Closing again must not release the file a second time
+            first.close();
+
+            assertEquals(Optional.of(ABBREVIATIONS.getLast()), second.get("JPA"));
+            assertEquals(Optional.of(ABBREVIATIONS.getLast()), first.get("JPA"));
+        }
+    }
+
+    private Path writeJournalList(boolean withReverseMaps) {
+        Path journalList = tempDir.resolve(withReverseMaps ? "journal-list.mv" : "journal-list-without-reverse-maps.mv");
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION);
+            ABBREVIATIONS.forEach(abbreviation -> fullToAbbreviation.put(abbreviation.getName(), abbreviation));
+            if (withReverseMaps) {
+                MVMap<String, String> abbreviationToFull = store.openMap(JournalAbbreviationRepository.ABBREVIATION_TO_FULL);
+                MVMap<String, String> dotlessToFull = store.openMap(JournalAbbreviationRepository.DOTLESS_TO_FULL);
+                MVMap<String, String> shortestUniqueToFull = store.openMap(JournalAbbreviationRepository.SHORTEST_UNIQUE_TO_FULL);
+                ABBREVIATIONS.forEach(abbreviation -> {
+                    abbreviationToFull.put(abbreviation.getAbbreviation(), abbreviation.getName());
+                    dotlessToFull.put(abbreviation.getDotlessAbbreviation(), abbreviation.getName());
+                    shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), abbreviation.getName());
+                });
+            }
+        }
+        return journalList;
+    }
+}
@@ -0,0 +1,216 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.util.URLUtil;
+import org.jabref.testutils.category.FetcherTest;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@FetcherTest
+class HttpResponseCacheTest {
+
+    private static final int PORT = 2223;
+
+    private final WireMockServer wireMockServer = new WireMockServer(PORT);
+    private Path cacheDirectory;
+
+    @BeforeEach
+    void setUp(@TempDir Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        wireMockServer.start();
+        configureFor("localhost", PORT);
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, 1000, Duration.ZERO, new TickingClock()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        URLDownload.setResponseCache(null);
+        wireMockServer.stop();
+    }
+
+    /**
+     * Advances by one second on each call, so that the order of accesses is recorded independently of the resolution
+     * of file modification times
+     */
+    private static class TickingClock extends Clock {
+        private long millis;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            millis += 1000;
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+    }
+
+    private static String download(String path) throws FetcherException {
+        return new URLDownload(URLUtil.create("http://localhost:" + PORT + path)).asString();
+    }
+
+    @Test
+    void freshResponseIsServedFromCache() throws FetcherException {
+        stubFor(get(urlEqualTo("/fresh"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Cache-Control", "max-age=60")
+                        .withBody("fresh")));
+
+        assertEquals("fresh", download("/fresh"));
+        assertEquals("fresh", download("/fresh"));
+        verify(1, getRequestedFor(urlEqualTo("/fresh")));
+    }
+
+    @Test
+    void staleResponseIsRevalidated() throws FetcherException {
+        stubFor(get(urlEqualTo("/etag"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Cache-Control", "no-cache")
+                        .withHeader("ETag", "\"v1\"")
+                        .withBody("cached")));
+        stubFor(get(urlEqualTo("/etag"))
+                .withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304)));
+
+        assertEquals("cached", download("/etag"));
+        assertEquals("cached", download("/etag"));
+        verify(2, getRequestedFor(urlEqualTo("/etag")));
+        verify(1, getRequestedFor(urlEqualTo("/etag")).withHeader("If-None-Match", equalTo("\"v1\"")));
+    }
+
+    @Test
+    void responseWithValidatorOnlyIsRevalidated() throws FetcherException {
+        stubFor(get(urlEqualTo("/last-modified"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Last-Modified", "Wed, 21 Oct 2015 07:28:00 GMT")
+                        .withBody("cached")));
+        stubFor(get(urlEqualTo("/last-modified"))
+                .withHeader("If-Modified-Since", equalTo("Wed, 21 Oct 2015 07:28:00 GMT"))
+                .willReturn(aResponse().withStatus(304)));
+
+        assertEquals("cached", download("/last-modified"));
+        assertEquals("cached", download("/last-modified"));
+        verify(1, getRequestedFor(urlEqualTo("/last-modified")).withHeader("If-Modified-Since", equalTo("Wed, 21 Oct 2015 07:28:00 GMT")));
+    }
+
+    @Test
+    void responseWithoutFreshnessAndValidatorIsNotCached() throws FetcherException {
+        stubFor(get(urlEqualTo("/plain"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody("not cached")));
+
+        download("/plain");
+        download("/plain");
+        verify(2, getRequestedFor(urlEqualTo("/plain")));
+    }
+
+    @Test
+    void requestUrlIsNotStored() throws FetcherException, IOException {
+        stubFor(get(urlEqualTo("/fresh?apikey=secret"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Cache-Control", "max-age=60")
+                        .withBody("fresh")));
+
+        download("/fresh?apikey=secret");
+
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : files.toList()) {
+                assertFalse(Files.readString(file).contains("secret"));
+            }
+        }
+    }
+
+    @Test
+    void leftoverTemporaryFilesAreRemoved() throws IOException {
+        Path old = Files.createFile(cacheDirectory.resolve("old.tmp"));
+        Files.setLastModifiedTime(old, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        Path recent = Files.createFile(cacheDirectory.resolve("recent.tmp"));
+
+        new HttpResponseCache(cacheDirectory, 1000, Duration.ZERO);
+
+        assertFalse(Files.exists(old));
+        assertTrue(Files.exists(recent));
+    }
+
+    @Test
+    void noStoreResponseIsNotCached() throws FetcherException {
+        stubFor(get(urlEqualTo("/no-store"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Cache-Control", "no-store")
+                        .withBody("not cached")));
+
+        download("/no-store");
+        download("/no-store");
+        verify(2, getRequestedFor(urlEqualTo("/no-store")));
+    }
+
+    @Test
+    void leastRecentlyUsedResponseIsEvicted() throws FetcherException {
+        // Four bodies fill the cache size of 1000 bytes
+        String body = "x".repeat(250);
+        for (String path : new String[] {"/first", "/second", "/third", "/fourth", "/fifth"}) {
+            stubFor(get(urlEqualTo(path))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withHeader("Cache-Control", "max-age=600")
+                            .withBody(body)));
+        }
+
+        download("/first");
+        download("/second");
+        download("/third");
+        download("/fourth");
+        download("/first");
+        download("/fifth");
+        download("/first");
+        download("/second");
+
+        verify(1, getRequestedFor(urlEqualTo("/first")));
+        verify(2, getRequestedFor(urlEqualTo("/second")));
+    }
+}
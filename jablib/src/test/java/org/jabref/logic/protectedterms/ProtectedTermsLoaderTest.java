@@ -13,6 +13,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ProtectedTermsLoaderTest {
@@ -39,6 +41,21 @@ class ProtectedTermsLoaderTest {
         assertEquals(List.of("Einstein"), loader.getProtectedTerms());
     }
 
+    @Test
+    void getProtectedTermsMatcherIsRebuiltOnlyAfterChangeOfLists() throws URISyntaxException {
+        ProtectedTermsMatcher matcher = loader.getProtectedTermsMatcher();
+        assertSame(matcher, loader.getProtectedTermsMatcher());
+
+        Path path = Path.of(ProtectedTermsLoader.class.getResource("/org/jabref/logic/protectedterms/namedterms.terms")
+                                                      .toURI());
+        loader.addProtectedTermsListFromFile(path, true);
+        ProtectedTermsMatcher newMatcher = loader.getProtectedTermsMatcher();
+
+        assertNotSame(matcher, newMatcher);
+        assertEquals("{Einstein}", newMatcher.protectTerms("Einstein"));
+        assertEquals("Einstein", matcher.protectTerms("Einstein"));
+    }
+
     @Test
     void addProtectedTermsListFromFile() throws URISyntaxException {
         Path path = Path.of(ProtectedTermsLoader.class.getResource("/org/jabref/logic/protectedterms/namedterms.terms")
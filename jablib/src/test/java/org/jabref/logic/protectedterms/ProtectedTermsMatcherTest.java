@@ -0,0 +1,31 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProtectedTermsMatcherTest {
+
+    @Test
+    void longestTermAtPositionIsTaken() {
+        ProtectedTermsMatcher matcher = new ProtectedTermsMatcher(List.of("IEEE", "IEEE Transactions"));
+
+        assertEquals("{IEEE Transactions} on {IEEE}", matcher.protectTerms("IEEE Transactions on IEEE"));
+    }
+
+    @Test
+    void termStartingFirstWinsOverLongerOverlappingTerm() {
+        ProtectedTermsMatcher matcher = new ProtectedTermsMatcher(List.of("A B", "B C D"));
+
+        assertEquals("{A B} C D", matcher.protectTerms("A B C D"));
+    }
+
+    @Test
+    void shorterTermIsTakenIfLongerTermDoesNotEndAtBoundary() {
+        ProtectedTermsMatcher matcher = new ProtectedTermsMatcher(List.of("DNA", "DNA s"));
+
+        assertEquals("{DNA} sequencing", matcher.protectTerms("DNA sequencing"));
+    }
+}
@@ -1,8 +1,10 @@
 package org.jabref.logic.search.indexing;
 
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.jabref.logic.search.PostgreServer;
@@ -17,6 +19,7 @@ import org.jabref.model.search.PostgreConstants;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
@@ -91,4 +94,148 @@ public class BibFieldsIndexerTest {
         // Cleanup resources gracefully
         indexer.closeAndWait();
     }
+
+    @Test
+    void updateOnStartOfLargeLibraryIndexesAllEntries() throws Exception {
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        for (int i = 0; i < 1500; i++) {
+            databaseContext.getDatabase().insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.TITLE, "Title \\\"{o} \"quoted\", with comma " + i)
+                    .withField(StandardField.AUTHOR, "Doe, John and M{\\\"u}ller, Anna")
+                    .withField(StandardField.YEAR, "2024"));
+        }
+        Connection connection = postgreServer.getConnection();
+        BibFieldsIndexer indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, connection);
+
+        indexer.updateOnStart(new NoOpTask());
+
+        BibEntry lastEntry = databaseContext.getDatabase().getEntries().getLast();
+        String mainTableRef = PostgreConstants.getMainTableSchemaReference(indexer.getTable());
+        String sql = "SELECT \"" + PostgreConstants.FIELD_VALUE_LITERAL + "\", \"" + PostgreConstants.FIELD_VALUE_TRANSFORMED + "\" FROM " + mainTableRef + " WHERE \"" + PostgreConstants.ENTRY_ID + "\" = ? AND \"" + PostgreConstants.FIELD_NAME + "\" = ?";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, lastEntry.getId());
+            ps.setString(2, "title");
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                assertEquals("Title \\\"{o} \"quoted\", with comma 1499", rs.getString(1));
+                assertEquals("Title ö \"quoted\", with comma 1499", rs.getString(2));
+            }
+        }
+
+        String splitTableRef = PostgreConstants.getSplitTableSchemaReference(indexer.getTable());
+        try (ResultSet rs = connection.createStatement().executeQuery("SELECT COUNT(*) FROM " + splitTableRef)) {
+            rs.next();
+            assertEquals(3000, rs.getInt(1));
+        }
+
+        indexer.closeAndWait();
+    }
+
+    @Test
+    void updateOnStartReusesPersistedIndexOfUnchangedEntries(@TempDir Path tempDir) throws Exception {
+        PostgreServer persistentServer = new PostgreServer(tempDir.resolve("postgres"));
+        try {
+            Path libraryPath = tempDir.resolve("library.bib");
+            BibDatabaseContext firstSession = new BibDatabaseContext();
+            firstSession.setDatabasePath(libraryPath);
+            firstSession.getDatabase().insertEntry(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Unchanged"));
+            firstSession.getDatabase().insertEntry(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Old title"));
+            BibFieldsIndexer firstIndexer = new BibFieldsIndexer(bibEntryPreferences, firstSession, persistentServer.getConnection(), true);
+            firstIndexer.updateOnStart(new NoOpTask());
+            firstIndexer.closeAndWait();
+
+            // Entries get new ids in every session
+            BibDatabaseContext secondSession = new BibDatabaseContext();
+            secondSession.setDatabasePath(libraryPath);
+            BibEntry unchanged = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Unchanged");
+            BibEntry changed = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "New title");
+            secondSession.getDatabase().insertEntries(List.of(unchanged, changed));
+            Connection connection = persistentServer.getConnection();
+            BibFieldsIndexer secondIndexer = new BibFieldsIndexer(bibEntryPreferences, secondSession, connection, true);
+            secondIndexer.updateOnStart(new NoOpTask());
+
+            assertEquals(firstIndexer.getTable(), secondIndexer.getTable());
+            String mainTableRef = PostgreConstants.getMainTableSchemaReference(secondIndexer.getTable());
+            String sql = "SELECT \"" + PostgreConstants.ENTRY_ID + "\", \"" + PostgreConstants.FIELD_VALUE_LITERAL + "\" FROM " + mainTableRef + " WHERE \"" + PostgreConstants.FIELD_NAME + "\" = 'title' ORDER BY 1";
+            List<String> titles = new ArrayList<>();
+            try (ResultSet rs = connection.createStatement().executeQuery(sql)) {
+                while (rs.next()) {
+                    titles.add(rs.getString(1) + ":" + rs.getString(2));
+                }
+            }
+            assertEquals(List.of(unchanged.getId() + ":Unchanged", changed.getId() + ":New title"), titles);
+
+            secondIndexer.closeAndWait();
+        } finally {
+            persistentServer.shutdown();
+        }
+    }
+
+    @Test
+    void addToIndexKeepsSplitValuesOfSameEntryUnique() throws Exception {
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        Connection connection = postgreServer.getConnection();
+        BibFieldsIndexer indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, connection);
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Doe, John and Smith, Anna");
+        databaseContext.getDatabase().insertEntry(entry);
+
+        indexer.updateOnStart(new NoOpTask());
+        indexer.addToIndex(List.of(entry), new NoOpTask());
+
+        String splitTableRef = PostgreConstants.getSplitTableSchemaReference(indexer.getTable());
+        try (PreparedStatement ps = connection.prepareStatement("SELECT COUNT(*) FROM " + splitTableRef + " WHERE \"" + PostgreConstants.ENTRY_ID + "\" = ?")) {
+            ps.setString(1, entry.getId());
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                assertEquals(2, rs.getInt(1));
+            }
+        }
+
+        indexer.closeAndWait();
+    }
+
+    @Test
+    void updateOnStartReindexesAllEntriesIfKeywordSeparatorChanged(@TempDir Path tempDir) throws Exception {
+        PostgreServer persistentServer = new PostgreServer(tempDir.resolve("postgres"));
+        try {
+            Path libraryPath = tempDir.resolve("library.bib");
+            BibDatabaseContext firstSession = new BibDatabaseContext();
+            firstSession.setDatabasePath(libraryPath);
+            firstSession.getDatabase().insertEntry(new BibEntry(StandardEntryType.Article).withField(StandardField.KEYWORDS, "a;b, c"));
+            BibFieldsIndexer firstIndexer = new BibFieldsIndexer(bibEntryPreferences, firstSession, persistentServer.getConnection(), true);
+            firstIndexer.updateOnStart(new NoOpTask());
+            firstIndexer.closeAndWait();
+
+            BibEntryPreferences changedPreferences = mock(BibEntryPreferences.class);
+            when(changedPreferences.getKeywordSeparator()).thenReturn(';');
+            BibDatabaseContext secondSession = new BibDatabaseContext();
+            secondSession.setDatabasePath(libraryPath);
+            BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.KEYWORDS, "a;b, c");
+            secondSession.getDatabase().insertEntry(entry);
+            Connection connection = persistentServer.getConnection();
+            BibFieldsIndexer secondIndexer = new BibFieldsIndexer(changedPreferences, secondSession, connection, true);
+            secondIndexer.updateOnStart(new NoOpTask());
+
+            String splitTableRef = PostgreConstants.getSplitTableSchemaReference(secondIndexer.getTable());
+            String sql = "SELECT \"" + PostgreConstants.ENTRY_ID + "\", \"" + PostgreConstants.FIELD_VALUE_LITERAL + "\" FROM " + splitTableRef + " ORDER BY 2";
+            List<String> keywords = new ArrayList<>();
+            try (ResultSet rs = connection.createStatement().executeQuery(sql)) {
+                while (rs.next()) {
+                    keywords.add(rs.getString(1) + ":" + rs.getString(2));
+                }
+            }
+            assertEquals(List.of(entry.getId() + ":a", entry.getId() + ":b, c"), keywords);
+
+            secondIndexer.closeAndWait();
+        } finally {
+            persistentServer.shutdown();
+        }
+    }
+
+    private static class NoOpTask extends BackgroundTask<Object> {
+        @Override
+        public Object call() {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BibFieldsSearcherTest {
+
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private final BibEntry harrer = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Harrer");
+    private final BibEntry kopp = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Kopp");
+    private final BibEntry harrerBook = new BibEntry(StandardEntryType.Book).withField(StandardField.AUTHOR, "Harrer");
+
+    private PostgreServer postgreServer;
+    private BibFieldsSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        postgreServer = new PostgreServer();
+
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntries(List.of(harrer, kopp, harrerBook));
+        BibFieldsIndexer indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+        indexer.addToIndex(databaseContext.getDatabase().getEntries(), new BackgroundTask<>() {
+            @Override
+            public Object call() {
+                return null;
+            }
+        });
+        searcher = new BibFieldsSearcher(postgreServer.getConnection(), indexer.getTable());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postgreServer.shutdown();
+    }
+
+    @Test
+    void getMatchedEntriesIsRestrictedToGivenEntries() {
+        SearchQuery query = new SearchQuery("author=harrer", EnumSet.noneOf(SearchFlags.class));
+        assertEquals(Set.of(harrer.getId()), searcher.getMatchedEntries(List.of(harrer, kopp), query));
+    }
+
+    @Test
+    void getMatchedEntriesAgreesWithFullSearch() {
+        SearchQuery query = new SearchQuery("author=harrer", EnumSet.noneOf(SearchFlags.class));
+        assertEquals(searcher.search(query).getMatchedEntries(), searcher.getMatchedEntries(List.of(harrer, kopp, harrerBook), query));
+    }
+
+    @Test
+    void getMatchedEntriesOfNoEntriesIsEmpty() {
+        SearchQuery query = new SearchQuery("author=harrer", EnumSet.noneOf(SearchFlags.class));
+        assertEquals(Set.of(), searcher.getMatchedEntries(List.of(), query));
+    }
+
+    @Test
+    void isMatched() {
+        SearchQuery query = new SearchQuery("author=harrer", EnumSet.noneOf(SearchFlags.class));
+        assertTrue(searcher.isMatched(harrerBook, query));
+        assertFalse(searcher.isMatched(kopp, query));
+    }
+}
@@ -303,6 +303,28 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @Test
+    void getNewerSharedEntries() throws OfflineLockException, SQLException {
+        BibEntry unchangedEntry = getBibEntryExample();
+        BibEntry updatedEntry = getBibEntryExample();
+        BibEntry newEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(unchangedEntry);
+        dbmsProcessor.insertEntry(updatedEntry);
+        dbmsProcessor.insertEntry(newEntry);
+        dbmsProcessor.updateEntry(updatedEntry);
+
+        Map<Integer, Integer> localIDVersionMap = new HashMap<>();
+        localIDVersionMap.put(unchangedEntry.getSharedBibEntryData().getSharedID(), 1);
+        localIDVersionMap.put(updatedEntry.getSharedBibEntryData().getSharedID(), 1);
+
+        List<Integer> actualSharedIDs = dbmsProcessor.getNewerSharedEntries(localIDVersionMap).stream()
+                                                     .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                                                     .toList();
+
+        assertEquals(List.of(updatedEntry.getSharedBibEntryData().getSharedID(), newEntry.getSharedBibEntryData().getSharedID()), actualSharedIDs);
+    }
+
     @Test
     void getSharedMetaData() {
         insertMetaData("databaseType", "bibtex;", dbmsConnection, dbmsProcessor);
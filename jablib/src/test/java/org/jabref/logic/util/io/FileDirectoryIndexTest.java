@@ -0,0 +1,138 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileDirectoryIndexTest {
+
+    private final MutableClock clock = new MutableClock();
+    private Path directory;
+    private FileDirectoryIndex index;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        directory = tempDir;
+        Files.createDirectories(directory.resolve("directory/subdirectory"));
+        Files.createDirectories(directory.resolve("other"));
+        Files.createFile(directory.resolve("Key2020.pdf"));
+        Files.createFile(directory.resolve("directory/Key2020a.pdf"));
+        Files.createFile(directory.resolve("directory/subdirectory/Paper.PDF"));
+        index = new FileDirectoryIndex(directory, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void findFilesByNamePrefix() {
+        assertEquals(List.of(directory.resolve("Key2020.pdf"), directory.resolve("directory/Key2020a.pdf")),
+                index.findFilesByNamePrefix("Key2020"));
+    }
+
+    @Test
+    void findFilesByNamePrefixIsCaseSensitive() {
+        assertEquals(List.of(), index.findFilesByNamePrefix("key2020"));
+    }
+
+    @Test
+    void findFilesByBaseNameIgnoresCaseAndExtension() {
+        assertEquals(List.of(directory.resolve("directory/subdirectory/Paper.PDF")), index.findFilesByBaseName("paper"));
+    }
+
+    @Test
+    void getChildrenListsFilesAndDirectories() {
+        assertEquals(List.of(directory.resolve("directory/Key2020a.pdf"), directory.resolve("directory/subdirectory")),
+                index.getChildren(directory.resolve("directory")).stream().sorted().toList());
+    }
+
+    @Test
+    void getSubdirectoriesIsRecursive() {
+        assertEquals(List.of(directory.resolve("directory"), directory.resolve("directory/subdirectory"), directory.resolve("other")),
+                index.getSubdirectories(directory).stream().sorted().toList());
+    }
+
+    @Test
+    void isDirectory() {
+        assertTrue(index.isDirectory(directory.resolve("directory/subdirectory")));
+        assertFalse(index.isDirectory(directory.resolve("Key2020.pdf")));
+    }
+
+    @Test
+    void closedIndexAnswersQueriesWithoutWatching() throws IOException {
+        index.findFilesByNamePrefix("Key2020");
+        index.close();
+        Files.createFile(directory.resolve("other/Key2020b.pdf"));
+
+        assertEquals(List.of(directory.resolve("Key2020.pdf"), directory.resolve("directory/Key2020a.pdf"), directory.resolve("other/Key2020b.pdf")),
+                index.findFilesByNamePrefix("Key2020"));
+        assertFalse(index.isWatching());
+    }
+
+    @Test
+    void indexIsRebuiltWhenOld() throws IOException {
+        index.findFilesByNamePrefix("Key2020");
+        Files.createFile(directory.resolve("other/Key2020b.pdf"));
+        clock.advance(Duration.ofMinutes(3));
+
+        assertEquals(List.of(directory.resolve("Key2020.pdf"), directory.resolve("directory/Key2020a.pdf"), directory.resolve("other/Key2020b.pdf")),
+                index.findFilesByNamePrefix("Key2020"));
+    }
+
+    @Test
+    void idleIndexReleasesItsWatches() {
+        index.findFilesByNamePrefix("Key2020");
+        clock.advance(Duration.ofMinutes(3));
+
+        index.releaseIfIdle();
+
+        assertFalse(index.isWatching());
+        assertEquals(List.of(directory.resolve("Key2020.pdf"), directory.resolve("directory/Key2020a.pdf")),
+                index.findFilesByNamePrefix("Key2020"));
+    }
+
+    @Test
+    void normalizeBaseNameMatchesEqualsIgnoreCase() {
+        assertEquals(FileDirectoryIndex.normalizeBaseName("ÄBC"), FileDirectoryIndex.normalizeBaseName("äbc"));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
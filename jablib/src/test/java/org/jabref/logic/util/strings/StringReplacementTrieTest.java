@@ -0,0 +1,46 @@
+package org.jabref.logic.util.strings;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StringReplacementTrieTest {
+
+    private final StringReplacementTrie trie = new StringReplacementTrie(Map.of(
+            "&amp;", "\\&",
+            "&am;", "AM",
+            "ä", "{\\\"{a}}",
+            "𝐀", "{\\mathbf{A}}",
+            "x", ""));
+
+    private static Stream<Arguments> replaceAll() {
+        return Stream.of(
+                Arguments.of("", ""),
+                Arguments.of("\\&", "&amp;"),
+                Arguments.of("AM", "&am;"),
+                Arguments.of("&a", "&a"),
+                Arguments.of("a &b", "a &b"),
+                Arguments.of("M{\\\"{a}}rz \\& {\\\"{a}}", "März &amp; ä"),
+                Arguments.of("{\\mathbf{A}}bc", "𝐀bxc"),
+                Arguments.of("&\\&", "&&amp;"));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void replaceAll(String expected, String input) {
+        assertEquals(expected, trie.replaceAll(input));
+    }
+
+    @Test
+    void textWithoutKeysIsReturnedAsIs() {
+        String text = "Plain ASCII & more";
+        assertSame(text, trie.replaceAll(text));
+    }
+}
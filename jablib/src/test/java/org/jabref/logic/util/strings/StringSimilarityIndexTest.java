@@ -0,0 +1,49 @@
+package org.jabref.logic.util.strings;
+
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StringSimilarityIndexTest {
+
+    private static final List<String> JOURNALS = List.of(
+            "Physical Review Letters",
+            "Physical Review",
+            "Physical Review A",
+            "Physical Review B",
+            "Journal of Physics",
+            "Journal of Physics A",
+            "Nature",
+            "Nature Physics",
+            "Science",
+            "Acta",
+            "Phys. Rev. Lett.");
+
+    private final StringSimilarity similarity = new StringSimilarity();
+    private final StringSimilarityIndex index = new StringSimilarityIndex(JOURNALS);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Physical Review Letters",
+            "physical review letter",
+            "Physical Reveiw Letters",
+            "Physcal Review",
+            "Journal of Physic",
+            "JOURNAL OF PHYSICS B",
+            "Natur",
+            "Scienze",
+            "Act",
+            "Phys Rev Lett",
+            "",
+            "Completely Unrelated Journal Name"})
+    void findsSameStringsAsComparingWithEachString(String input) {
+        List<String> expected = JOURNALS.stream()
+                                        .filter(journal -> similarity.isSimilar(input, journal))
+                                        .toList();
+
+        assertEquals(expected, index.findSimilar(input));
+    }
+}
@@ -344,6 +344,47 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void correctKeyCountAfterChangingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void correctKeyCountAfterClearingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.clearCiteKey();
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+    }
+
+    @Test
+    void changingKeyOfRemovedEntryDoesNotAffectKeyCount() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyKeepsDatabaseOrder() {
+        BibEntry first = new BibEntry().withCitationKey("AAA");
+        BibEntry second = new BibEntry().withCitationKey("BBB");
+        database.insertEntries(first, second);
+        second.setCitationKey("AAA");
+        first.setCitationKey("CCC");
+        first.setCitationKey("AAA");
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("AAA"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
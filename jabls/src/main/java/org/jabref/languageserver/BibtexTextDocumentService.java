@@ -7,6 +7,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.languageserver.util.LspDiagnosticHandler;
 import org.jabref.languageserver.util.LspLinkHandler;
+import org.jabref.languageserver.util.LspRangeUtil;
 import org.jabref.logic.remote.server.RemoteMessageHandler;
 
 import com.google.gson.JsonArray;
@@ -62,32 +63,46 @@ public class BibtexTextDocumentService implements TextDocumentService {
         TextDocumentItem textDocument = params.getTextDocument();
         LOGGER.debug("didOpen {}", textDocument.getUri());
         fileUriToLanguageId.putIfAbsent(textDocument.getUri(), textDocument.getLanguageId());
+        contentCache.put(textDocument.getUri(), textDocument.getText());
 
         if ("bibtex".equals(textDocument.getLanguageId())) {
             diagnosticHandler.computeAndPublishDiagnostics(client, textDocument.getUri(), textDocument.getText(), textDocument.getVersion());
-        } else {
-            contentCache.put(textDocument.getUri(), textDocument.getText());
         }
     }
 
     @Override
     public void didChange(DidChangeTextDocumentParams params) {
         VersionedTextDocumentIdentifier textDocument = params.getTextDocument();
-        TextDocumentContentChangeEvent contentChange = params.getContentChanges().getFirst();
         LOGGER.debug("didChange {}", textDocument.getUri());
         String languageId = fileUriToLanguageId.get(textDocument.getUri());
 
+        // The changes are sent incrementally, see LspClientHandler#initialize
+        String content = contentCache.getOrDefault(textDocument.getUri(), "");
+        for (TextDocumentContentChangeEvent contentChange : params.getContentChanges()) {
+            content = applyChange(content, contentChange);
+        }
+        contentCache.put(textDocument.getUri(), content);
+
         if ("bibtex".equalsIgnoreCase(languageId)) {
-            diagnosticHandler.computeAndPublishDiagnostics(client, textDocument.getUri(), contentChange.getText(), textDocument.getVersion());
-        } else {
-            contentCache.put(textDocument.getUri(), contentChange.getText());
+            diagnosticHandler.computeAndPublishDiagnostics(client, textDocument.getUri(), content, textDocument.getVersion());
+        }
+    }
+
+    static String applyChange(String content, TextDocumentContentChangeEvent contentChange) {
+        if (contentChange.getRange() == null) {
+            // The client may always send the full content
+            return contentChange.getText();
         }
+        int start = LspRangeUtil.toOffset(content, contentChange.getRange().getStart());
+        int end = LspRangeUtil.toOffset(content, contentChange.getRange().getEnd());
+        return content.substring(0, start) + contentChange.getText() + content.substring(Math.max(start, end));
     }
 
     @Override
     public void didClose(DidCloseTextDocumentParams params) {
         fileUriToLanguageId.remove(params.getTextDocument().getUri());
         contentCache.remove(params.getTextDocument().getUri());
+        diagnosticHandler.closeDocument(params.getTextDocument().getUri());
     }
 
     @Override
@@ -27,6 +27,8 @@ public class LspLauncher extends Thread {
 
     private final CliPreferences cliPreferences;
     private final JournalAbbreviationRepository abbreviationRepository;
+    // The repository is closed on shutdown only if it was loaded by this launcher
+    private final boolean ownsAbbreviationRepository;
     private final ExecutorService threadPool;
     private final RemoteMessageHandler messageHandler;
 
@@ -36,8 +38,13 @@ public class LspLauncher extends Thread {
     private ServerSocket serverSocket;
 
     public LspLauncher(RemoteMessageHandler messageHandler, CliPreferences cliPreferences, JournalAbbreviationRepository abbreviationRepository, int port) {
+        this(messageHandler, cliPreferences, abbreviationRepository, false, port);
+    }
+
+    private LspLauncher(RemoteMessageHandler messageHandler, CliPreferences cliPreferences, JournalAbbreviationRepository abbreviationRepository, boolean ownsAbbreviationRepository, int port) {
         this.cliPreferences = cliPreferences;
         this.abbreviationRepository = abbreviationRepository;
+        this.ownsAbbreviationRepository = ownsAbbreviationRepository;
         this.threadPool = Executors.newCachedThreadPool();
         this.port = port;
         this.setName("JabLs - JabRef Language Server on: " + port);
@@ -45,7 +52,7 @@ public class LspLauncher extends Thread {
     }
 
     public LspLauncher(RemoteMessageHandler messageHandler, CliPreferences cliPreferences, int port) {
-        this(messageHandler, cliPreferences, JournalAbbreviationLoader.loadRepository(cliPreferences.getJournalAbbreviationPreferences()), port);
+        this(messageHandler, cliPreferences, JournalAbbreviationLoader.loadRepository(cliPreferences.getJournalAbbreviationPreferences()), true, port);
     }
 
     public LspLauncher(JabRefCliPreferences instance, Integer port) {
@@ -111,6 +118,9 @@ public class LspLauncher extends Thread {
             LOGGER.error("Error during LSP shutdown", e);
         }
         running = false;
+        if (ownsAbbreviationRepository && abbreviationRepository != null) {
+            abbreviationRepository.close();
+        }
         LOGGER.info("LSP Server shutdown.");
     }
 
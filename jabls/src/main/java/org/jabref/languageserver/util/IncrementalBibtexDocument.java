@@ -0,0 +1,207 @@
+package org.jabref.languageserver.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryType;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.metadata.MetaData;
+
+/// A BibTeX document which is reparsed incrementally on changes.
+///
+/// The document is split into chunks at lines starting with `@` outside of braces, so that a chunk usually holds one entry.
+/// On a change, only the chunks whose text changed are parsed again. The parse results of all other chunks are reused.
+/// The entries of all chunks are kept in one [BibDatabase] for the checks which need the whole library.
+public class IncrementalBibtexDocument {
+
+    /// @param startLine the zero-based line of the document the chunk starts at. The ranges of the parser result are relative to this line.
+    public record Chunk(String text, int startLine, ParserResult parserResult) {
+    }
+
+    record ChunkText(String text, int startLine) {
+    }
+
+    // Chunks with at least this number of new chunks are parsed in parallel (e.g., when a document is opened)
+    private static final int PARALLEL_PARSING_THRESHOLD = 100;
+    private static final String METADATA_MARKER = "jabref-meta";
+
+    private final ImportFormatPreferences importFormatPreferences;
+    private final BibDatabase database = new BibDatabase();
+    private List<Chunk> chunks = List.of();
+    private String metaDataText = "";
+    private MetaData metaData = new MetaData();
+    private ParserResult parserResult = new ParserResult(database);
+
+    public IncrementalBibtexDocument(ImportFormatPreferences importFormatPreferences) {
+        this.importFormatPreferences = importFormatPreferences;
+    }
+
+    /// Updates the document to the given content
+    ///
+    /// @return the parser result of the complete document. Its ranges are relative to the document.
+    public synchronized ParserResult update(String content) {
+        List<ChunkText> chunkTexts = split(content);
+
+        Map<String, Deque<ParserResult>> reusableResults = new HashMap<>();
+        for (Chunk chunk : chunks) {
+            reusableResults.computeIfAbsent(chunk.text(), _ -> new ArrayDeque<>()).add(chunk.parserResult());
+        }
+
+        ParserResult[] chunkResults = new ParserResult[chunkTexts.size()];
+        List<Integer> chunksToParse = new ArrayList<>();
+        for (int i = 0; i < chunkTexts.size(); i++) {
+            Deque<ParserResult> reusable = reusableResults.get(chunkTexts.get(i).text());
+            if (reusable == null || reusable.isEmpty()) {
+                chunksToParse.add(i);
+            } else {
+                chunkResults[i] = reusable.poll();
+            }
+        }
+
+        IntStream indices = chunksToParse.stream().mapToInt(Integer::intValue);
+        if (chunksToParse.size() >= PARALLEL_PARSING_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> chunkResults[i] = parse(chunkTexts.get(i).text()));
+
+        List<BibEntry> removedEntries = reusableResults.values().stream()
+                                                       .flatMap(Collection::stream)
+                                                       .flatMap(result -> result.getDatabase().getEntries().stream())
+                                                       .toList();
+        List<BibEntry> addedEntries = chunksToParse.stream()
+                                                   .flatMap(i -> chunkResults[i].getDatabase().getEntries().stream())
+                                                   .toList();
+        database.removeEntries(removedEntries);
+        database.insertEntries(addedEntries);
+
+        List<Chunk> newChunks = new ArrayList<>(chunkTexts.size());
+        for (int i = 0; i < chunkTexts.size(); i++) {
+            newChunks.add(new Chunk(chunkTexts.get(i).text(), chunkTexts.get(i).startLine(), chunkResults[i]));
+        }
+        chunks = List.copyOf(newChunks);
+        parserResult = merge();
+        return parserResult;
+    }
+
+    public synchronized List<Chunk> getChunks() {
+        return chunks;
+    }
+
+    public synchronized ParserResult getParserResult() {
+        return parserResult;
+    }
+
+    private ParserResult parse(String text) {
+        try {
+            return new BibtexParser(importFormatPreferences).parse(Reader.of(text));
+        } catch (IOException e) {
+            return ParserResult.fromError(e);
+        }
+    }
+
+    /// Combines the parser results of all chunks into one, moving all ranges to the lines of the document
+    private ParserResult merge() {
+        Map<String, BibtexString> strings = new LinkedHashMap<>();
+        Set<BibEntryType> entryTypes = new HashSet<>();
+        String preamble = null;
+        for (Chunk chunk : chunks) {
+            BibDatabase chunkDatabase = chunk.parserResult().getDatabase();
+            chunkDatabase.getStringValues().forEach(string -> strings.putIfAbsent(string.getName(), string));
+            if (preamble == null) {
+                preamble = chunkDatabase.getPreamble().orElse(null);
+            }
+            entryTypes.addAll(chunk.parserResult().getEntryTypes());
+        }
+        database.setStrings(List.copyOf(strings.values()));
+        database.setPreamble(preamble);
+
+        // The meta data may be spread over several comments, thus they are parsed together
+        String newMetaDataText = chunks.stream()
+                                       .map(Chunk::text)
+                                       .filter(text -> text.contains(METADATA_MARKER))
+                                       .collect(Collectors.joining());
+        if (!newMetaDataText.equals(metaDataText)) {
+            metaDataText = newMetaDataText;
+            metaData = newMetaDataText.isEmpty() ? new MetaData() : parse(newMetaDataText).getMetaData();
+        }
+
+        ParserResult result = new ParserResult(database, metaData, entryTypes);
+        for (Chunk chunk : chunks) {
+            int offset = chunk.startLine();
+            ParserResult chunkResult = chunk.parserResult();
+            chunkResult.getWarningsMap().forEach((range, message) -> result.addWarning(shift(range, offset), message));
+            chunkResult.getArticleRanges().forEach((entry, range) -> result.getArticleRanges().put(entry, shift(range, offset)));
+            chunkResult.getFieldRanges().forEach((entry, ranges) -> {
+                Map<Field, ParserResult.Range> shiftedRanges = new HashMap<>(ranges.size());
+                ranges.forEach((field, range) -> shiftedRanges.put(field, shift(range, offset)));
+                result.getFieldRanges().put(entry, shiftedRanges);
+            });
+        }
+        return result;
+    }
+
+    private static ParserResult.Range shift(ParserResult.Range range, int lines) {
+        if (lines == 0 || range.equals(ParserResult.Range.NULL_RANGE)) {
+            return range;
+        }
+        return new ParserResult.Range(range.startLine() + lines, range.startColumn(), range.endLine() + lines, range.endColumn());
+    }
+
+    /// Splits the content at lines starting with `@` which are not enclosed in braces.
+    /// Concatenating the texts of the chunks results in the content again.
+    static List<ChunkText> split(String content) {
+        List<ChunkText> result = new ArrayList<>();
+        int chunkStart = 0;
+        int chunkStartLine = 0;
+        int line = 0;
+        int depth = 0;
+        int lineStart = 0;
+        while (lineStart < content.length()) {
+            int firstNonWhitespace = lineStart;
+            while (firstNonWhitespace < content.length() && (content.charAt(firstNonWhitespace) == ' ' || content.charAt(firstNonWhitespace) == '\t')) {
+                firstNonWhitespace++;
+            }
+            if (lineStart > chunkStart && depth <= 0 && firstNonWhitespace < content.length() && content.charAt(firstNonWhitespace) == '@') {
+                result.add(new ChunkText(content.substring(chunkStart, lineStart), chunkStartLine));
+                chunkStart = lineStart;
+                chunkStartLine = line;
+                depth = 0;
+            }
+
+            int lineEnd = content.indexOf('\n', lineStart);
+            lineEnd = lineEnd == -1 ? content.length() : lineEnd + 1;
+            for (int i = lineStart; i < lineEnd; i++) {
+                char c = content.charAt(i);
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}') {
+                    depth--;
+                }
+            }
+            lineStart = lineEnd;
+            line++;
+        }
+        if (chunkStart < content.length()) {
+            result.add(new ChunkText(content.substring(chunkStart), chunkStartLine));
+        }
+        return result;
+    }
+}
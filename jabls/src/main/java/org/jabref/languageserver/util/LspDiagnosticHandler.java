@@ -3,19 +3,24 @@ package org.jabref.languageserver.util;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jabref.languageserver.ExtensionSettings;
 import org.jabref.languageserver.LspClientHandler;
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.database.BibDatabaseContext;
 
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -36,6 +41,8 @@ public class LspDiagnosticHandler {
     private final CliPreferences cliPreferences;
     private final Map<String, List<Diagnostic>> integrityDiagnosticsCache; // Maps file URIs to the corresponding list of integrity diagnostics
     private final Map<String, List<Diagnostic>> consistencyDiagnosticsCache; // Maps file URIs to the corresponding list of consistency diagnostics
+    private final Map<String, Map<ParserResult, List<Diagnostic>>> chunkIntegrityDiagnosticsCache; // Maps file URIs to the integrity diagnostics of each chunk, relative to the chunk
+    private final Map<String, List<Object>> integrityDependencies; // Maps file URIs to what the integrity diagnostics of all entries depend on
 
     public LspDiagnosticHandler(LspClientHandler clientHandler, LspParserHandler parserHandler, CliPreferences cliPreferences, JournalAbbreviationRepository abbreviationRepository) {
         this.clientHandler = clientHandler;
@@ -45,6 +52,8 @@ public class LspDiagnosticHandler {
         this.lspConsistencyCheck = new LspConsistencyCheck(clientHandler.getSettings());
         this.integrityDiagnosticsCache = new ConcurrentHashMap<>();
         this.consistencyDiagnosticsCache = new ConcurrentHashMap<>();
+        this.chunkIntegrityDiagnosticsCache = new ConcurrentHashMap<>();
+        this.integrityDependencies = new ConcurrentHashMap<>();
     }
 
     public void computeAndPublishDiagnostics(LanguageClient client, String uri, String content, Integer version) {
@@ -52,6 +61,13 @@ public class LspDiagnosticHandler {
         publishDiagnostics(client, uri, version, diagnostics);
     }
 
+    /// Drops the per-chunk state of a closed document. A document opened again is parsed and checked completely.
+    public void closeDocument(String uri) {
+        chunkIntegrityDiagnosticsCache.remove(uri);
+        integrityDependencies.remove(uri);
+        parserHandler.closeDocument(uri);
+    }
+
     public void publishDiagnostics(LanguageClient client, String uri, Integer version, List<Diagnostic> diagnostics) {
         PublishDiagnosticsParams params = new PublishDiagnosticsParams();
         params.setUri(uri);
@@ -83,7 +99,7 @@ public class LspDiagnosticHandler {
         });
 
         if (clientHandler.getSettings().isIntegrityCheck()) {
-            integrityDiagnosticsCache.put(uri, lspIntegrityCheck.check(parserResult));
+            integrityDiagnosticsCache.put(uri, checkIntegrity(uri, parserResult));
             LOGGER.debug("Cached integrity diagnostics for {}", uri);
         }
 
@@ -95,6 +111,44 @@ public class LspDiagnosticHandler {
         return Stream.of(getFinalDiagnosticsList(uri), diagnostics).flatMap(List::stream).toList();
     }
 
+    /// Checks only the entries of chunks which changed since the last check. The diagnostics of all other entries are taken from the cache.
+    /// If the citation keys, the strings, or the mode of the library changed, all entries are checked, because checks may depend on other entries.
+    private List<Diagnostic> checkIntegrity(String uri, ParserResult parserResult) {
+        Optional<IncrementalBibtexDocument> document = parserHandler.getDocumentForUri(uri);
+        if (document.isEmpty()) {
+            return lspIntegrityCheck.check(parserResult);
+        }
+
+        BibDatabaseContext databaseContext = parserResult.getDatabaseContext();
+        List<Object> dependencies = List.of(
+                databaseContext.getEntries().stream().map(entry -> entry.getCitationKey().orElse("")).collect(Collectors.groupingBy(key -> key, Collectors.counting())),
+                databaseContext.getDatabase().getStringValues().stream().map(string -> string.getName() + "=" + string.getContent()).collect(Collectors.toSet()),
+                databaseContext.getMode());
+        Map<ParserResult, List<Diagnostic>> cachedDiagnostics = dependencies.equals(integrityDependencies.put(uri, dependencies))
+                                                                ? chunkIntegrityDiagnosticsCache.getOrDefault(uri, Map.of())
+                                                                : Map.of();
+
+        Map<ParserResult, List<Diagnostic>> chunkDiagnostics = new IdentityHashMap<>();
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        IntegrityCheck integrityCheck = null;
+        for (IncrementalBibtexDocument.Chunk chunk : document.get().getChunks()) {
+            List<Diagnostic> diagnosticsOfChunk = cachedDiagnostics.get(chunk.parserResult());
+            if (diagnosticsOfChunk == null) {
+                if (integrityCheck == null) {
+                    integrityCheck = lspIntegrityCheck.createIntegrityCheck(databaseContext);
+                }
+                IntegrityCheck check = integrityCheck;
+                diagnosticsOfChunk = chunk.parserResult().getDatabase().getEntries().stream()
+                                          .flatMap(entry -> lspIntegrityCheck.checkEntry(check, chunk.parserResult(), entry).stream())
+                                          .toList();
+            }
+            chunkDiagnostics.put(chunk.parserResult(), diagnosticsOfChunk);
+            diagnosticsOfChunk.forEach(diagnostic -> diagnostics.add(LspRangeUtil.shift(diagnostic, chunk.startLine())));
+        }
+        chunkIntegrityDiagnosticsCache.put(uri, chunkDiagnostics);
+        return diagnostics;
+    }
+
     private List<Diagnostic> getFinalDiagnosticsList(String uri) {
         ExtensionSettings settings = clientHandler.getSettings();
         return Stream.concat(
@@ -6,6 +6,8 @@ import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 
 import org.eclipse.lsp4j.Diagnostic;
 
@@ -22,20 +24,30 @@ public class LspIntegrityCheck {
     }
 
     public List<Diagnostic> check(ParserResult parserResult) {
-        IntegrityCheck integrityCheck = new IntegrityCheck(
-                parserResult.getDatabaseContext(),
+        IntegrityCheck integrityCheck = createIntegrityCheck(parserResult.getDatabaseContext());
+        return parserResult.getDatabaseContext().getEntries().stream().flatMap(entry -> checkEntry(integrityCheck, parserResult, entry).stream()).toList();
+    }
+
+    public IntegrityCheck createIntegrityCheck(BibDatabaseContext databaseContext) {
+        return new IntegrityCheck(
+                databaseContext,
                 cliPreferences.getFilePreferences(),
                 cliPreferences.getCitationKeyPatternPreferences(),
                 abbreviationRepository,
                 ALLOW_INTEGER_EDITION
         );
+    }
 
-        return parserResult.getDatabaseContext().getEntries().stream().flatMap(entry -> integrityCheck.checkEntry(entry).stream().map(message -> {
+    /// Checks a single entry
+    ///
+    /// @param parserResult the parser result the ranges of the diagnostics are taken from
+    public List<Diagnostic> checkEntry(IntegrityCheck integrityCheck, ParserResult parserResult, BibEntry entry) {
+        return integrityCheck.checkEntry(entry).stream().map(message -> {
             if (entry.getFieldOrAlias(message.field()).isPresent()) {
                 return LspDiagnosticBuilder.create(parserResult, message.message()).setField(message.field()).setEntry(entry).build();
             } else {
                 return LspDiagnosticBuilder.create(parserResult, message.message()).setEntry(entry).build();
             }
-        })).toList();
+        }).toList();
     }
 }
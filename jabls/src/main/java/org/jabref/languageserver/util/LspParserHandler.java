@@ -1,7 +1,6 @@
 package org.jabref.languageserver.util;
 
 import java.io.IOException;
-import java.io.Reader;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -10,24 +9,35 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.model.entry.BibEntry;
 
 public class LspParserHandler {
 
     private final Map<String, ParserResult> parserResults;
+    private final Map<String, IncrementalBibtexDocument> documents;
 
     public LspParserHandler() {
         this.parserResults = new ConcurrentHashMap<>();
+        this.documents = new ConcurrentHashMap<>();
     }
 
+    /// Parses the content of the document. Only the entries changed since the last call for the same document are parsed again.
     public ParserResult parserResultFromString(String fileUri, String content, ImportFormatPreferences importFormatPreferences) throws JabRefException, IOException {
-        BibtexParser parser = new BibtexParser(importFormatPreferences);
-        ParserResult parserResult = parser.parse(Reader.of(content));
+        IncrementalBibtexDocument document = documents.computeIfAbsent(fileUri, _ -> new IncrementalBibtexDocument(importFormatPreferences));
+        ParserResult parserResult = document.update(content);
         parserResults.put(fileUri, parserResult);
         return parserResult;
     }
 
+    /// Drops the parsed chunks of a closed document. Its entries stay available for lookups from other documents.
+    public void closeDocument(String fileUri) {
+        documents.remove(fileUri);
+    }
+
+    public Optional<IncrementalBibtexDocument> getDocumentForUri(String fileUri) {
+        return Optional.ofNullable(documents.get(fileUri));
+    }
+
     public Optional<ParserResult> getParserResultForUri(String fileUri) {
         return Optional.ofNullable(parserResults.get(fileUri));
     }
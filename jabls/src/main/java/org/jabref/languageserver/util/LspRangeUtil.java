@@ -2,6 +2,7 @@ package org.jabref.languageserver.util;
 
 import org.jabref.logic.importer.ParserResult;
 
+import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 
@@ -44,6 +45,18 @@ public class LspRangeUtil {
         );
     }
 
+    /// Moves the diagnostic the given number of lines down
+    public static Diagnostic shift(Diagnostic diagnostic, int lines) {
+        if (lines == 0) {
+            return diagnostic;
+        }
+        Range range = diagnostic.getRange();
+        Range shiftedRange = new Range(
+                new Position(range.getStart().getLine() + lines, range.getStart().getCharacter()),
+                new Position(range.getEnd().getLine() + lines, range.getEnd().getCharacter()));
+        return new Diagnostic(shiftedRange, diagnostic.getMessage(), diagnostic.getSeverity(), diagnostic.getSource());
+    }
+
     public static Range convertToLspRange(String content, int startIndex, int endIndex) {
         Position start = convertToLspPosition(content, startIndex);
         Position end = convertToLspPosition(content, endIndex);
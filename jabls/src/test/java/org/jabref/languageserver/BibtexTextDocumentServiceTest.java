@@ -0,0 +1,56 @@
+package org.jabref.languageserver;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibtexTextDocumentServiceTest {
+
+    private static final String CONTENT = """
+            @Article{a,
+              title = {A},
+            }
+            """;
+
+    @Test
+    void applyChangeReplacesRange() {
+        TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(new Range(new Position(1, 11), new Position(1, 12)), "Changed");
+
+        assertEquals("""
+                @Article{a,
+                  title = {Changed},
+                }
+                """, BibtexTextDocumentService.applyChange(CONTENT, change));
+    }
+
+    @Test
+    void applyChangeInsertsAtEmptyRange() {
+        TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(new Range(new Position(2, 0), new Position(2, 0)), "  year = {2024},\n");
+
+        assertEquals("""
+                @Article{a,
+                  title = {A},
+                  year = {2024},
+                }
+                """, BibtexTextDocumentService.applyChange(CONTENT, change));
+    }
+
+    @Test
+    void applyChangeDeletesAcrossLines() {
+        TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(new Range(new Position(0, 11), new Position(2, 0)), "");
+
+        assertEquals("""
+                @Article{a,}
+                """, BibtexTextDocumentService.applyChange(CONTENT, change));
+    }
+
+    @Test
+    void applyChangeWithoutRangeReplacesContent() {
+        TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent("@Misc{b}\n");
+
+        assertEquals("@Misc{b}\n", BibtexTextDocumentService.applyChange(CONTENT, change));
+    }
+}
@@ -0,0 +1,130 @@
+package org.jabref.languageserver.util;
+
+import java.util.List;
+
+import org.jabref.languageserver.util.IncrementalBibtexDocument.Chunk;
+import org.jabref.languageserver.util.IncrementalBibtexDocument.ChunkText;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class IncrementalBibtexDocumentTest {
+
+    private final IncrementalBibtexDocument document = new IncrementalBibtexDocument(mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS));
+
+    @Test
+    void splitAtEntries() {
+        String content = """
+                % comment
+                @Article{a,
+                  title = {A},
+                }
+
+                  @Book{b,
+                  title = {B}}
+                """;
+
+        assertEquals(List.of(
+                        new ChunkText("% comment\n", 0),
+                        new ChunkText("@Article{a,\n  title = {A},\n}\n\n", 1),
+                        new ChunkText("  @Book{b,\n  title = {B}}\n", 5)),
+                IncrementalBibtexDocument.split(content));
+    }
+
+    @Test
+    void splitIgnoresAtSignInsideBraces() {
+        String content = """
+                @Misc{a,
+                  note = {
+                @mention inside a field},
+                }
+                @Misc{b}
+                """;
+
+        assertEquals(List.of(
+                        new ChunkText("@Misc{a,\n  note = {\n@mention inside a field},\n}\n", 0),
+                        new ChunkText("@Misc{b}\n", 4)),
+                IncrementalBibtexDocument.split(content));
+    }
+
+    @Test
+    void splitKeepsCommentBeforeEntryInSeparateChunk() {
+        document.update("""
+                % comment
+                @Article{a,
+                  title = {A},
+                }
+                """);
+
+        List<Chunk> chunks = document.getChunks();
+        assertEquals(2, chunks.size());
+        assertTrue(chunks.getFirst().parserResult().getDatabase().getEntries().isEmpty());
+        assertEquals(List.of("a"), chunks.getLast().parserResult().getDatabase().getEntries().stream()
+                                         .map(entry -> entry.getCitationKey().orElse(""))
+                                         .toList());
+    }
+
+    @Test
+    void updateReusesParserResultsOfUnchangedChunks() {
+        document.update("""
+                @Article{a,
+                  title = {A},
+                }
+                @Book{b,
+                  title = {B}}
+                """);
+        List<Chunk> before = document.getChunks();
+
+        ParserResult result = document.update("""
+                @Article{a,
+                  title = {A},
+                }
+                @Book{b,
+                  title = {Changed}}
+                """);
+        List<Chunk> after = document.getChunks();
+
+        assertSame(before.getFirst().parserResult(), after.getFirst().parserResult());
+        assertNotSame(before.getLast().parserResult(), after.getLast().parserResult());
+        assertSame(before.getFirst().parserResult().getDatabase().getEntries().getFirst(), result.getDatabase().getEntryByCitationKey("a").orElseThrow());
+        assertEquals(2, result.getDatabase().getEntryCount());
+    }
+
+    @Test
+    void updateShiftsRangesOfChunksAfterEdit() {
+        ParserResult before = document.update("""
+                @Article{a,
+                  title = {A},
+                }
+                @Book{b,
+                  title = {B}}
+                """);
+        int startLineBefore = startLineOf(before, "b");
+
+        ParserResult after = document.update("""
+                @Article{a,
+                  title = {A},
+                  year = {2024},
+                  note = {Note},
+                }
+                @Book{b,
+                  title = {B}}
+                """);
+
+        assertEquals(startLineBefore + 2, startLineOf(after, "b"));
+    }
+
+    private static int startLineOf(ParserResult parserResult, String citationKey) {
+        BibEntry entry = parserResult.getDatabase().getEntryByCitationKey(citationKey).orElseThrow();
+        return parserResult.getArticleRanges().get(entry).startLine();
+    }
+}
@@ -19,6 +19,7 @@ import org.jabref.http.server.resources.LibraryResource;
 import org.jabref.http.server.resources.MapResource;
 import org.jabref.http.server.resources.RootResource;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
 import org.jabref.logic.os.OS;
 
 import net.harawata.appdirs.AppDirsFactory;
@@ -28,6 +29,8 @@ import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
 import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.spi.Container;
+import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -91,6 +94,8 @@ public class Server {
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
         ServiceLocatorUtilities.addOneConstant(serviceLocator, new FormatterService());
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferencesFactory());
+        LibraryCache libraryCache = new LibraryCache();
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, libraryCache);
 
         // see https://stackoverflow.com/a/33794265/873282
         final ResourceConfig resourceConfig = new ResourceConfig();
@@ -110,6 +115,20 @@ public class Server {
         // Supporting classes
         resourceConfig.register(CORSFilter.class);
         resourceConfig.register(GlobalExceptionMapper.class);
+        resourceConfig.register(new ContainerLifecycleListener() {
+            @Override
+            public void onStartup(Container container) {
+            }
+
+            @Override
+            public void onReload(Container container) {
+            }
+
+            @Override
+            public void onShutdown(Container container) {
+                libraryCache.shutdown();
+            }
+        });
 
         LOGGER.debug("Starting HTTP server...");
         final HttpServer httpServer =
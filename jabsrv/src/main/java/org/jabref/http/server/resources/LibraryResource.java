@@ -12,6 +12,7 @@ import org.jabref.http.SrvStateManager;
 import org.jabref.http.dto.BibEntryDTO;
 import org.jabref.http.dto.LinkedPdfFileDTO;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
 import org.jabref.http.server.services.ServerUtils;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
 import org.jabref.logic.preferences.CliPreferences;
@@ -50,6 +51,9 @@ public class LibraryResource {
     @Inject
     FilesToServe filesToServe;
 
+    @Inject
+    LibraryCache libraryCache;
+
     @Inject
     Gson gson;
 
@@ -153,6 +157,6 @@ public class LibraryResource {
 
     /// @param id - also "demo" for the Chocolate.bib file
     private BibDatabaseContext getDatabaseContext(String id) throws IOException {
-        return ServerUtils.getBibDatabaseContext(id, filesToServe, srvStateManager, preferences.getImportFormatPreferences());
+        return ServerUtils.getBibDatabaseContext(id, filesToServe, srvStateManager, libraryCache, preferences.getImportFormatPreferences());
     }
 }
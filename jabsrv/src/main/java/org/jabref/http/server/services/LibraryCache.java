@@ -0,0 +1,239 @@
+package org.jabref.http.server.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import jakarta.inject.Singleton;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Keeps the libraries served by jabsrv parsed in memory, so that a request does not read and parse the library file again.
+///
+/// The directories of the cached libraries are watched for changes. A library whose file changed is dropped from the cache and parsed again on the next request.
+/// If the file system cannot be watched, the modification time and the size of the file are compared on every request instead.
+///
+/// A reparsed library replaces the cached [BibDatabaseContext] as a whole. Requests which are still working on the previous context are not affected.
+///
+/// At most [#MAX_CACHED_LIBRARIES] libraries are kept, the least recently used one is evicted first.
+/// A directory is not watched anymore as soon as no library of it is cached.
+@Singleton
+public class LibraryCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private static final String CHOCOLATE_BIB_PATH = "/Chocolate.bib";
+    private static final int MAX_CACHED_LIBRARIES = 32;
+
+    /// @param watchKey the registration of the directory at the time the library was parsed. Changes are only reported for this registration.
+    private record CachedLibrary(BibDatabaseContext databaseContext, FileTime lastModified, long size, @Nullable WatchKey watchKey) {
+        CachedLibrary withWatchKey(@Nullable WatchKey watchKey) {
+            return new CachedLibrary(databaseContext, lastModified, size, watchKey);
+        }
+    }
+
+    private final ConcurrentMap<Path, CachedLibrary> libraries;
+    private final Map<Path, WatchKey> watchKeys = new ConcurrentHashMap<>();
+    private final @Nullable WatchService watchService;
+    private volatile @Nullable BibDatabaseContext demoLibrary;
+
+    public LibraryCache() {
+        this(MAX_CACHED_LIBRARIES);
+    }
+
+    LibraryCache(int maximumLibraries) {
+        Cache<Path, CachedLibrary> cache = CacheBuilder.newBuilder()
+                                                       .maximumSize(maximumLibraries)
+                                                       .removalListener(this::onRemoval)
+                                                       .build();
+        this.libraries = cache.asMap();
+        this.watchService = createWatchService();
+    }
+
+    /// @return the parsed library at the given path. It is parsed only if it is not cached yet or the file changed since it was parsed.
+    public BibDatabaseContext getDatabaseContext(Path library, ImportFormatPreferences importFormatPreferences) throws IOException {
+        Path path = library.toAbsolutePath().normalize();
+        // Registered before the file is read, so that no change after reading is missed
+        WatchKey watchKey = watchDirectory(path.getParent());
+
+        CachedLibrary cached = libraries.get(path);
+        if (cached != null && watchKey != null && watchKey == cached.watchKey()) {
+            return cached.databaseContext();
+        }
+        if (cached != null && isUnchanged(path, cached)) {
+            // The directory was not watched when the library was parsed. From now on, changes are reported by the new registration.
+            // If the library was dropped in the meantime, it is not stored again.
+            libraries.replace(path, cached, cached.withWatchKey(watchKey));
+            return cached.databaseContext();
+        }
+
+        try {
+            // Parsing inside compute blocks the invalidation of this path by the watcher until the parsed library is stored.
+            // Thus, a change during parsing is not lost, but drops the library again.
+            return libraries.compute(path, (_, current) -> {
+                try {
+                    if (current != null && current != cached && isUnchanged(path, current)) {
+                        // Parsed by a concurrent request in the meantime
+                        return current;
+                    }
+                    return parse(path, importFormatPreferences, watchKey);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).databaseContext();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /// @return the parsed `Chocolate.bib` of the classpath, which is served as "demo" library
+    public BibDatabaseContext getDemoDatabaseContext(ImportFormatPreferences importFormatPreferences) throws IOException {
+        BibDatabaseContext result = demoLibrary;
+        if (result == null) {
+            synchronized (this) {
+                result = demoLibrary;
+                if (result == null) {
+                    try (InputStream chocolateBibInputStream = BibDatabase.class.getResourceAsStream(CHOCOLATE_BIB_PATH);
+                         BufferedReader reader = new BufferedReader(new InputStreamReader(chocolateBibInputStream, StandardCharsets.UTF_8))) {
+                        result = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(reader).getDatabaseContext();
+                    }
+                    demoLibrary = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /// Stops watching the libraries. Libraries are still served from the cache, but checked for changes on every request.
+    public void shutdown() {
+        if (watchService == null) {
+            return;
+        }
+        watchKeys.clear();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.error("Could not close library watcher", e);
+        }
+    }
+
+    private CachedLibrary parse(Path path, ImportFormatPreferences importFormatPreferences, @Nullable WatchKey watchKey) throws IOException {
+        LOGGER.debug("Parsing library {}", path);
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        BibDatabaseContext databaseContext = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(path).getDatabaseContext();
+        return new CachedLibrary(databaseContext, attributes.lastModifiedTime(), attributes.size(), watchKey);
+    }
+
+    /// Stops watching the directory of an evicted library if no other library of the directory is cached
+    private void onRemoval(RemovalNotification<Path, CachedLibrary> notification) {
+        Path directory = notification.getKey() == null ? null : notification.getKey().getParent();
+        if (!notification.wasEvicted() || directory == null) {
+            return;
+        }
+        if (libraries.keySet().stream().anyMatch(path -> directory.equals(path.getParent()))) {
+            return;
+        }
+        WatchKey watchKey = watchKeys.remove(directory);
+        if (watchKey != null) {
+            LOGGER.debug("Not watching {} anymore", directory);
+            watchKey.cancel();
+        }
+    }
+
+    boolean isWatching(Path directory) {
+        WatchKey watchKey = watchKeys.get(directory.toAbsolutePath().normalize());
+        return watchKey != null && watchKey.isValid();
+    }
+
+    private static boolean isUnchanged(Path path, CachedLibrary cached) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes.lastModifiedTime().equals(cached.lastModified()) && attributes.size() == cached.size();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private @Nullable WatchService createWatchService() {
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            Thread watcherThread = new Thread(() -> processEvents(service), "jabsrv-library-watcher");
+            watcherThread.setDaemon(true);
+            watcherThread.start();
+            return service;
+        } catch (IOException e) {
+            LOGGER.warn("Could not watch libraries for changes, checking the modification time on every request instead", e);
+            return null;
+        }
+    }
+
+    /// @return the registration reporting the changes in the directory, or null if the directory cannot be watched
+    private @Nullable WatchKey watchDirectory(@Nullable Path directory) {
+        if (watchService == null || directory == null) {
+            return null;
+        }
+        WatchKey watchKey = watchKeys.get(directory);
+        if (watchKey != null && watchKey.isValid()) {
+            return watchKey;
+        }
+        try {
+            // Returns the existing registration if the directory is registered concurrently
+            watchKey = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            watchKeys.put(directory, watchKey);
+            return watchKey;
+        } catch (IOException | ClosedWatchServiceException e) {
+            LOGGER.warn("Could not watch directory {} for changes", directory, e);
+            return null;
+        }
+    }
+
+    private void processEvents(WatchService service) {
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    // Changes were lost, thus all libraries of this directory may be outdated
+                    libraries.keySet().removeIf(path -> directory.equals(path.getParent()));
+                } else if (event.context() instanceof Path changed) {
+                    libraries.remove(directory.resolve(changed));
+                }
+            }
+            if (!key.reset()) {
+                watchKeys.remove(directory, key);
+                libraries.keySet().removeIf(path -> directory.equals(path.getParent()));
+            }
+        }
+    }
+}
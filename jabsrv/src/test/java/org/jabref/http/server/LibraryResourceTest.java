@@ -16,6 +16,7 @@ class LibraryResourceTest extends ServerTest {
     protected Application configure() {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addFilesToServeToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
         addGuiBridgeToResourceConfig(resourceConfig);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
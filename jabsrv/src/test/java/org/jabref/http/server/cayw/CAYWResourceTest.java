@@ -20,6 +20,7 @@ class CAYWResourceTest extends ServerTest {
     protected Application configure() {
         ResourceConfig resourceConfig = new ResourceConfig(CAYWResource.class);
         addFilesToServeToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
         addFormatterServiceToResourceConfig(resourceConfig);
@@ -0,0 +1,80 @@
+package org.jabref.http.server.services;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class LibraryCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private LibraryCache libraryCache;
+    private Path library;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        libraryCache = new LibraryCache();
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, "@Misc{first, title = {First}}\n");
+    }
+
+    @AfterEach
+    void tearDown() {
+        libraryCache.shutdown();
+    }
+
+    @Test
+    void unchangedLibraryIsServedFromCache() throws Exception {
+        BibDatabaseContext first = libraryCache.getDatabaseContext(library, importFormatPreferences);
+        BibDatabaseContext second = libraryCache.getDatabaseContext(library, importFormatPreferences);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void changedLibraryIsParsedAgain() throws Exception {
+        // Without watcher, the change is detected by the file attributes
+        libraryCache.shutdown();
+        BibDatabaseContext first = libraryCache.getDatabaseContext(library, importFormatPreferences);
+        assertEquals(1, first.getEntries().size());
+
+        Files.writeString(library, "@Misc{first, title = {First}}\n@Misc{second, title = {Second}}\n");
+        BibDatabaseContext second = libraryCache.getDatabaseContext(library, importFormatPreferences);
+
+        assertEquals(2, second.getEntries().size());
+    }
+
+    @Test
+    void leastRecentlyUsedLibraryIsEvictedAndItsDirectoryUnwatched() throws Exception {
+        libraryCache.shutdown();
+        libraryCache = new LibraryCache(1);
+        Path otherLibrary = Files.createDirectory(tempDir.resolve("other")).resolve("other.bib");
+        Files.writeString(otherLibrary, "@Misc{other, title = {Other}}\n");
+
+        BibDatabaseContext first = libraryCache.getDatabaseContext(library, importFormatPreferences);
+        assertTrue(libraryCache.isWatching(tempDir));
+
+        libraryCache.getDatabaseContext(otherLibrary, importFormatPreferences);
+
+        assertFalse(libraryCache.isWatching(tempDir));
+        assertTrue(libraryCache.isWatching(otherLibrary.getParent()));
+        assertNotSame(first, libraryCache.getDatabaseContext(library, importFormatPreferences));
+    }
+}